@@ -64,10 +64,11 @@ CREATE TABLE `sanctions` (
 CREATE TABLE `skills` (
   `id` int(11) NOT NULL AUTO_INCREMENT,
   `player_id` int(11) NOT NULL,
+  `skill` tinyint(4) NOT NULL,
   `current_level` int(11) NOT NULL,
   `experience` double NOT NULL,
   PRIMARY KEY (`id`),
-  UNIQUE KEY `player_level_experience` (`player_id`,`current_level`,`experience`)
+  UNIQUE KEY `player_skill` (`player_id`,`skill`)
 ) ENGINE=InnoDB  DEFAULT CHARSET=utf8;
 
 CREATE TABLE `style` (
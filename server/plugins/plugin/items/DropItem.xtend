@@ -6,12 +6,22 @@ import org.apollo.game.event.annotate.SubscribesTo
 import org.apollo.game.interact.ItemActionEvent
 import org.apollo.game.model.Interfaces.InterfaceOption
 import org.apollo.game.model.Player
+import org.apollo.game.model.grounditem.GroundItem
 import org.apollo.game.model.inv.InventoryConstants
 
 @SubscribesTo(ItemActionEvent)
 class DropItem implements EventSubscriber<ItemActionEvent> {
 
 	override subscribe(EventContext context, Player player, ItemActionEvent event) {
+		val inventory = player.inventory
+		val item = inventory.get(event.slot)
+
+		if (item == null || item.id != event.id) {
+			return
+		}
+
+		inventory.reset(event.slot)
+		player.world.groundItemManager.add(new GroundItem(player.position, player.world, item, player.encodedName))
 	}
 
 	override test(ItemActionEvent event) {
@@ -39,7 +39,7 @@ import static org.apollo.game.model.Direction.*
 		mob.movementDistance = movementDistance
 
 		world.register(mob)
-		world.submit(new MobMovementTask(1, true, mob))
+		world.mobMovementSystem.add(mob)
 	}
 
 }
@@ -0,0 +1,39 @@
+-- Migrates a skills table created before skills were keyed by (player_id, skill).
+--
+-- Rows used to be keyed by (player_id, current_level, experience), so which
+-- skill a row belonged to was never stored, and every load assigned the last
+-- row read to each skill. The row with the highest experience (and level) of
+-- each player is therefore expanded into one row per skill, matching what the
+-- player was last loaded with.
+--
+-- The original table is kept as skills_unmigrated, drop it once the migrated
+-- data has been verified.
+
+CREATE TABLE `skills_migrated` (
+  `id` int(11) NOT NULL AUTO_INCREMENT,
+  `player_id` int(11) NOT NULL,
+  `skill` tinyint(4) NOT NULL,
+  `current_level` int(11) NOT NULL,
+  `experience` double NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `player_skill` (`player_id`,`skill`)
+) ENGINE=InnoDB  DEFAULT CHARSET=utf8;
+
+INSERT INTO `skills_migrated` (`player_id`, `skill`, `current_level`, `experience`)
+SELECT `latest`.`player_id`, `ids`.`skill`, `latest`.`current_level`, `latest`.`experience`
+FROM (
+  SELECT `s`.`player_id`, MAX(`s`.`current_level`) AS `current_level`, `s`.`experience`
+  FROM `skills` `s`
+  JOIN (SELECT `player_id`, MAX(`experience`) AS `experience` FROM `skills` GROUP BY `player_id`) `highest`
+    ON `highest`.`player_id` = `s`.`player_id` AND `highest`.`experience` = `s`.`experience`
+  GROUP BY `s`.`player_id`, `s`.`experience`
+) `latest`
+CROSS JOIN (
+  SELECT 0 AS `skill` UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+  UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9
+  UNION ALL SELECT 10 UNION ALL SELECT 11 UNION ALL SELECT 12 UNION ALL SELECT 13 UNION ALL SELECT 14
+  UNION ALL SELECT 15 UNION ALL SELECT 16 UNION ALL SELECT 17 UNION ALL SELECT 18 UNION ALL SELECT 19
+  UNION ALL SELECT 20
+) `ids`;
+
+RENAME TABLE `skills` TO `skills_unmigrated`, `skills_migrated` TO `skills`;
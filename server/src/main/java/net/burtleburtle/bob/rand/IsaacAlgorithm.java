@@ -288,4 +288,29 @@ public final class IsaacAlgorithm {
 		return rsl[count];
 	}
 
+	/**
+	 * Fills the specified array with the next random values, in the same order
+	 * as successive calls to {@link #nextInt()} would return them. Values are
+	 * read directly from each pre-generated block, which is only regenerated
+	 * once it has been exhausted.
+	 *
+	 * @param values The array to fill.
+	 * @param offset The index of the first value to fill.
+	 * @param length The amount of values to fill.
+	 */
+	public void nextInts(int[] values, int offset, int length) {
+		int end = offset + length;
+		while (offset < end) {
+			if (count == 0) {
+				isaac();
+				count = SIZE;
+			}
+
+			int run = Math.min(count, end - offset);
+			for (int i = 0; i < run; i++) {
+				values[offset++] = rsl[--count];
+			}
+		}
+	}
+
 }
\ No newline at end of file
@@ -36,6 +36,7 @@ final class Launch {
 			Server server = new Server(FileSystem.create(FILE_SYSTEM_DIR));
 			server.init();
 			server.start();
+			Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "ServerShutdown"));
 			server.bind(SERVICE_PORT, HTTP_PORT, JAGGRAB_PORT);
 		} catch (IOException reason) {
 			logger.error("Fatal error whilst initializing the server", reason);
@@ -1,7 +1,13 @@
 package org.apollo;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 
@@ -9,6 +15,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 
 import org.apollo.fs.FileSystem;
 import org.apollo.game.GameService;
@@ -21,10 +28,12 @@ import org.apollo.io.player.bin.BinaryPlayerSerializer;
 import org.apollo.net.ApolloHandler;
 import org.apollo.net.HttpChannelHandler;
 import org.apollo.net.JagGrabChannelHandler;
+import org.apollo.net.NetworkConstants;
 import org.apollo.net.ServiceChannelHandler;
 import org.apollo.plugin.PluginService;
 import org.apollo.service.Service;
 import org.apollo.update.UpdateService;
+import org.apollo.util.ThreadUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +64,23 @@ final class Server {
 	 */
 	private final ServerBootstrap jagGrabBootstrap = new ServerBootstrap();
 
+	/**
+	 * Whether or not the native epoll transport is used.
+	 */
+	private final boolean epoll = NetworkConstants.NATIVE_TRANSPORT && Epoll.isAvailable();
+
+	/**
+	 * The {@link EventLoopGroup} which accepts connections, shared by every
+	 * listener.
+	 */
+	private final EventLoopGroup bossGroup = createGroup(NetworkConstants.BOSS_THREADS, "NetworkBoss-%d");
+
+	/**
+	 * The {@link EventLoopGroup} which services accepted connections, shared
+	 * by every listener.
+	 */
+	private final EventLoopGroup workerGroup = createGroup(NetworkConstants.WORKER_THREADS, "NetworkWorker-%d");
+
 	/**
 	 * A {@link Map} of service classes to {@link Services}.
 	 */
@@ -150,6 +176,7 @@ final class Server {
 	 */
 	public void init() {
 		logger.info("Initialized Apollo.");
+		logger.info("Using the {} transport.", epoll ? "native epoll" : "NIO");
 
 		ApolloHandler handler = new ApolloHandler(context);
 
@@ -162,6 +189,18 @@ final class Server {
 		appendService(new GameService());
 	}
 
+	/**
+	 * Creates an {@link EventLoopGroup} of the transport in use.
+	 *
+	 * @param threads The number of threads.
+	 * @param name The name-format of the threads.
+	 * @return The event loop group.
+	 */
+	private EventLoopGroup createGroup(int threads, String name) {
+		ThreadFactory factory = ThreadUtil.build(name);
+		return epoll ? new EpollEventLoopGroup(threads, factory) : new NioEventLoopGroup(threads, factory);
+	}
+
 	/**
 	 * "Bootstrap"'s a specified {@link ServerBootstrap} to a
 	 * {@link ChannelHandler}.
@@ -170,9 +209,19 @@ final class Server {
 	 * @param handler The channel handler.
 	 */
 	private void bootstrap(ServerBootstrap bootstrap, ChannelHandler handler) {
+		bootstrap.group(bossGroup, workerGroup);
+		bootstrap.channel(epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class);
 		bootstrap.childHandler(handler);
-		bootstrap.channel(NioServerSocketChannel.class);
-		bootstrap.group(new NioEventLoopGroup());
+
+		bootstrap.option(ChannelOption.SO_BACKLOG, NetworkConstants.BACKLOG);
+		bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+
+		bootstrap.childOption(ChannelOption.TCP_NODELAY, true);
+		bootstrap.childOption(ChannelOption.SO_SNDBUF, NetworkConstants.SEND_BUFFER_SIZE);
+		bootstrap.childOption(ChannelOption.SO_RCVBUF, NetworkConstants.RECEIVE_BUFFER_SIZE);
+		bootstrap.childOption(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, NetworkConstants.WRITE_BUFFER_HIGH_WATER_MARK);
+		bootstrap.childOption(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, NetworkConstants.WRITE_BUFFER_LOW_WATER_MARK);
+		bootstrap.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
 	}
 
 	/**
@@ -207,6 +256,13 @@ final class Server {
 		services().forEach(service -> service.start());
 	}
 
+	/**
+	 * Stops the server, releasing the resources held by its services.
+	 */
+	public void stop() {
+		services().forEach(service -> service.stop());
+	}
+
 	/**
 	 * Returns this servers world.
 	 */
@@ -211,7 +211,9 @@ public final class FileSystem {
 	 */
 	public ByteBuffer getFile(int cacheId, int indexId) throws IOException {
 		Cache cache = getCache(cacheId);
-		synchronized (cache) {
+
+		/* Every cache shares the same data channel, so reads must not overlap. */
+		synchronized (caches) {
 			return cache.get(indexId);
 		}
 	}
@@ -23,7 +23,7 @@ public final class MapDefinitionParser {
 	 * @return A {@link Map} of parsed map definitions.
 	 * @throws IOException If some I/O error occurs.
 	 */
-	protected static Map<Integer, MapDefinition> parse(FileSystem fs) throws IOException {
+	public static Map<Integer, MapDefinition> parse(FileSystem fs) throws IOException {
 		Archive archive = fs.getArchive(FileSystem.MANIFEST_ARCHIVE);
 		ByteBuffer buffer = archive.getData("map_index");
 		Map<Integer, MapDefinition> defs = new HashMap<>();
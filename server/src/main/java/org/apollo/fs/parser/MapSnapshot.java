@@ -0,0 +1,326 @@
+package org.apollo.fs.parser;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.apollo.fs.FileSystem;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.obj.GameObject;
+import org.apollo.game.model.obj.GameObjectOrientation;
+import org.apollo.game.model.obj.GameObjectType;
+import org.apollo.game.model.region.Region;
+import org.apollo.game.model.region.RegionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A binary snapshot of the decoded map: the traversal flags of every tile and
+ * every static {@link GameObject}.
+ *
+ * <p>
+ * Decoding the map requires every map file to be decompressed and parsed, a
+ * snapshot is instead memory-mapped and copied straight into the regions. A
+ * snapshot is keyed by the hashes of the cache archives, which include the
+ * map versions and the game object definitions the traversal flags are
+ * derived from, so a snapshot taken from a different cache is never loaded.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class MapSnapshot {
+
+	/**
+	 * The traversal flags of the tiles of a single region, read from a
+	 * snapshot but not yet applied.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	private static final class RegionTiles {
+
+		/**
+		 * The id of the region.
+		 */
+		private final int id;
+
+		/**
+		 * The packed local coordinates and height of each tile.
+		 */
+		private final int[] tiles;
+
+		/**
+		 * The traversal flags of each tile.
+		 */
+		private final int[] flags;
+
+		/**
+		 * Constructs a new {@link RegionTiles}.
+		 *
+		 * @param id The id of the region.
+		 * @param count The amount of tiles.
+		 */
+		private RegionTiles(int id, int count) {
+			this.id = id;
+			tiles = new int[count];
+			flags = new int[count];
+		}
+
+	}
+
+	/**
+	 * The logger used to print information and debug messages to the console.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(MapSnapshot.class);
+
+	/**
+	 * The magic number identifying a snapshot file.
+	 */
+	private static final int MAGIC = 0x4150534E;
+
+	/**
+	 * The version of the snapshot format, incremented whenever the format or
+	 * the way the map is decoded changes.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * The size of a single game object within a snapshot, in bytes.
+	 */
+	private static final int OBJECT_SIZE = 10;
+
+	/**
+	 * Computes the key of snapshots of the specified file system.
+	 *
+	 * @param fs The file system.
+	 * @return The key.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	public static int key(FileSystem fs) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(fs.getArchiveHashes());
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Loads the snapshot at the specified path into the specified world, if
+	 * it exists and has the specified key. The whole snapshot is parsed before
+	 * any region is modified. A snapshot which can not be read is treated as
+	 * missing, and a malformed snapshot is also deleted.
+	 *
+	 * @param path The path of the snapshot.
+	 * @param key The key of the file system.
+	 * @param world The world.
+	 * @return The static game objects, or {@link Optional#empty()} if no valid
+	 *         snapshot exists, in which case the world is left untouched.
+	 */
+	public static Optional<List<GameObject>> load(Path path, int key, World world) {
+		if (!Files.exists(path)) {
+			return Optional.empty();
+		}
+
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to read map snapshot {}, decoding the map instead.", path, e);
+			return Optional.empty();
+		}
+
+		List<RegionTiles> tiles;
+		List<GameObject> objects;
+		try {
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getInt() != key) {
+				return Optional.empty();
+			}
+
+			tiles = readTiles(buffer);
+			objects = readObjects(buffer, world);
+			if (buffer.hasRemaining()) {
+				throw new IllegalArgumentException("trailing data");
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			LOGGER.warn("Discarding malformed map snapshot {}, decoding the map instead.", path, e);
+			try {
+				Files.delete(path);
+			} catch (IOException reason) {
+				LOGGER.warn("Unable to delete malformed map snapshot {}.", path, reason);
+			}
+			return Optional.empty();
+		}
+
+		RegionRepository repository = world.getRegionRepository();
+		for (RegionTiles region : tiles) {
+			apply(region, repository);
+		}
+		return Optional.of(objects);
+	}
+
+	/**
+	 * Writes a snapshot of the specified world to the specified path,
+	 * replacing any existing snapshot atomically.
+	 *
+	 * @param path The path of the snapshot.
+	 * @param key The key of the file system.
+	 * @param world The world, whose map has been decoded.
+	 * @param objects The static game objects.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	public static void write(Path path, int key, World world, List<GameObject> objects) throws IOException {
+		Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(key);
+
+			Map<Integer, Region> regions = world.getRegionRepository().getRegions();
+			out.writeInt(regions.size());
+
+			for (Map.Entry<Integer, Region> entry : regions.entrySet()) {
+				Region region = entry.getValue();
+				out.writeInt(entry.getKey());
+
+				List<Integer> tiles = new ArrayList<>();
+				for (int height = 0; height < Region.MAXIMUM_HEIGHT_LEVEL; height++) {
+					for (int x = 0; x < Region.REGION_SIZE; x++) {
+						for (int y = 0; y < Region.REGION_SIZE; y++) {
+							if (region.getFlags(height, x, y) != 0) {
+								tiles.add(height << 12 | y << 6 | x);
+							}
+						}
+					}
+				}
+
+				out.writeInt(tiles.size());
+				for (int tile : tiles) {
+					out.writeShort(tile);
+					out.writeInt(region.getFlags(tile >> 12, tile & 0x3F, tile >> 6 & 0x3F));
+				}
+			}
+
+			out.writeInt(objects.size());
+			for (GameObject object : objects) {
+				out.writeInt(object.getId());
+				out.writeInt(object.getPosition().pack());
+				out.writeByte(object.getType().getId());
+				out.writeByte(object.getOrientation().getId());
+			}
+		}
+
+		Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Reads the tiles section of a snapshot.
+	 *
+	 * @param buffer The snapshot buffer, positioned at the tiles section.
+	 * @return The tiles of each region.
+	 * @throws IllegalArgumentException If the section is malformed.
+	 */
+	private static List<RegionTiles> readTiles(ByteBuffer buffer) {
+		int regions = checkCount(buffer.getInt(), Region.SIZE * Region.SIZE);
+		List<RegionTiles> tiles = new ArrayList<>(regions);
+
+		for (int index = 0; index < regions; index++) {
+			int id = buffer.getInt();
+			if (id < 0 || id >= Region.SIZE * Region.SIZE) {
+				throw new IllegalArgumentException("region id out of bounds: " + id);
+			}
+
+			int count = checkCount(buffer.getInt(), Region.MAXIMUM_HEIGHT_LEVEL * Region.REGION_SIZE * Region.REGION_SIZE);
+			RegionTiles region = new RegionTiles(id, count);
+
+			for (int i = 0; i < count; i++) {
+				int tile = buffer.getShort() & 0xFFFF;
+				if (tile >> 12 >= Region.MAXIMUM_HEIGHT_LEVEL) {
+					throw new IllegalArgumentException("height out of bounds: " + (tile >> 12));
+				}
+
+				region.tiles[i] = tile;
+				region.flags[i] = buffer.getInt();
+			}
+			tiles.add(region);
+		}
+
+		return tiles;
+	}
+
+	/**
+	 * Sets the flags of the tiles of a single region.
+	 *
+	 * @param tiles The tiles of the region.
+	 * @param repository The region repository.
+	 */
+	private static void apply(RegionTiles tiles, RegionRepository repository) {
+		Region region = repository.getRegion(tiles.id % Region.SIZE << 6, tiles.id / Region.SIZE << 6);
+
+		for (int i = 0; i < tiles.tiles.length; i++) {
+			int tile = tiles.tiles[i];
+			region.setFlag(tile >> 12, tile & 0x3F, tile >> 6 & 0x3F, tiles.flags[i]);
+		}
+	}
+
+	/**
+	 * Checks that a count read from a snapshot is within bounds.
+	 *
+	 * @param count The count.
+	 * @param maximum The maximum count.
+	 * @return The count.
+	 * @throws IllegalArgumentException If the count is out of bounds.
+	 */
+	private static int checkCount(int count, int maximum) {
+		if (count < 0 || count > maximum) {
+			throw new IllegalArgumentException("count out of bounds: " + count);
+		}
+		return count;
+	}
+
+	/**
+	 * Reads the objects section of a snapshot.
+	 *
+	 * @param buffer The snapshot buffer, positioned at the objects section.
+	 * @param world The world.
+	 * @return The static game objects.
+	 */
+	private static List<GameObject> readObjects(ByteBuffer buffer, World world) {
+		int count = checkCount(buffer.getInt(), buffer.remaining() / OBJECT_SIZE);
+		List<GameObject> objects = new ArrayList<>(count);
+
+		for (int index = 0; index < count; index++) {
+			int id = buffer.getInt();
+			Position position = Position.unpack(buffer.getInt());
+			GameObjectType type = GameObjectType.valueOf(buffer.get() & 0xFF).orElseThrow(IllegalArgumentException::new);
+			GameObjectOrientation orientation = GameObjectOrientation.valueOf(buffer.get() & 0xFF).orElseThrow(IllegalArgumentException::new);
+
+			objects.add(new GameObject(id, position, world, type, orientation));
+		}
+
+		return objects;
+	}
+
+	/**
+	 * Suppresses the default-public constructor preventing this class from
+	 * being instantiated by other classes.
+	 *
+	 * @throws InstantiationError If this class is instantiated within itself.
+	 */
+	private MapSnapshot() {
+		throw new InstantiationError("static-utility classes may not be instantiated.");
+	}
+
+}
@@ -5,16 +5,17 @@ import static org.apollo.game.model.obj.GameObjectType.DIAGONAL_WALL;
 import static org.apollo.game.model.obj.GameObjectType.GENERAL_PROP;
 import static org.apollo.game.model.obj.GameObjectType.GROUND_PROP;
 import static org.apollo.game.model.obj.GameObjectType.WALKABLE_PROP;
-import static org.apollo.game.model.region.Tile.FLAG_BLOCKED;
-import static org.apollo.game.model.region.Tile.FLAG_BRIDGE;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apollo.fs.FileSystem;
 import org.apollo.game.model.Position;
@@ -28,19 +29,96 @@ import org.apollo.game.model.obj.GameObjectType;
 import org.apollo.game.model.pf.TraversalMap;
 import org.apollo.util.ByteBufferUtil;
 import org.apollo.util.CompressionUtil;
+import org.apollo.util.ThreadUtil;
 
 /**
  * A class which parses static object definitions, which include map tiles and
  * landscapes.
  *
+ * <p>
+ * Map files are read serially, as every cache shares a single data channel,
+ * but each map is decompressed and decoded on a pool of threads into its own
+ * {@link DecodedMap}. Decoded maps are then merged into the
+ * {@link TraversalMap} on the calling thread in the order they were read, as
+ * walls mark the tiles of neighbouring maps, so the result is identical to
+ * decoding every map serially.
+ * </p>
+ *
+ * <p>
+ * Single maps may also be parsed on demand, see
+ * {@link #parse(FileSystem, MapDefinition)}. The region of a map must exist
+ * before it is merged, the {@link TraversalMap} never creates regions.
+ * </p>
+ *
  * @author Ryley Kimmel <ryley.kimmel@live.com>
  */
 public final class StaticObjectDefinitionParser {
 
 	/**
-	 * A set of game objects
+	 * The amount of threads decoding maps.
+	 */
+	private static final int THREAD_COUNT = ThreadUtil.AVAILABLE_PROCESSORS;
+
+	/**
+	 * The length of one side of a map, in tiles.
+	 */
+	private static final int MAP_SIZE = 64;
+
+	/**
+	 * The amount of height levels within a map.
+	 */
+	private static final int HEIGHT_LEVELS = 4;
+
+	/**
+	 * The terrain flag which represents a clipped tile.
 	 */
-	private final List<GameObject> gameObjects = new ArrayList<>();
+	private static final int FLAG_BLOCKED = 0x1;
+
+	/**
+	 * The terrain flag which represents a bridge tile.
+	 */
+	private static final int FLAG_BRIDGE = 0x2;
+
+	/**
+	 * A single map which has been decoded but not yet merged into the world.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	private static final class DecodedMap {
+
+		/**
+		 * The x coordinate of the bottom left tile of this map.
+		 */
+		private final int x;
+
+		/**
+		 * The y coordinate of the bottom left tile of this map.
+		 */
+		private final int y;
+
+		/**
+		 * The terrain flags of each tile, indexed by
+		 * {@code height << 12 | localX << 6 | localY}.
+		 */
+		private final byte[] terrain = new byte[HEIGHT_LEVELS * MAP_SIZE * MAP_SIZE];
+
+		/**
+		 * The game objects within this map, in the order they were decoded.
+		 */
+		private final List<GameObject> objects = new ArrayList<>();
+
+		/**
+		 * Constructs a new {@link DecodedMap}.
+		 *
+		 * @param x The x coordinate of the bottom left tile of this map.
+		 * @param y The y coordinate of the bottom left tile of this map.
+		 */
+		private DecodedMap(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+
+	}
 
 	/**
 	 * The world.
@@ -65,34 +143,159 @@ public final class StaticObjectDefinitionParser {
 	 */
 	public List<GameObject> parse(FileSystem fs) throws IOException {
 		Map<Integer, MapDefinition> defs = MapDefinitionParser.parse(fs);
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT, ThreadUtil.build("MapDecoder-%d"));
 
-		for (Entry<Integer, MapDefinition> entry : defs.entrySet()) {
-			MapDefinition def = entry.getValue();
+		List<GameObject> gameObjects = new ArrayList<>();
 
-			int hash = def.getHash();
-			int x = (hash >> 8 & 0xFF) * 64;
-			int y = (hash & 0xFF) * 64;
+		try {
+			List<Future<DecodedMap>> maps = new ArrayList<>(defs.size());
 
-			ByteBuffer gameObjectData = fs.getFile(FileSystem.MAP_INDEX, def.getObjectFile());
-			ByteBuffer gameObjectBuffer = ByteBuffer.wrap(CompressionUtil.ungzip(gameObjectData.array()));
-			parseGameObject(gameObjectBuffer, x, y);
+			for (MapDefinition def : defs.values()) {
+				int x = getX(def);
+				int y = getY(def);
 
-			ByteBuffer terrainData = fs.getFile(FileSystem.MAP_INDEX, def.getTerrainFile());
-			ByteBuffer terrainBuffer = ByteBuffer.wrap(CompressionUtil.ungzip(terrainData.array()));
-			parseTerrain(terrainBuffer, x, y);
+				byte[] gameObjectData = fs.getFile(FileSystem.MAP_INDEX, def.getObjectFile()).array();
+				byte[] terrainData = fs.getFile(FileSystem.MAP_INDEX, def.getTerrainFile()).array();
+
+				/* Walls mark the tiles of neighbouring maps, which may be merged later. */
+				world.getRegionRepository().getRegion(x, y);
+				maps.add(executor.submit(() -> decode(x, y, gameObjectData, terrainData)));
+			}
+
+			for (Future<DecodedMap> future : maps) {
+				DecodedMap map = await(future);
+				merge(map);
+				gameObjects.addAll(map.objects);
+			}
+		} finally {
+			executor.shutdownNow();
 		}
 
 		return gameObjects;
 	}
 
 	/**
-	 * Parses a {@link GameObject} on the specified coordinates.
+	 * Parses a single map on the calling thread, merging it into the
+	 * {@link TraversalMap}. The region of the map must already exist.
+	 *
+	 * @param fs The file system.
+	 * @param def The definition of the map.
+	 * @return A {@link List} of the parsed {@link GameObject}s.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	public List<GameObject> parse(FileSystem fs, MapDefinition def) throws IOException {
+		byte[] gameObjectData = fs.getFile(FileSystem.MAP_INDEX, def.getObjectFile()).array();
+		byte[] terrainData = fs.getFile(FileSystem.MAP_INDEX, def.getTerrainFile()).array();
+
+		DecodedMap map = decode(getX(def), getY(def), gameObjectData, terrainData);
+		merge(map);
+		return map.objects;
+	}
+
+	/**
+	 * Parses the {@link GameObject}s of a single map, without merging them
+	 * into the {@link TraversalMap}.
+	 *
+	 * @param fs The file system.
+	 * @param def The definition of the map.
+	 * @return A {@link List} of the parsed {@link GameObject}s.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	public List<GameObject> parseObjects(FileSystem fs, MapDefinition def) throws IOException {
+		byte[] gameObjectData = fs.getFile(FileSystem.MAP_INDEX, def.getObjectFile()).array();
+
+		DecodedMap map = new DecodedMap(getX(def), getY(def));
+		parseGameObject(ByteBuffer.wrap(CompressionUtil.ungzip(gameObjectData)), map);
+		return map.objects;
+	}
+
+	/**
+	 * Returns the x coordinate of the bottom left tile of the specified map.
+	 *
+	 * @param def The definition of the map.
+	 * @return The x coordinate.
+	 */
+	private static int getX(MapDefinition def) {
+		return (def.getHash() >> 8 & 0xFF) * MAP_SIZE;
+	}
+
+	/**
+	 * Returns the y coordinate of the bottom left tile of the specified map.
+	 *
+	 * @param def The definition of the map.
+	 * @return The y coordinate.
+	 */
+	private static int getY(MapDefinition def) {
+		return (def.getHash() & 0xFF) * MAP_SIZE;
+	}
+
+	/**
+	 * Decompresses and decodes a single map.
+	 *
+	 * @param x The x coordinate of the bottom left tile of the map.
+	 * @param y The y coordinate of the bottom left tile of the map.
+	 * @param gameObjectData The compressed game object data.
+	 * @param terrainData The compressed terrain data.
+	 * @return The decoded map.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	private DecodedMap decode(int x, int y, byte[] gameObjectData, byte[] terrainData) throws IOException {
+		DecodedMap map = new DecodedMap(x, y);
+		parseGameObject(ByteBuffer.wrap(CompressionUtil.ungzip(gameObjectData)), map);
+		parseTerrain(ByteBuffer.wrap(CompressionUtil.ungzip(terrainData)), map);
+		return map;
+	}
+
+	/**
+	 * Merges a decoded map into the {@link TraversalMap}. This method must
+	 * only be called by the thread parsing.
+	 *
+	 * @param map The decoded map.
+	 */
+	private void merge(DecodedMap map) {
+		map.objects.forEach(this::markCollision);
+
+		for (int height = 0; height < HEIGHT_LEVELS; height++) {
+			for (int localX = 0; localX < MAP_SIZE; localX++) {
+				for (int localY = 0; localY < MAP_SIZE; localY++) {
+					int flags = map.terrain[height << 12 | localX << 6 | localY];
+					if (flags != 0) {
+						terrainDecoded(flags, height, map.x + localX, map.y + localY);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits for the specified map to be decoded.
+	 *
+	 * @param future The future of the decoded map.
+	 * @return The decoded map.
+	 * @throws IOException If decoding failed or the wait was interrupted.
+	 */
+	private static DecodedMap await(Future<DecodedMap> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted whilst decoding maps", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new IOException("Unable to decode map", cause);
+		}
+	}
+
+	/**
+	 * Parses the {@link GameObject}s of the specified map.
 	 *
 	 * @param gameObjectBuffer The uncompressed game object data buffer.
-	 * @param x The x coordinate this object is on.
-	 * @param y The y coordinate this object is on.
+	 * @param map The map being decoded.
 	 */
-	private void parseGameObject(ByteBuffer gameObjectBuffer, int x, int y) {
+	private void parseGameObject(ByteBuffer gameObjectBuffer, DecodedMap map) {
 		for (int deltaId, id = -1; (deltaId = ByteBufferUtil.readSmart(gameObjectBuffer)) != 0;) {
 			id += deltaId;
 
@@ -106,37 +309,32 @@ public final class StaticObjectDefinitionParser {
 				int attributeHashCode = gameObjectBuffer.get() & 0xFF;
 				Optional<GameObjectType> type = GameObjectType.valueOf(attributeHashCode >> 2);
 				Optional<GameObjectOrientation> orientation = GameObjectOrientation.valueOf(attributeHashCode & 0x3);
-				Position position = new Position(x + localX, y + localY, height);
+				Position position = new Position(map.x + localX, map.y + localY, height);
 
 				if (type.isPresent() && orientation.isPresent()) {
-					gameObjectDecoded(id, orientation.get(), type.get(), position);
+					map.objects.add(new GameObject(id, position, world, type.get(), orientation.get()));
 				}
 			}
 		}
 	}
 
 	/**
-	 * Loads all of the map indexes entries and decodes each.
+	 * Parses the terrain flags of every tile within the specified map.
 	 *
 	 * @param mapBuffer The uncompressed map entry data buffer.
-	 * @param x The x coordinate of this map entry.
-	 * @param y The y coordinate of this map entry.
+	 * @param map The map being decoded.
 	 */
-	private void parseTerrain(ByteBuffer mapBuffer, int x, int y) {
-		for (int height = 0; height < 4; height++) {
-			for (int localX = 0; localX < 64; localX++) {
-				for (int localY = 0; localY < 64; localY++) {
-					Position position = new Position(x + localX, y + localY, height);
-
+	private static void parseTerrain(ByteBuffer mapBuffer, DecodedMap map) {
+		for (int height = 0; height < HEIGHT_LEVELS; height++) {
+			for (int localX = 0; localX < MAP_SIZE; localX++) {
+				for (int localY = 0; localY < MAP_SIZE; localY++) {
 					int flags = 0;
 					for (;;) {
 						int attributeId = mapBuffer.get() & 0xFF;
 						if (attributeId == 0) {
-							terrainDecoded(flags, position);
 							break;
 						} else if (attributeId == 1) {
 							mapBuffer.get();
-							terrainDecoded(flags, position);
 							break;
 						} else if (attributeId <= 49) {
 							mapBuffer.get();
@@ -144,47 +342,51 @@ public final class StaticObjectDefinitionParser {
 							flags = attributeId - 49;
 						}
 					}
+					map.terrain[height << 12 | localX << 6 | localY] = (byte) flags;
 				}
 			}
 		}
 	}
 
 	/**
-	 * Decodes the terrains {@link Position}.
+	 * Decodes the terrain on the specified coordinates.
 	 *
-	 * @param flags The flags for the specified position.
-	 * @param position The decoded position.
+	 * @param flags The flags for the specified coordinates.
+	 * @param height The height.
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
 	 */
-	private void terrainDecoded(int flags, Position position) {
+	private void terrainDecoded(int flags, int height, int x, int y) {
 		if ((flags & FLAG_BLOCKED) != 0) {
-			world.getTraversalMap().markBlocked(position.getHeight(), position.getX(), position.getY());
+			world.getTraversalMap().markBlocked(height, x, y);
 		}
 
 		if ((flags & FLAG_BRIDGE) != 0) {
-			world.getTraversalMap().markBridge(position.getHeight(), position.getX(), position.getY());
+			world.getTraversalMap().markBridge(height, x, y);
 		}
 	}
 
 	/**
-	 * Decodes a {@link GameObject} with the specified attributes on the
-	 * specified {@link Position}.
+	 * Marks the collision of a decoded {@link GameObject} upon the
+	 * {@link TraversalMap}. Marking the same game object again has no further
+	 * effect.
 	 *
-	 * @param id The id of the game object.
-	 * @param orientation The orientation of the game object.
-	 * @param type The type of the game object.
-	 * @param position The position the game object lies on.
+	 * @param object The game object.
 	 */
-	private void gameObjectDecoded(int id, GameObjectOrientation orientation, GameObjectType type, Position position) {
+	public void markCollision(GameObject object) {
 		TraversalMap traversalMap = world.getTraversalMap();
-		GameObjectDefinition def = GameObjectDefinition.forId(id);
+		int id = object.getId();
+		GameObjectType type = object.getType();
+		GameObjectOrientation orientation = object.getOrientation();
+		Position position = object.getPosition();
 		Optional<GameObjectGroup> optionalGroup = type.getGroup();
 
 		if (type == GROUND_PROP) {
-			if (def.hasActions()) {
+			if (GameObjectDefinition.hasActions(id)) {
 				traversalMap.markBlocked(position.getHeight(), position.getX(), position.getY());
 			}
 		} else if (type == GENERAL_PROP || type == WALKABLE_PROP) {
-			if (def.getSize() > 0 || !def.isSolid()) {
+			if (GameObjectDefinition.getSize(id) > 0 || !GameObjectDefinition.isSolid(id)) {
 				traversalMap.markBlocked(position.getHeight(), position.getX(), position.getY());
 			}
 		} else if (type.getId() >= 12) {
@@ -192,13 +394,11 @@ public final class StaticObjectDefinitionParser {
 		} else if (optionalGroup.isPresent()) {
 			GameObjectGroup group = optionalGroup.get();
 			if (group == WALL) {
-				traversalMap.markWall(orientation, position.getHeight(), position.getX(), position.getY(), type, def.isWalkable());
+				traversalMap.markWall(orientation, position.getHeight(), position.getX(), position.getY(), type, GameObjectDefinition.isWalkable(id));
 			}
 		} else if (type == DIAGONAL_WALL) {
 			traversalMap.markBlocked(position.getHeight(), position.getX(), position.getY());
 		}
-
-		gameObjects.add(new GameObject(id, position, world, type, orientation));
 	}
 
-}
\ No newline at end of file
+}
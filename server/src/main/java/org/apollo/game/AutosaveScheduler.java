@@ -0,0 +1,87 @@
+package org.apollo.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.game.model.GameCharacterRepository;
+import org.apollo.game.model.Player;
+import org.apollo.io.player.PlayerSerializerWorker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically saves every online {@link Player}. Each player is given a save
+ * slot derived from their index, so roughly an equal share of the players are
+ * saved every pulse rather than all of them at once.
+ *
+ * <p>
+ * A consistent {@link Player#snapshot() snapshot} of each player is taken on
+ * the game thread and handed to the {@link PlayerSerializerWorker}, which
+ * writes it off the game thread.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class AutosaveScheduler {
+
+	/**
+	 * The amount of pulses between consecutive saves of the same player, 5
+	 * minutes.
+	 */
+	private static final int AUTOSAVE_INTERVAL = 500;
+
+	/**
+	 * The logger used to print information and debug messages to the console.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(AutosaveScheduler.class);
+
+	/**
+	 * The repository of players to save.
+	 */
+	private final GameCharacterRepository<Player> players;
+
+	/**
+	 * The worker which saves the snapshots.
+	 */
+	private final PlayerSerializerWorker serializerWorker;
+
+	/**
+	 * The current save slot.
+	 */
+	private int slot;
+
+	/**
+	 * Constructs a new {@link AutosaveScheduler}.
+	 *
+	 * @param players The repository of players to save.
+	 * @param serializerWorker The worker which saves the snapshots.
+	 */
+	public AutosaveScheduler(GameCharacterRepository<Player> players, PlayerSerializerWorker serializerWorker) {
+		this.players = players;
+		this.serializerWorker = serializerWorker;
+	}
+
+	/**
+	 * Saves the players within the current save slot and advances to the next
+	 * slot. This method must only be called from the game thread.
+	 */
+	public void pulse() {
+		for (int index = slot + 1; index <= players.capacity(); index += AUTOSAVE_INTERVAL) {
+			Player player = players.get(index);
+			if (player == null) {
+				continue;
+			}
+
+			serializerWorker.submitSaveRequest(player.snapshot());
+		}
+
+		if (++slot == AUTOSAVE_INTERVAL) {
+			slot = 0;
+
+			long lag = serializerWorker.getSaveLag(TimeUnit.MILLISECONDS);
+			if (lag > (long) AUTOSAVE_INTERVAL * GameService.PULSE_DELAY) {
+				logger.warn("Autosave is lagging behind, the oldest pending save was requested {}ms ago.", lag);
+			}
+		}
+	}
+
+}
@@ -42,8 +42,14 @@ public final class GameService extends Service {
 	 */
 	private final Queue<Player> oldPlayers = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * The autosave scheduler, created once this service is initialized.
+	 */
+	private AutosaveScheduler autosaveScheduler;
+
 	@Override
 	public void init() {
+		autosaveScheduler = new AutosaveScheduler(getWorld().getPlayerRepository(), getSerializerWorker());
 		scheduledExecutor.scheduleAtFixedRate(new GamePulseHandler(this), PULSE_DELAY, PULSE_DELAY, TimeUnit.MILLISECONDS);
 	}
 
@@ -72,6 +78,8 @@ public final class GameService extends Service {
 
 			getWorld().pulse();
 			getClientSynchronizer().synchronize();
+
+			autosaveScheduler.pulse();
 		}
 	}
 
@@ -65,7 +65,7 @@ public abstract class DistancedAction<T extends GameCharacter> extends Action<T>
 			 * again so we don't check once the player got close enough once
 			 */
 			executeAction();
-		} else if (getCharacter().getPosition().getDistance(position) <= distance) {
+		} else if (getCharacter().getPosition().getDistanceSquared(position) <= distance * distance) {
 			reached = true;
 			setDelay(delay);
 			if (immediate) {
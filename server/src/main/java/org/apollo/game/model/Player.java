@@ -3,6 +3,8 @@ package org.apollo.game.model;
 import io.netty.util.internal.StringUtil;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 import org.apollo.game.event.Event;
@@ -10,6 +12,7 @@ import org.apollo.game.model.HeadIcon.Prayer;
 import org.apollo.game.model.HeadIcon.Skull;
 import org.apollo.game.model.inter.InterfaceSet;
 import org.apollo.game.model.inv.AppearanceInventoryListener;
+import org.apollo.game.model.inv.DirtyInventoryListener;
 import org.apollo.game.model.inv.FullInventoryListener;
 import org.apollo.game.model.inv.Inventory;
 import org.apollo.game.model.inv.Inventory.StackMode;
@@ -17,6 +20,7 @@ import org.apollo.game.model.inv.InventoryConstants;
 import org.apollo.game.model.inv.InventoryListener;
 import org.apollo.game.model.inv.SynchronizationInventoryListener;
 import org.apollo.game.model.region.Region;
+import org.apollo.game.model.skill.DirtySkillListener;
 import org.apollo.game.model.skill.SkillListener;
 import org.apollo.game.model.skill.SkillSet;
 import org.apollo.game.model.skill.SynchronizationSkillListener;
@@ -104,6 +108,12 @@ public final class Player extends GameCharacter {
 	 */
 	private final Queue<Message> queuedMessages = new ArrayDeque<>();
 
+	/**
+	 * The inventory synchronization listeners with changes to send when this
+	 * player is next synchronized.
+	 */
+	private final List<SynchronizationInventoryListener> pendingInventories = new ArrayList<>();
+
 	/**
 	 * The players credentials.
 	 */
@@ -160,6 +170,12 @@ public final class Player extends GameCharacter {
 	 */
 	private int databaseId;
 
+	/**
+	 * The hash of this players password, cached during player load so the
+	 * password is not hashed again whenever the player is saved.
+	 */
+	private String passwordHash;
+
 	/**
 	 * The center of the last region the client has loaded.
 	 */
@@ -195,6 +211,28 @@ public final class Player extends GameCharacter {
 	 */
 	private final Inventory trade = new Inventory(InventoryConstants.TRADE_CAPACITY);
 
+	/**
+	 * The listener recording which inventory slots have changed since the last
+	 * save.
+	 */
+	private final DirtyInventoryListener inventoryChanges;
+
+	/**
+	 * The listener recording which equipment slots have changed since the last
+	 * save.
+	 */
+	private final DirtyInventoryListener equipmentChanges;
+
+	/**
+	 * The listener recording which bank slots have changed since the last save.
+	 */
+	private final DirtyInventoryListener bankChanges;
+
+	/**
+	 * The listener recording which skills have changed since the last save.
+	 */
+	private final DirtySkillListener skillChanges;
+
 	/**
 	 * An instance of the current skull head icon.
 	 */
@@ -216,9 +254,70 @@ public final class Player extends GameCharacter {
 		super(position, world);
 		this.credentials = credentials;
 
+		inventoryChanges = new DirtyInventoryListener(InventoryConstants.INVENTORY_CAPACITY);
+		equipmentChanges = new DirtyInventoryListener(InventoryConstants.EQUIPMENT_CAPACITY);
+		bankChanges = new DirtyInventoryListener(InventoryConstants.BANK_CAPACITY);
+		skillChanges = new DirtySkillListener();
+
 		init();
 	}
 
+	/**
+	 * Creates a snapshot of the specified {@link Player}, copying every
+	 * persisted attribute. The changes of the specified player are moved to
+	 * the snapshot, a snapshot is never registered to the world and has no
+	 * listeners.
+	 *
+	 * @param player The player to take a snapshot of.
+	 */
+	private Player(Player player) {
+		super(player.getPosition(), player.world);
+		credentials = player.credentials;
+		privilegeLevel = player.privilegeLevel;
+		members = player.members;
+		designedCharacter = player.designedCharacter;
+		appearance = player.appearance;
+		databaseId = player.databaseId;
+		passwordHash = player.passwordHash;
+
+		copyItems(player.inventory, inventory);
+		copyItems(player.equipment, equipment);
+		copyItems(player.bank, bank);
+
+		SkillSet skills = getSkillSet();
+		SkillSet other = player.getSkillSet();
+		for (int id = 0; id < other.size(); id++) {
+			skills.setSkill(id, other.getSkill(id));
+		}
+
+		inventoryChanges = player.inventoryChanges.detach();
+		equipmentChanges = player.equipmentChanges.detach();
+		bankChanges = player.bankChanges.detach();
+		skillChanges = player.skillChanges.detach();
+	}
+
+	/**
+	 * Takes a consistent snapshot of this player which may be saved off the
+	 * game thread. This method must only be called from the game thread.
+	 *
+	 * @return The snapshot.
+	 */
+	public Player snapshot() {
+		return new Player(this);
+	}
+
+	/**
+	 * Copies every item from one inventory to another.
+	 *
+	 * @param from The inventory to copy from.
+	 * @param to The inventory to copy to.
+	 */
+	private static void copyItems(Inventory from, Inventory to) {
+		for (int slot = 0; slot < from.capacity(); slot++) {
+			to.set(slot, from.get(slot));
+		}
+	}
+
 	/**
 	 * Gets this players interface set.
 	 *
@@ -262,6 +361,44 @@ public final class Player extends GameCharacter {
 		return trade;
 	}
 
+	/**
+	 * Returns the inventory slots which have changed since the last save.
+	 */
+	public DirtyInventoryListener getInventoryChanges() {
+		return inventoryChanges;
+	}
+
+	/**
+	 * Returns the equipment slots which have changed since the last save.
+	 */
+	public DirtyInventoryListener getEquipmentChanges() {
+		return equipmentChanges;
+	}
+
+	/**
+	 * Returns the bank slots which have changed since the last save.
+	 */
+	public DirtyInventoryListener getBankChanges() {
+		return bankChanges;
+	}
+
+	/**
+	 * Returns the skills which have changed since the last save.
+	 */
+	public DirtySkillListener getSkillChanges() {
+		return skillChanges;
+	}
+
+	/**
+	 * Marks every inventory slot and skill of this player as unchanged.
+	 */
+	public void clearChanges() {
+		inventoryChanges.clear();
+		equipmentChanges.clear();
+		bankChanges.clear();
+		skillChanges.clear();
+	}
+
 	/**
 	 * Returns this players skull head icon.
 	 */
@@ -489,6 +626,25 @@ public final class Player extends GameCharacter {
 		session.dispatchMessage(message);
 	}
 
+	/**
+	 * Queues the specified inventory synchronization listener to be flushed
+	 * when this player is next synchronized.
+	 *
+	 * @param listener The listener.
+	 */
+	public void queueInventorySynchronization(SynchronizationInventoryListener listener) {
+		pendingInventories.add(listener);
+	}
+
+	/**
+	 * Flushes the changes of every queued inventory synchronization listener,
+	 * sending a single message per inventory.
+	 */
+	public void flushInventories() {
+		pendingInventories.forEach(SynchronizationInventoryListener::flush);
+		pendingInventories.clear();
+	}
+
 	/**
 	 * Initializes this player.
 	 */
@@ -507,6 +663,7 @@ public final class Player extends GameCharacter {
 
 		SkillListener syncListener = new SynchronizationSkillListener(this);
 		skills.addListener(syncListener);
+		skills.addListener(skillChanges);
 	}
 
 	/**
@@ -537,6 +694,10 @@ public final class Player extends GameCharacter {
 		equipment.addListener(syncEquipmentListener);
 		equipment.addListener(appearanceListener);
 		equipment.addListener(fullEquipmentListener);
+
+		inventory.addListener(inventoryChanges);
+		equipment.addListener(equipmentChanges);
+		bank.addListener(bankChanges);
 	}
 
 	/**
@@ -559,6 +720,9 @@ public final class Player extends GameCharacter {
 		getBank().forceRefresh();
 
 		getSkillSet().forceRefresh();
+
+		/* Nothing has changed since this player was loaded. */
+		clearChanges();
 	}
 
 	/**
@@ -685,6 +849,24 @@ public final class Player extends GameCharacter {
 		this.databaseId = databaseId;
 	}
 
+	/**
+	 * Returns the hash of this players password.
+	 *
+	 * @return The password hash, or {@code null} if it has not been hashed.
+	 */
+	public String getPasswordHash() {
+		return passwordHash;
+	}
+
+	/**
+	 * Sets the hash of this players password.
+	 *
+	 * @param passwordHash The new password hash.
+	 */
+	public void setPasswordHash(String passwordHash) {
+		this.passwordHash = passwordHash;
+	}
+
 	/**
 	 * Returns the players flagged state.
 	 *
@@ -14,6 +14,61 @@ public final class Position {
 	 */
 	public static final int MAXIMUM_DISTANCE = 15;
 
+	/**
+	 * Packs the specified coordinates into a single {@code int}, the x and y
+	 * coordinates are limited to 15 bits and the height to 2 bits. Packed
+	 * positions let hot paths pass coordinates around without allocating a
+	 * {@link Position}.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param height The height.
+	 * @return The packed position.
+	 */
+	public static int pack(int x, int y, int height) {
+		return height << 30 & 0xC0000000 | y << 15 & 0x3FFF8000 | x & 0x7FFF;
+	}
+
+	/**
+	 * Gets the x coordinate of the specified packed position.
+	 *
+	 * @param packed The packed position.
+	 * @return The x coordinate.
+	 */
+	public static int unpackX(int packed) {
+		return packed & 0x7FFF;
+	}
+
+	/**
+	 * Gets the y coordinate of the specified packed position.
+	 *
+	 * @param packed The packed position.
+	 * @return The y coordinate.
+	 */
+	public static int unpackY(int packed) {
+		return packed >> 15 & 0x7FFF;
+	}
+
+	/**
+	 * Gets the height of the specified packed position.
+	 *
+	 * @param packed The packed position.
+	 * @return The height.
+	 */
+	public static int unpackHeight(int packed) {
+		return packed >>> 30;
+	}
+
+	/**
+	 * Creates a position from the specified packed position.
+	 *
+	 * @param packed The packed position.
+	 * @return The position.
+	 */
+	public static Position unpack(int packed) {
+		return new Position(unpackX(packed), unpackY(packed), unpackHeight(packed));
+	}
+
 	/**
 	 * The x coordinate.
 	 */
@@ -52,6 +107,16 @@ public final class Position {
 		this.height = height;
 	}
 
+	/**
+	 * Packs this position into a single {@code int}.
+	 *
+	 * @return The packed position.
+	 * @see #pack(int, int, int)
+	 */
+	public int pack() {
+		return pack(x, y, height);
+	}
+
 	/**
 	 * Gets the x coordinate.
 	 *
@@ -186,6 +251,22 @@ public final class Position {
 		return (int) Math.ceil(Math.sqrt(deltaX * deltaX + deltaY * deltaY));
 	}
 
+	/**
+	 * Gets the squared distance between this position and another position.
+	 * Only X and Y are considered (i.e. 2 dimensions). Prefer this over
+	 * {@link #getDistance(Position)} when comparing against a distance, as
+	 * {@code getDistance(other) <= distance} is equivalent to
+	 * {@code getDistanceSquared(other) <= distance * distance}.
+	 *
+	 * @param other The other position.
+	 * @return The squared distance.
+	 */
+	public int getDistanceSquared(Position other) {
+		int deltaX = x - other.x;
+		int deltaY = y - other.y;
+		return deltaX * deltaX + deltaY * deltaY;
+	}
+
 	/**
 	 * Gets the longest horizontal or vertical delta between the two positions.
 	 *
@@ -225,7 +306,7 @@ public final class Position {
 
 	@Override
 	public int hashCode() {
-		return height << 30 & 0xC0000000 | y << 15 & 0x3FFF8000 | x & 0x7FFF;
+		return pack();
 	}
 
 	@Override
@@ -1,84 +1,79 @@
 package org.apollo.game.model;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.Queue;
+import org.apollo.game.model.pf.TraversalMap;
 
 /**
  * A queue of {@link Direction}s which a {@link GameCharacter} will follow.
  *
+ * <p>
+ * Steps are packed into a single {@code int} each, holding the coordinates of
+ * the step and the direction walked to reach it, and are kept in fixed ring
+ * buffers so walking does not allocate a step per tile.
+ * </p>
+ *
  * @author Graham
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
  */
 public final class WalkingQueue {
 
 	/**
 	 * The maximum size of the queue. If any additional steps are added, they
-	 * are discarded.
+	 * are discarded. This must be a power of two.
 	 */
 	private static final int MAXIMUM_SIZE = 128;
 
 	/**
-	 * Represents a single point in the queue.
-	 *
-	 * @author Graham
+	 * The mask used to wrap an index into the ring buffers.
 	 */
-	private static final class Point {
-
-		/**
-		 * The point's position.
-		 */
-		private final Position position;
-
-		/**
-		 * The direction to walk to this point.
-		 */
-		private final Direction direction;
-
-		/**
-		 * Creates a point.
-		 *
-		 * @param position The position.
-		 * @param direction The direction.
-		 */
-		public Point(Position position, Direction direction) {
-			this.position = position;
-			this.direction = direction;
-		}
-
-		@Override
-		public int hashCode() {
-			return position.hashCode() ^ direction.toInteger();
-		}
+	private static final int MASK = MAXIMUM_SIZE - 1;
 
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj) {
-				return true;
-			}
-			if (!(obj instanceof Point)) {
-				return false;
-			}
-			Point other = (Point) obj;
-			return position.equals(other.position) && direction == other.direction;
-		}
+	/**
+	 * Every direction, indexed by ordinal.
+	 */
+	private static final Direction[] DIRECTIONS = Direction.values();
 
-	}
+	/**
+	 * The queue of steps.
+	 */
+	private final int[] steps = new int[MAXIMUM_SIZE];
 
 	/**
-	 * The queue of directions.
+	 * The old steps, every step added since the queue was last cleared. Once
+	 * full the oldest steps are overwritten.
 	 */
-	private final Deque<Point> points = new ArrayDeque<>();
+	private final int[] oldSteps = new int[MAXIMUM_SIZE];
 
 	/**
-	 * The old queue of directions.
+	 * The steps walked back through when connecting the server and client
+	 * positions.
 	 */
-	private final Deque<Point> oldPoints = new ArrayDeque<>();
+	private final int[] travelBack = new int[MAXIMUM_SIZE];
 
 	/**
 	 * The game character whose walking queue this is.
 	 */
 	private final GameCharacter gameCharacter;
 
+	/**
+	 * The index of the first step within {@link #steps}.
+	 */
+	private int head;
+
+	/**
+	 * The amount of steps within the queue.
+	 */
+	private int size;
+
+	/**
+	 * The index of the oldest step within {@link #oldSteps}.
+	 */
+	private int oldHead;
+
+	/**
+	 * The amount of old steps.
+	 */
+	private int oldSize;
+
 	/**
 	 * Flag indicating if this queue (only) should be ran.
 	 */
@@ -97,28 +92,39 @@ public final class WalkingQueue {
 	 * Called every pulse, updates the queue.
 	 */
 	public void pulse() {
-		Position position = gameCharacter.getPosition();
-
 		Direction first = Direction.NONE;
 		Direction second = Direction.NONE;
 
-		Point next = points.poll();
-		World world = gameCharacter.getWorld();
-		if (next != null) {
-			boolean traversable = world.getTraversalMap().isTraversable(position, next.direction, gameCharacter.getSize());
+		if (size > 0) {
+			Position position = gameCharacter.getPosition();
+			TraversalMap traversalMap = gameCharacter.getWorld().getTraversalMap();
+
+			int height = position.getHeight();
+			int x = position.getX();
+			int y = position.getY();
+
+			int next = poll();
+			Direction direction = getDirection(next);
+
+			boolean traversable = traversalMap.isTraversable(height, x, y, direction, gameCharacter.getSize());
 			if (traversable) {
-				first = next.direction;
-				position = next.position;
-				if (runningQueue/* or run toggled AND enough energy */) {
-					next = points.poll();
-					if (next != null) {
-						traversable = world.getTraversalMap().isTraversable(position, next.direction, gameCharacter.getSize());
-						if (traversable) {
-							second = next.direction;
-							position = next.position;
-						}
+				first = direction;
+				x = getX(next);
+				y = getY(next);
+
+				if (runningQueue/* or run toggled AND enough energy */ && size > 0) {
+					next = poll();
+					direction = getDirection(next);
+
+					traversable = traversalMap.isTraversable(height, x, y, direction, gameCharacter.getSize());
+					if (traversable) {
+						second = direction;
+						x = getX(next);
+						y = getY(next);
 					}
 				}
+
+				position = new Position(x, y, height);
 			}
 
 			gameCharacter.setPosition(position);
@@ -161,28 +167,27 @@ public final class WalkingQueue {
 			return true;
 		}
 
-		Queue<Position> travelBackQueue = new ArrayDeque<>();
-
-		Point oldPoint;
-		while ((oldPoint = oldPoints.pollLast()) != null) {
-			Position oldPosition = oldPoint.position;
+		int travelled = 0;
+		while (oldSize > 0) {
+			int oldStep = oldSteps[oldHead + --oldSize & MASK];
 
-			deltaX = oldPosition.getX() - serverPosition.getX();
-			deltaY = oldPosition.getX() - serverPosition.getY();
+			deltaX = getX(oldStep) - serverPosition.getX();
+			deltaY = getY(oldStep) - serverPosition.getY();
 
-			travelBackQueue.add(oldPosition);
+			travelBack[travelled++] = oldStep;
 
 			if (Direction.isConnectable(deltaX, deltaY)) {
 				clear();
 
-				travelBackQueue.forEach(this::addStep);
+				for (int index = 0; index < travelled; index++) {
+					addSteps(getX(travelBack[index]), getY(travelBack[index]));
+				}
 
 				addStep(clientConnectionPosition);
 				return true;
 			}
 		}
 
-		oldPoints.clear();
 		return false;
 	}
 
@@ -192,13 +197,29 @@ public final class WalkingQueue {
 	 * @param step The step to add.
 	 */
 	public void addStep(Position step) {
-		Point last = getLast();
+		addSteps(step.getX(), step.getY());
+	}
 
-		int x = step.getX();
-		int y = step.getY();
+	/**
+	 * Adds a packed step to the queue.
+	 *
+	 * @param step The packed step to add.
+	 * @see Position#pack(int, int, int)
+	 */
+	public void addStep(int step) {
+		addSteps(Position.unpackX(step), Position.unpackY(step));
+	}
 
-		int deltaX = x - last.position.getX();
-		int deltaY = y - last.position.getY();
+	/**
+	 * Adds every step in a straight, or diagonal, line from the last step to
+	 * the specified coordinates.
+	 *
+	 * @param x The x coordinate of the final step.
+	 * @param y The y coordinate of the final step.
+	 */
+	private void addSteps(int x, int y) {
+		int deltaX = x - getLastX();
+		int deltaY = y - getLastY();
 
 		int max = Math.max(Math.abs(deltaX), Math.abs(deltaY));
 
@@ -226,43 +247,63 @@ public final class WalkingQueue {
 	 * @param y The y coordinate of this step.
 	 */
 	private void addStep(int x, int y) {
-		if (points.size() >= MAXIMUM_SIZE) {
+		if (size >= MAXIMUM_SIZE) {
 			return;
 		}
 
-		Point last = getLast();
-
-		int deltaX = x - last.position.getX();
-		int deltaY = y - last.position.getY();
-
-		Direction direction = Direction.fromDeltas(deltaX, deltaY);
+		Direction direction = Direction.fromDeltas(x - getLastX(), y - getLastY());
 
 		if (direction != Direction.NONE) {
-			Point p = new Point(new Position(x, y, gameCharacter.getPosition().getHeight()), direction);
-			points.add(p);
-			oldPoints.add(p);
+			int step = pack(x, y, direction);
+			steps[head + size++ & MASK] = step;
+
+			oldSteps[oldHead + oldSize & MASK] = step;
+			if (oldSize == MAXIMUM_SIZE) {
+				oldHead = oldHead + 1 & MASK;
+			} else {
+				oldSize++;
+			}
 		}
 	}
 
 	/**
-	 * Gets the last point.
+	 * Removes and returns the first step.
 	 *
-	 * @return The last point.
+	 * @return The first step.
 	 */
-	private Point getLast() {
-		Point last = points.peekLast();
-		if (last == null) {
-			return new Point(gameCharacter.getPosition(), Direction.NONE);
-		}
-		return last;
+	private int poll() {
+		int step = steps[head];
+		head = head + 1 & MASK;
+		size--;
+		return step;
+	}
+
+	/**
+	 * Gets the x coordinate of the last step, or of the game character if the
+	 * queue is empty.
+	 *
+	 * @return The x coordinate.
+	 */
+	private int getLastX() {
+		return size == 0 ? gameCharacter.getPosition().getX() : getX(steps[head + size - 1 & MASK]);
+	}
+
+	/**
+	 * Gets the y coordinate of the last step, or of the game character if the
+	 * queue is empty.
+	 *
+	 * @return The y coordinate.
+	 */
+	private int getLastY() {
+		return size == 0 ? gameCharacter.getPosition().getY() : getY(steps[head + size - 1 & MASK]);
 	}
 
 	/**
 	 * Clears the walking queue.
 	 */
 	public void clear() {
-		points.clear();
-		oldPoints.clear();
+		head = size = 0;
+		oldHead = oldSize = 0;
 	}
 
 	/**
@@ -271,7 +312,49 @@ public final class WalkingQueue {
 	 * @return The size of the queue.
 	 */
 	public int size() {
-		return points.size();
+		return size;
+	}
+
+	/**
+	 * Packs a step, coordinates are limited to 14 bits each.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param direction The direction walked to reach the step.
+	 * @return The packed step.
+	 */
+	private static int pack(int x, int y, Direction direction) {
+		return x << 18 | (y & 0x3FFF) << 4 | direction.ordinal();
+	}
+
+	/**
+	 * Gets the x coordinate of the specified packed step.
+	 *
+	 * @param step The packed step.
+	 * @return The x coordinate.
+	 */
+	private static int getX(int step) {
+		return step >>> 18;
+	}
+
+	/**
+	 * Gets the y coordinate of the specified packed step.
+	 *
+	 * @param step The packed step.
+	 * @return The y coordinate.
+	 */
+	private static int getY(int step) {
+		return step >> 4 & 0x3FFF;
+	}
+
+	/**
+	 * Gets the direction of the specified packed step.
+	 *
+	 * @param step The packed step.
+	 * @return The direction.
+	 */
+	private static Direction getDirection(int step) {
+		return DIRECTIONS[step & 0xF];
 	}
 
-}
\ No newline at end of file
+}
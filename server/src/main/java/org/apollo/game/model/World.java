@@ -3,13 +3,21 @@ package org.apollo.game.model;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apollo.fs.FileSystem;
 import org.apollo.fs.parser.GameObjectDefinitionParser;
 import org.apollo.fs.parser.InterfaceDefinitionParser;
 import org.apollo.fs.parser.ItemDefinitionParser;
+import org.apollo.fs.parser.MapDefinitionParser;
+import org.apollo.fs.parser.MapSnapshot;
 import org.apollo.fs.parser.MobDefinitionParser;
 import org.apollo.fs.parser.StaticObjectDefinitionParser;
 import org.apollo.game.GameUpdateHandler;
@@ -17,6 +25,7 @@ import org.apollo.game.event.Event;
 import org.apollo.game.event.EventProvider;
 import org.apollo.game.event.EventSubscriber;
 import org.apollo.game.event.UniversalEventProvider;
+import org.apollo.game.model.ai.MobMovementSystem;
 import org.apollo.game.model.def.EquipmentDefinition;
 import org.apollo.game.model.def.GameObjectDefinition;
 import org.apollo.game.model.def.GamePacketDefinition;
@@ -24,15 +33,20 @@ import org.apollo.game.model.def.InterfaceDefinition;
 import org.apollo.game.model.def.ItemDefinition;
 import org.apollo.game.model.def.LevelUpDefinition;
 import org.apollo.game.model.def.MobDefinition;
+import org.apollo.game.model.grounditem.GroundItemManager;
 import org.apollo.game.model.obj.GameObject;
 import org.apollo.game.model.pf.AStarPathFinder;
 import org.apollo.game.model.pf.PathFinder;
 import org.apollo.game.model.pf.TraversalMap;
+import org.apollo.game.model.region.RegionActivity;
+import org.apollo.game.model.region.RegionLoader;
 import org.apollo.game.model.region.RegionRepository;
+import org.apollo.game.sync.ClientSynchronizer;
 import org.apollo.game.task.Task;
 import org.apollo.game.task.TaskScheduler;
 import org.apollo.io.EquipmentDefinitionParser;
 import org.apollo.service.Service;
+import org.apollo.util.ThreadUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +61,11 @@ import org.slf4j.LoggerFactory;
  */
 public final class World {
 
+	/**
+	 * The path of the map snapshot.
+	 */
+	private static final Path MAP_SNAPSHOT = Paths.get("data", "map.snapshot");
+
 	/**
 	 * The logger used to print information and debug messages to the console.
 	 */
@@ -90,11 +109,32 @@ public final class World {
 	 */
 	private final TaskScheduler taskScheduler = new TaskScheduler();
 
+	/**
+	 * The system which decides the movement of roaming mobs.
+	 */
+	private final MobMovementSystem mobMovementSystem = new MobMovementSystem(this);
+
+	/**
+	 * The manager of the ground items within this world.
+	 */
+	private final GroundItemManager groundItemManager = new GroundItemManager(this);
+
+	/**
+	 * The activity of the regions within this world.
+	 */
+	private final RegionActivity regionActivity = new RegionActivity();
+
 	/**
 	 * This world's {@link RegionRepository}.
 	 */
 	private final RegionRepository regionRepository = new RegionRepository();
 
+	/**
+	 * This world's {@link RegionLoader}, or {@code null} if the whole map is
+	 * loaded at start up.
+	 */
+	private RegionLoader regionLoader;
+
 	/**
 	 * This world's {@link TraversalMap}.
 	 */
@@ -117,46 +157,73 @@ public final class World {
 
 	/**
 	 * Initializes the world by loading definitions from the specified file
-	 * system.
+	 * system. Independent types of definitions are parsed in parallel, the map
+	 * is loaded from a snapshot when the snapshot matches the file system, or
+	 * on demand if {@link WorldConstants#LAZY_REGIONS} is enabled.
 	 *
 	 * @param fileSystem The file system.
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public void init(FileSystem fileSystem) throws IOException {
-		// TODO: Create a cache system to load this neatly!!
-		logger.info("Loading item definitions...");
-		ItemDefinition[] itemDefs = ItemDefinitionParser.parse(fileSystem);
-		ItemDefinition.init(itemDefs);
-		logger.info("Done (loaded {} item definitions).", itemDefs.length);
-
-		logger.info("Loading equipment definitions...");
-		try (InputStream is = Files.newInputStream(Paths.get("data", "equipment.dat"))) {
-			EquipmentDefinition[] equipDefs = EquipmentDefinitionParser.parse(is);
-			EquipmentDefinition.init(equipDefs);
-			logger.info("Done (loaded {} equipment definitions).", equipDefs.length);
+		ExecutorService executor = Executors.newFixedThreadPool(ThreadUtil.AVAILABLE_PROCESSORS, ThreadUtil.build("WorldLoader-%d"));
+
+		try {
+			Future<?> items = executor.submit(() -> {
+				logger.info("Loading item definitions...");
+				ItemDefinition[] itemDefs = ItemDefinitionParser.parse(fileSystem);
+				ItemDefinition.init(itemDefs);
+				logger.info("Done (loaded {} item definitions).", itemDefs.length);
+				return null;
+			});
+
+			Future<?> equipment = executor.submit(() -> {
+				logger.info("Loading equipment definitions...");
+				try (InputStream is = Files.newInputStream(Paths.get("data", "equipment.dat"))) {
+					EquipmentDefinition[] equipDefs = EquipmentDefinitionParser.parse(is);
+					EquipmentDefinition.init(equipDefs);
+					logger.info("Done (loaded {} equipment definitions).", equipDefs.length);
+				}
+				return null;
+			});
+
+			Future<?> mobs = executor.submit(() -> {
+				logger.info("Loading mob definitions...");
+				MobDefinition[] mobDefs = MobDefinitionParser.parse(fileSystem);
+				MobDefinition.init(mobDefs);
+				logger.info("Done (loaded {} mob definitions).", mobDefs.length);
+				return null;
+			});
+
+			Future<?> interfaces = executor.submit(() -> {
+				logger.info("Loading interface definitions...");
+				InterfaceDefinition[] interfaceDefs = InterfaceDefinitionParser.parse(fileSystem);
+				InterfaceDefinition.init(interfaceDefs);
+				logger.info("Done (loaded {} interface definitions).", interfaceDefs.length);
+				return null;
+			});
+
+			/* The map depends upon the game object definitions. */
+			logger.info("Loading game object definitions...");
+			GameObjectDefinition[] gameObjDefs = GameObjectDefinitionParser.parse(fileSystem);
+			GameObjectDefinition.init(gameObjDefs);
+			logger.info("Done (loaded {} game object definitions).", gameObjDefs.length);
+
+			if (WorldConstants.LAZY_REGIONS) {
+				regionLoader = new RegionLoader(this, fileSystem, MapDefinitionParser.parse(fileSystem));
+				regionRepository.setLoader(regionLoader);
+				logger.info("Regions will be loaded on demand.");
+			} else {
+				loadMap(fileSystem);
+			}
+
+			await(items);
+			await(equipment);
+			await(mobs);
+			await(interfaces);
+		} finally {
+			executor.shutdownNow();
 		}
 
-		logger.info("Loading mob definitions...");
-		MobDefinition[] mobDefs = MobDefinitionParser.parse(fileSystem);
-		MobDefinition.init(mobDefs);
-		logger.info("Done (loaded {} mob definitions).", mobDefs.length);
-
-		logger.info("Loading game object definitions...");
-		GameObjectDefinition[] gameObjDefs = GameObjectDefinitionParser.parse(fileSystem);
-		GameObjectDefinition.init(gameObjDefs);
-		logger.info("Done (loaded {} game object definitions).", gameObjDefs.length);
-
-		logger.info("Loading static object definitions...");
-		StaticObjectDefinitionParser parser = new StaticObjectDefinitionParser(this);
-		List<GameObject> gameObjs = parser.parse(fileSystem);
-		gameObjs.forEach(obj -> regionRepository.getRegion(obj.getPosition()).addEntity(obj));
-		logger.info("Done (loaded {} static object definitions).", gameObjs.size());
-
-		logger.info("Loading interface definitions...");
-		InterfaceDefinition[] interfaceDefs = InterfaceDefinitionParser.parse(fileSystem);
-		InterfaceDefinition.init(interfaceDefs);
-		logger.info("Done (loaded {} interface definitions).", interfaceDefs.length);
-
 		logger.info("Loading skill level up definitions...");
 		LevelUpDefinition.init();
 
@@ -164,6 +231,53 @@ public final class World {
 		GamePacketDefinition.init();
 	}
 
+	/**
+	 * Loads the traversal flags and static objects of the map, from the map
+	 * snapshot if it matches the specified file system, otherwise by decoding
+	 * the map and writing a new snapshot.
+	 *
+	 * @param fileSystem The file system.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	private void loadMap(FileSystem fileSystem) throws IOException {
+		logger.info("Loading static object definitions...");
+		int key = MapSnapshot.key(fileSystem);
+
+		Optional<List<GameObject>> snapshot = MapSnapshot.load(MAP_SNAPSHOT, key, this);
+		List<GameObject> gameObjs = snapshot.isPresent() ? snapshot.get() : new StaticObjectDefinitionParser(this).parse(fileSystem);
+		gameObjs.forEach(obj -> regionRepository.getRegion(obj.getPosition()).addEntity(obj));
+		logger.info("Done (loaded {} static object definitions{}).", gameObjs.size(), snapshot.isPresent() ? " from snapshot" : "");
+
+		if (!snapshot.isPresent()) {
+			try {
+				MapSnapshot.write(MAP_SNAPSHOT, key, this, gameObjs);
+			} catch (IOException e) {
+				logger.warn("Unable to write map snapshot.", e);
+			}
+		}
+	}
+
+	/**
+	 * Waits for the specified loading task to complete.
+	 *
+	 * @param future The future of the loading task.
+	 * @throws IOException If the task failed or the wait was interrupted.
+	 */
+	private static void await(Future<?> future) throws IOException {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted whilst loading definitions", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new IOException("Unable to load definitions", cause);
+		}
+	}
+
 	/**
 	 * Attempts to register some character to a specified character repository.
 	 *
@@ -243,6 +357,7 @@ public final class World {
 	 * @param mob The mob.
 	 */
 	public void unregister(Mob mob) {
+		mobMovementSystem.remove(mob);
 		unregister(mob, mobRepository);
 	}
 
@@ -319,10 +434,37 @@ public final class World {
 	}
 
 	/**
-	 * Pulses the {@link #taskScheduler}.
+	 * Pulses the {@link #taskScheduler}, updates the {@link #regionActivity},
+	 * pulses the {@link #regionLoader} and the {@link #mobMovementSystem}.
 	 */
 	public void pulse() {
 		taskScheduler.pulse();
+		regionActivity.update(playerRepository);
+		if (regionLoader != null) {
+			regionLoader.pulse(regionActivity);
+		}
+		mobMovementSystem.pulse();
+		if (regionLoader != null) {
+			loadWalkingRegions();
+		}
+	}
+
+	/**
+	 * Loads the regions surrounding every character which is about to walk.
+	 * Walking queues are pulsed in parallel by the {@link ClientSynchronizer},
+	 * so every region they may query must be loaded by the game thread first.
+	 */
+	private void loadWalkingRegions() {
+		playerRepository.forEach(player -> {
+			if (player.getWalkingQueue().size() > 0) {
+				regionLoader.loadSurrounding(player.getPosition());
+			}
+		});
+		mobRepository.forEach(mob -> {
+			if (mob.getWalkingQueue().size() > 0) {
+				regionLoader.loadSurrounding(mob.getPosition());
+			}
+		});
 	}
 
 	/**
@@ -349,6 +491,27 @@ public final class World {
 		return mobRepository;
 	}
 
+	/**
+	 * Returns the system which decides the movement of roaming mobs.
+	 */
+	public MobMovementSystem getMobMovementSystem() {
+		return mobMovementSystem;
+	}
+
+	/**
+	 * Returns the manager of the ground items within this world.
+	 */
+	public GroundItemManager getGroundItemManager() {
+		return groundItemManager;
+	}
+
+	/**
+	 * Returns the activity of the regions within this world.
+	 */
+	public RegionActivity getRegionActivity() {
+		return regionActivity;
+	}
+
 	/**
 	 * Returns this world's {@link RegionRepository}.
 	 */
@@ -1,5 +1,7 @@
 package org.apollo.game.model;
 
+import org.apollo.game.model.region.RegionLoader;
+
 /**
  * Holds world-related constants.
  *
@@ -17,6 +19,15 @@ public final class WorldConstants {
 	 */
 	public static final int MAXIMUM_PLAYERS = 2000;
 
+	/**
+	 * Whether or not regions are loaded from the map on demand and unloaded
+	 * once inactive, rather than decoding the whole map at start up, see
+	 * {@link RegionLoader}. Regions are only ever loaded by the game thread,
+	 * the regions surrounding walking characters are loaded before client
+	 * synchronization pulses their walking queues in parallel.
+	 */
+	public static final boolean LAZY_REGIONS = false;
+
 	/**
 	 * Suppresses the default-public constructor preventing this class from
 	 * being instantiated by other classes.
@@ -0,0 +1,364 @@
+package org.apollo.game.model.ai;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apollo.game.model.Mob;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.WalkingQueue;
+import org.apollo.game.model.World;
+import org.apollo.game.model.WorldConstants;
+import org.apollo.game.model.area.Area;
+import org.apollo.game.model.pf.Path;
+import org.apollo.game.model.pf.TraversalMap;
+import org.apollo.game.model.region.RegionActivity;
+import org.apollo.game.model.region.RegionRepository;
+
+/**
+ * Decides the movement of every roaming {@link Mob} in a single pass, rather
+ * than scheduling a task per mob.
+ *
+ * <p>
+ * The state of each mob is kept in parallel arrays (spawn position, movement
+ * radius and the tick of its next decision) which are densely packed, so a
+ * pulse is a linear scan over primitive arrays and only mobs which are due
+ * touch their {@link Mob} object. Mobs within an inactive region, see
+ * {@link RegionActivity}, are dormant and are not visited.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe, the pass is executed serially on the game
+ * thread. Decisions query the {@link TraversalMap} and may create regions, so
+ * the arrays are not partitioned by region.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class MobMovementSystem {
+
+	/**
+	 * The amount of pulses between consecutive decisions of a mob.
+	 */
+	private static final int DECISION_INTERVAL = 2;
+
+	/**
+	 * The chance, as one in this many, of an idle mob beginning to walk within
+	 * its movement area.
+	 */
+	private static final int WALK_CHANCE = 7;
+
+	/**
+	 * The most steps a mob walks within its movement area at once.
+	 */
+	private static final int MAXIMUM_WALK_STEPS = 4;
+
+	/**
+	 * The world the mobs are in.
+	 */
+	private final World world;
+
+	/**
+	 * The densely packed mobs.
+	 */
+	private final Mob[] mobs = new Mob[WorldConstants.MAXIMUM_MOBS];
+
+	/**
+	 * The x coordinate of each mobs spawn position.
+	 */
+	private final int[] spawnX = new int[WorldConstants.MAXIMUM_MOBS];
+
+	/**
+	 * The y coordinate of each mobs spawn position.
+	 */
+	private final int[] spawnY = new int[WorldConstants.MAXIMUM_MOBS];
+
+	/**
+	 * The movement radius of each mob.
+	 */
+	private final int[] radius = new int[WorldConstants.MAXIMUM_MOBS];
+
+	/**
+	 * The tick of each mobs next decision.
+	 */
+	private final long[] nextDecision = new long[WorldConstants.MAXIMUM_MOBS];
+
+	/**
+	 * The dense slot of each mob, indexed by mob index, or {@code -1} if the
+	 * mob is not roaming.
+	 */
+	private final int[] slots = new int[WorldConstants.MAXIMUM_MOBS + 1];
+
+	/**
+	 * The id of the region each mob was last seen in.
+	 */
+	private final int[] regions = new int[WorldConstants.MAXIMUM_MOBS];
+
+	/**
+	 * Whether or not each mob is dormant.
+	 */
+	private final boolean[] dormant = new boolean[WorldConstants.MAXIMUM_MOBS];
+
+	/**
+	 * The packed positions traversable from a single tile, reused between
+	 * walks.
+	 */
+	private final int[] tiles = new int[TraversalMap.NEARBY_TILES];
+
+	/**
+	 * The packed positions already visited by a walk, reused between walks.
+	 */
+	private final int[] visited = new int[MAXIMUM_WALK_STEPS + 1];
+
+	/**
+	 * The amount of roaming mobs.
+	 */
+	private int size;
+
+	/**
+	 * The current tick.
+	 */
+	private long tick;
+
+	/**
+	 * Constructs a new {@link MobMovementSystem}.
+	 *
+	 * @param world The world the mobs are in.
+	 */
+	public MobMovementSystem(World world) {
+		this.world = world;
+		Arrays.fill(slots, -1);
+	}
+
+	/**
+	 * Adds the specified mob, which must be registered to the world. The mob
+	 * roams about its current spawn position, within its movement area and
+	 * distance.
+	 *
+	 * @param mob The mob.
+	 */
+	public void add(Mob mob) {
+		int index = mob.getIndex();
+		if (index < 1 || slots[index] != -1) {
+			return;
+		}
+
+		Position spawn = mob.getSpawnPosition();
+		mobs[size] = mob;
+		spawnX[size] = spawn.getX();
+		spawnY[size] = spawn.getY();
+		radius[size] = mob.getMovementDistance();
+		nextDecision[size] = tick;
+		regions[size] = RegionRepository.getRegionId(mob.getPosition());
+		dormant[size] = false;
+		slots[index] = size++;
+	}
+
+	/**
+	 * Removes the specified mob, this must be called before the mob is
+	 * unregistered from the world.
+	 *
+	 * @param mob The mob.
+	 */
+	public void remove(Mob mob) {
+		int index = mob.getIndex();
+		if (index < 1 || slots[index] == -1) {
+			return;
+		}
+
+		int slot = slots[index];
+		int last = --size;
+		slots[index] = -1;
+
+		if (slot != last) {
+			mobs[slot] = mobs[last];
+			spawnX[slot] = spawnX[last];
+			spawnY[slot] = spawnY[last];
+			radius[slot] = radius[last];
+			nextDecision[slot] = nextDecision[last];
+			regions[slot] = regions[last];
+			dormant[slot] = dormant[last];
+			slots[mobs[slot].getIndex()] = slot;
+		}
+
+		mobs[last] = null;
+	}
+
+	/**
+	 * Decides the movement of every active mob which is due. Mobs within
+	 * inactive regions become dormant, and are fast-forwarded to a plausible
+	 * state once their region becomes active again.
+	 */
+	public void pulse() {
+		RegionActivity activity = world.getRegionActivity();
+		Random random = ThreadLocalRandom.current();
+
+		for (int slot = 0; slot < size; slot++) {
+			if (!activity.isActive(regions[slot])) {
+				dormant[slot] = true;
+				continue;
+			}
+
+			if (dormant[slot]) {
+				dormant[slot] = false;
+				wake(slot, mobs[slot]);
+			}
+
+			if (nextDecision[slot] > tick) {
+				continue;
+			}
+
+			Mob mob = mobs[slot];
+			Position position = mob.getPosition();
+			regions[slot] = RegionRepository.getRegionId(position);
+
+			nextDecision[slot] = tick + DECISION_INTERVAL;
+			decide(slot, mob, position, random);
+		}
+
+		tick++;
+	}
+
+	/**
+	 * Fast-forwards a mob which was dormant. Any walk it was part way through
+	 * is abandoned and a mob which had strayed is returned to its spawn
+	 * position, as it would have walked back while no player could see it.
+	 *
+	 * @param slot The slot of the mob.
+	 * @param mob The mob.
+	 */
+	private void wake(int slot, Mob mob) {
+		mob.getWalkingQueue().clear();
+		mob.resetBlockSet();
+
+		Position position = mob.getPosition();
+		Area area = mob.getMovementArea();
+		int distance = radius[slot];
+
+		int dx = position.getX() - spawnX[slot];
+		int dy = position.getY() - spawnY[slot];
+		boolean strayed = area == null ? dx * dx + dy * dy > distance * distance : !area.withinArea(position.getX(), position.getY(), distance);
+
+		if (strayed) {
+			mob.setPosition(new Position(spawnX[slot], spawnY[slot], position.getHeight()));
+			regions[slot] = RegionRepository.getRegionId(mob.getPosition());
+		}
+	}
+
+	/**
+	 * Decides the movement of a single mob.
+	 *
+	 * @param slot The slot of the mob.
+	 * @param mob The mob.
+	 * @param position The current position of the mob.
+	 * @param random The random number generator.
+	 */
+	private void decide(int slot, Mob mob, Position position, Random random) {
+		Area area = mob.getMovementArea();
+		int distance = radius[slot];
+
+		if (area == null) {
+			int dx = position.getX() - spawnX[slot];
+			int dy = position.getY() - spawnY[slot];
+			if (dx * dx + dy * dy > distance * distance) {
+				walkToSpawn(slot, mob);
+			}
+			return;
+		}
+
+		if (!area.withinArea(position.getX(), position.getY(), distance)) {
+			walkToSpawn(slot, mob);
+			return;
+		}
+
+		if (random.nextInt(WALK_CHANCE) == 0 && mob.getWalkingQueue().size() == 0) {
+			walkInArea(mob, area, distance, position, random);
+		}
+	}
+
+	/**
+	 * Walks the specified mob back to its spawn position.
+	 *
+	 * @param slot The slot of the mob.
+	 * @param mob The mob.
+	 */
+	private void walkToSpawn(int slot, Mob mob) {
+		WalkingQueue queue = mob.getWalkingQueue();
+		queue.clear();
+		mob.stopAction();
+
+		Path path = world.getPathFinder().find(mob, spawnX[slot], spawnY[slot]);
+		if (path == null || path.isEmpty()) {
+			return;
+		}
+
+		queue.addFirstStep(path.poll());
+		while (!path.isEmpty()) {
+			queue.addStep(path.poll());
+		}
+	}
+
+	/**
+	 * Walks the specified mob a few random steps within its movement area.
+	 *
+	 * @param mob The mob.
+	 * @param area The movement area.
+	 * @param distance The movement distance.
+	 * @param position The current position of the mob.
+	 * @param random The random number generator.
+	 */
+	private void walkInArea(Mob mob, Area area, int distance, Position position, Random random) {
+		TraversalMap traversalMap = world.getTraversalMap();
+		int steps = random.nextInt(MAXIMUM_WALK_STEPS - 1) + 2;
+
+		int current = position.pack();
+		int visitedCount = 0;
+		visited[visitedCount++] = current;
+
+		for (int step = 0; step < steps; step++) {
+			int count = traversalMap.getNearbyTraversableTiles(current, mob.getSize(), tiles);
+
+			int candidates = 0;
+			for (int index = 0; index < count; index++) {
+				int next = tiles[index];
+				if (area.allWithinArea(Position.unpackX(next), Position.unpackY(next), mob.getSize(), distance) && !contains(visited, visitedCount, next)) {
+					tiles[candidates++] = next;
+				}
+			}
+
+			if (candidates == 0) {
+				continue;
+			}
+
+			current = tiles[random.nextInt(candidates)];
+			mob.getWalkingQueue().addStep(current);
+			visited[visitedCount++] = current;
+		}
+	}
+
+	/**
+	 * Tests whether or not the first {@code count} elements of the specified
+	 * array contain the specified value.
+	 *
+	 * @param values The values.
+	 * @param count The amount of values to test.
+	 * @param value The value.
+	 * @return {@code true} if the value is contained, otherwise {@code false}.
+	 */
+	private static boolean contains(int[] values, int count, int value) {
+		for (int index = 0; index < count; index++) {
+			if (values[index] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the amount of roaming mobs.
+	 */
+	public int size() {
+		return size;
+	}
+
+}
@@ -23,9 +23,24 @@ public abstract class Area {
 	 *         area otherwise {@code false}.
 	 */
 	public boolean allWithinArea(Position position, int offset, int padding) {
+		return allWithinArea(position.getX(), position.getY(), offset, padding);
+	}
+
+	/**
+	 * Tests whether or not all of the defined coordinates (bottom left corner
+	 * defined by x and y, length and width by offset) are within this
+	 * {@link Area}.
+	 *
+	 * @param x The x coordinate of the bottom left corner.
+	 * @param y The y coordinate of the bottom left corner.
+	 * @param offset The area length and width.
+	 * @return {@code true} if the square area is entirely within the specified
+	 *         area otherwise {@code false}.
+	 */
+	public boolean allWithinArea(int x, int y, int offset, int padding) {
 		for (int xOffset = 0; xOffset < offset; xOffset++) {
 			for (int yOffset = 0; yOffset < offset; yOffset++) {
-				if (!withinArea(position.getX() + xOffset, position.getY() + yOffset, padding)) {
+				if (!withinArea(x + xOffset, y + yOffset, padding)) {
 					return false;
 				}
 			}
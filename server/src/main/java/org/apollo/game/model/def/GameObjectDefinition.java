@@ -10,11 +10,48 @@ import org.apollo.game.model.Position;
  */
 public final class GameObjectDefinition {
 
+	/**
+	 * The flag which indicates a game object is solid.
+	 */
+	private static final int SOLID_FLAG = 0x1;
+
+	/**
+	 * The flag which indicates a game object is walkable.
+	 */
+	private static final int WALKABLE_FLAG = 0x2;
+
+	/**
+	 * The flag which indicates a game object has actions.
+	 */
+	private static final int ACTIONS_FLAG = 0x4;
+
 	/**
 	 * The game object definitions.
 	 */
 	private static GameObjectDefinition[] definitions;
 
+	/**
+	 * The flags of every game object, indexed by id. Hot checks, such as
+	 * marking the collision of the map, read these rather than the definition
+	 * itself.
+	 */
+	private static byte[] flags;
+
+	/**
+	 * The size of every game object, indexed by id.
+	 */
+	private static short[] sizes;
+
+	/**
+	 * The names and descriptions of every game object.
+	 */
+	private static final StringTable strings = new StringTable();
+
+	/**
+	 * The index of the empty string within the {@link #strings}.
+	 */
+	private static final int EMPTY = strings.add("");
+
 	/**
 	 * Gets the total number of objects.
 	 *
@@ -52,6 +89,63 @@ public final class GameObjectDefinition {
 				throw new RuntimeException("Object definition id mismatch");
 			}
 		}
+
+		byte[] flags = new byte[definitions.length];
+		short[] sizes = new short[definitions.length];
+		for (GameObjectDefinition def : definitions) {
+			flags[def.id] = (byte) ((def.solid ? SOLID_FLAG : 0) | (def.walkable ? WALKABLE_FLAG : 0) | (def.hasActions ? ACTIONS_FLAG : 0));
+			sizes[def.id] = (short) def.getSize();
+		}
+		GameObjectDefinition.flags = flags;
+		GameObjectDefinition.sizes = sizes;
+	}
+
+	/**
+	 * Gets the size of the game object with the specified id, in tiles,
+	 * without consulting its definition.
+	 *
+	 * @param id The id.
+	 * @return The size.
+	 * @throws IndexOutOfBoundsException if the id is out of bounds.
+	 */
+	public static int getSize(int id) {
+		return sizes[id];
+	}
+
+	/**
+	 * Checks if the game object with the specified id has actions, without
+	 * consulting its definition.
+	 *
+	 * @param id The id.
+	 * @return {@code true} if so, {@code false} if not.
+	 * @throws IndexOutOfBoundsException if the id is out of bounds.
+	 */
+	public static boolean hasActions(int id) {
+		return (flags[id] & ACTIONS_FLAG) != 0;
+	}
+
+	/**
+	 * Checks if the game object with the specified id is solid, without
+	 * consulting its definition.
+	 *
+	 * @param id The id.
+	 * @return {@code true} if so, {@code false} if not.
+	 * @throws IndexOutOfBoundsException if the id is out of bounds.
+	 */
+	public static boolean isSolid(int id) {
+		return (flags[id] & SOLID_FLAG) != 0;
+	}
+
+	/**
+	 * Checks if the game object with the specified id is walkable, without
+	 * consulting its definition.
+	 *
+	 * @param id The id.
+	 * @return {@code true} if so, {@code false} if not.
+	 * @throws IndexOutOfBoundsException if the id is out of bounds.
+	 */
+	public static boolean isWalkable(int id) {
+		return (flags[id] & WALKABLE_FLAG) != 0;
 	}
 
 	/**
@@ -125,14 +219,14 @@ public final class GameObjectDefinition {
 	private boolean interactable;
 
 	/**
-	 * The name.
+	 * The index of the name within the {@link #strings}.
 	 */
-	private String name = "";
+	private int name = EMPTY;
 
 	/**
-	 * The description.
+	 * The index of the description within the {@link #strings}.
 	 */
-	private String description = "";
+	private int description = EMPTY;
 
 	/**
 	 * The actions.
@@ -183,7 +277,7 @@ public final class GameObjectDefinition {
 	 * @return The description.
 	 */
 	public String getDescription() {
-		return description;
+		return strings.get(description);
 	}
 
 	/**
@@ -210,7 +304,7 @@ public final class GameObjectDefinition {
 	 * @return The name.
 	 */
 	public String getName() {
-		return name;
+		return strings.get(name);
 	}
 
 	/**
@@ -307,7 +401,7 @@ public final class GameObjectDefinition {
 	 * @param description The description.
 	 */
 	public void setDescription(String description) {
-		this.description = description;
+		this.description = strings.add(description);
 	}
 
 	/**
@@ -334,7 +428,7 @@ public final class GameObjectDefinition {
 	 * @param name The name to set.
 	 */
 	public void setName(String name) {
-		this.name = name;
+		this.name = strings.add(name);
 	}
 
 	/**
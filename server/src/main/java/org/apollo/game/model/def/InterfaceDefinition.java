@@ -12,6 +12,16 @@ public final class InterfaceDefinition {
 	 */
 	private static InterfaceDefinition[] definitions;
 
+	/**
+	 * Whether or not every interface is an inventory, indexed by id.
+	 */
+	private static boolean[] inventories;
+
+	/**
+	 * The text of every interface.
+	 */
+	private static final StringTable strings = new StringTable();
+
 	/**
 	 * The id of this interface.
 	 */
@@ -113,9 +123,10 @@ public final class InterfaceDefinition {
 	private int actionType;
 
 	/**
-	 * The name of a magic spell on this interface.
+	 * The index of the name of a magic spell on this interface within the
+	 * {@link #strings}.
 	 */
-	private String spellName;
+	private int spellName = StringTable.NULL;
 
 	/**
 	 * The spell usable on this interface.
@@ -133,14 +144,15 @@ public final class InterfaceDefinition {
 	private int disabledColor;
 
 	/**
-	 * This interfaces tooltip.
+	 * The index of this interfaces tooltip within the {@link #strings}.
 	 */
-	private String tooltip;
+	private int tooltip = StringTable.NULL;
 
 	/**
-	 * This interfaces selecton action name.
+	 * The index of this interfaces selecton action name within the
+	 * {@link #strings}.
 	 */
-	private String selectedActionName;
+	private int selectedActionName = StringTable.NULL;
 
 	/**
 	 * Whether or not the type face font is centered on this interface.
@@ -173,14 +185,16 @@ public final class InterfaceDefinition {
 	private boolean filled;
 
 	/**
-	 * The enabled text on this interface.
+	 * The index of the enabled text on this interface within the
+	 * {@link #strings}.
 	 */
-	private String enabledText;
+	private int enabledText = StringTable.NULL;
 
 	/**
-	 * The disabled text on this interface.
+	 * The index of the disabled text on this interface within the
+	 * {@link #strings}.
 	 */
-	private String disabledText;
+	private int disabledText = StringTable.NULL;
 
 	/**
 	 * The popup hover of this interface,
@@ -279,12 +293,29 @@ public final class InterfaceDefinition {
 	 */
 	public static void init(InterfaceDefinition[] definitions) {
 		InterfaceDefinition.definitions = definitions;
+		boolean[] inventories = new boolean[definitions.length];
+
 		for (int id = 0; id < definitions.length; id++) {
 			InterfaceDefinition def = definitions[id];
 			if (def != null && def.getId() != id) {
 				throw new RuntimeException("Interface definition id mismatch, id: " + def.getId() + " expected: " + id);
 			}
+			inventories[id] = def != null && def.isInventory;
 		}
+
+		InterfaceDefinition.inventories = inventories;
+	}
+
+	/**
+	 * Checks if the interface with the specified id is an inventory, without
+	 * consulting its definition.
+	 *
+	 * @param id The id.
+	 * @return {@code true} if so, {@code false} if not.
+	 * @throws IndexOutOfBoundsException if the id is out of bounds.
+	 */
+	public static boolean isInventory(int id) {
+		return inventories[id];
 	}
 
 	/**
@@ -741,28 +772,28 @@ public final class InterfaceDefinition {
 	 * Returns the enabledText.
 	 */
 	public String getEnabledText() {
-		return enabledText;
+		return strings.get(enabledText);
 	}
 
 	/**
 	 * Sets a new value for enabledText.
 	 */
 	public void setEnabledText(String enabledText) {
-		this.enabledText = enabledText;
+		this.enabledText = strings.add(enabledText);
 	}
 
 	/**
 	 * Returns the disabledText.
 	 */
 	public String getDisabledText() {
-		return disabledText;
+		return strings.get(disabledText);
 	}
 
 	/**
 	 * Sets a new value for disabledText.
 	 */
 	public void setDisabledText(String disabledText) {
-		this.disabledText = disabledText;
+		this.disabledText = strings.add(disabledText);
 	}
 
 	/**
@@ -951,28 +982,28 @@ public final class InterfaceDefinition {
 	 * Returns the selectedActionName.
 	 */
 	public String getSelectedActionName() {
-		return selectedActionName;
+		return strings.get(selectedActionName);
 	}
 
 	/**
 	 * Sets a new value for selectedActionName.
 	 */
 	public void setSelectedActionName(String selectedActionName) {
-		this.selectedActionName = selectedActionName;
+		this.selectedActionName = strings.add(selectedActionName);
 	}
 
 	/**
 	 * Returns the spellName.
 	 */
 	public String getSpellName() {
-		return spellName;
+		return strings.get(spellName);
 	}
 
 	/**
 	 * Sets a new value for spellName.
 	 */
 	public void setSpellName(String spellName) {
-		this.spellName = spellName;
+		this.spellName = strings.add(spellName);
 	}
 
 	/**
@@ -993,14 +1024,14 @@ public final class InterfaceDefinition {
 	 * Returns the tooltip.
 	 */
 	public String getTooltip() {
-		return tooltip;
+		return strings.get(tooltip);
 	}
 
 	/**
 	 * Sets a new value for tooltip.
 	 */
 	public void setTooltip(String tooltip) {
-		this.tooltip = tooltip;
+		this.tooltip = strings.add(tooltip);
 	}
 
 }
\ No newline at end of file
@@ -12,11 +12,27 @@ import com.google.common.collect.HashBiMap;
  */
 public final class ItemDefinition {
 
+	/**
+	 * The flag which indicates an item is stackable.
+	 */
+	private static final int STACKABLE_FLAG = 0x1;
+
 	/**
 	 * The item definitions.
 	 */
 	private static ItemDefinition[] definitions;
 
+	/**
+	 * The flags of every item, indexed by id. Hot checks, such as whether an
+	 * item stacks, read these rather than the definition itself.
+	 */
+	private static byte[] flags;
+
+	/**
+	 * The names and descriptions of every item.
+	 */
+	private static final StringTable strings = new StringTable();
+
 	/**
 	 * A map of item ids to noted ids.
 	 */
@@ -73,6 +89,24 @@ public final class ItemDefinition {
 				notes.put(def.getNoteInfoId(), def.getId());
 			}
 		}
+
+		byte[] flags = new byte[definitions.length];
+		for (ItemDefinition def : definitions) {
+			flags[def.id] = (byte) (def.stackable ? STACKABLE_FLAG : 0);
+		}
+		ItemDefinition.flags = flags;
+	}
+
+	/**
+	 * Checks if the item with the specified id is stackable, without
+	 * consulting its definition.
+	 *
+	 * @param id The id.
+	 * @return {@code true} if so, {@code false} if not.
+	 * @throws IndexOutOfBoundsException if the id is out of bounds.
+	 */
+	public static boolean isStackable(int id) {
+		return (flags[id] & STACKABLE_FLAG) != 0;
 	}
 
 	/**
@@ -104,14 +138,14 @@ public final class ItemDefinition {
 	private final int id;
 
 	/**
-	 * The name of the item.
+	 * The index of the name of the item within the {@link #strings}.
 	 */
-	private String name;
+	private int name = StringTable.NULL;
 
 	/**
-	 * The description of the item.
+	 * The index of the description of the item within the {@link #strings}.
 	 */
-	private String description;
+	private int description = StringTable.NULL;
 
 	/**
 	 * A flag indicating if this item is stackable.
@@ -219,7 +253,8 @@ public final class ItemDefinition {
 	 */
 	public void toNote() {
 		if (isNote()) {
-			if (description != null && description.startsWith("Swap this note at any bank for ")) {
+			String currentDescription = getDescription();
+			if (currentDescription != null && currentDescription.startsWith("Swap this note at any bank for ")) {
 				return;
 			}
 
@@ -228,14 +263,15 @@ public final class ItemDefinition {
 			members = infoDef.members;
 			value = infoDef.value;
 
+			String infoName = infoDef.getName();
 			String prefix = "a";
-			char firstChar = name == null ? 'n' : name.charAt(0);
+			char firstChar = infoName == null ? 'n' : infoName.charAt(0);
 
 			if (firstChar == 'A' || firstChar == 'E' || firstChar == 'I' || firstChar == 'O' || firstChar == 'U') {
 				prefix = "an";
 			}
 
-			description = "Swap this note at any bank for " + prefix + " " + name + ".";
+			setDescription("Swap this note at any bank for " + prefix + " " + infoName + ".");
 			stackable = true;
 		} else {
 			throw new IllegalStateException();
@@ -248,7 +284,7 @@ public final class ItemDefinition {
 	 * @param name The item's name.
 	 */
 	public void setName(String name) {
-		this.name = name;
+		this.name = strings.add(name);
 	}
 
 	/**
@@ -257,7 +293,7 @@ public final class ItemDefinition {
 	 * @return The name of this item, or {@code null} if it has no name.
 	 */
 	public String getName() {
-		return name;
+		return strings.get(name);
 	}
 
 	/**
@@ -266,7 +302,7 @@ public final class ItemDefinition {
 	 * @param description The item's description.
 	 */
 	public void setDescription(String description) {
-		this.description = description;
+		this.description = strings.add(description);
 	}
 
 	/**
@@ -275,7 +311,7 @@ public final class ItemDefinition {
 	 * @return The item's description.
 	 */
 	public String getDescription() {
-		return description;
+		return strings.get(description);
 	}
 
 	/**
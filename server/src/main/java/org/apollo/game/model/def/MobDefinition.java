@@ -14,6 +14,11 @@ public final class MobDefinition {
 	 */
 	private static MobDefinition[] definitions;
 
+	/**
+	 * The names and descriptions of every mob.
+	 */
+	private static final StringTable strings = new StringTable();
+
 	/**
 	 * Initialises the class with the specified set of definitions.
 	 *
@@ -59,14 +64,14 @@ public final class MobDefinition {
 	private final int id;
 
 	/**
-	 * The name of the mob.
+	 * The index of the name of the mob within the {@link #strings}.
 	 */
-	private String name;
+	private int name = StringTable.NULL;
 
 	/**
-	 * The description of the mob.
+	 * The index of the description of the mob within the {@link #strings}.
 	 */
-	private String description;
+	private int description = StringTable.NULL;
 
 	/**
 	 * The mobs size, in tiles.
@@ -113,7 +118,7 @@ public final class MobDefinition {
 	 * @return The name of the mob.
 	 */
 	public String getName() {
-		return name;
+		return strings.get(name);
 	}
 
 	/**
@@ -122,7 +127,7 @@ public final class MobDefinition {
 	 * @return The description.
 	 */
 	public String getDescription() {
-		return description;
+		return strings.get(description);
 	}
 
 	/**
@@ -286,7 +291,7 @@ public final class MobDefinition {
 	 * @param name The name.
 	 */
 	public void setName(String name) {
-		this.name = name;
+		this.name = strings.add(name);
 	}
 
 	/**
@@ -295,7 +300,7 @@ public final class MobDefinition {
 	 * @param description The description.
 	 */
 	public void setDescription(String description) {
-		this.description = description;
+		this.description = strings.add(description);
 	}
 
 	/**
@@ -0,0 +1,98 @@
+package org.apollo.game.model.def;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An append-only table of strings, such as the names and descriptions of
+ * definitions. Strings are stored encoded within a single array and are only
+ * decoded when they are requested, so rarely used text costs a single byte
+ * per character rather than a {@link String} object each.
+ *
+ * <p>
+ * This class is not thread-safe, strings are added by the thread parsing the
+ * definitions and may be read by any thread once parsing has completed.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class StringTable {
+
+	/**
+	 * The index which represents a {@code null} string.
+	 */
+	public static final int NULL = -1;
+
+	/**
+	 * The encoded strings, back to back.
+	 */
+	private byte[] data = new byte[4096];
+
+	/**
+	 * The offset of the end of each string within {@link #data}, by index.
+	 */
+	private int[] ends = new int[256];
+
+	/**
+	 * The amount of strings within this table.
+	 */
+	private int size;
+
+	/**
+	 * The amount of bytes used within {@link #data}.
+	 */
+	private int length;
+
+	/**
+	 * Adds a string to this table.
+	 *
+	 * @param string The string, may be {@code null}.
+	 * @return The index of the string, or {@link #NULL} if the string is
+	 *         {@code null}.
+	 */
+	public int add(String string) {
+		if (string == null) {
+			return NULL;
+		}
+
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		if (length + bytes.length > data.length) {
+			data = Arrays.copyOf(data, Math.max(data.length * 2, length + bytes.length));
+		}
+		if (size == ends.length) {
+			ends = Arrays.copyOf(ends, size * 2);
+		}
+
+		System.arraycopy(bytes, 0, data, length, bytes.length);
+		length += bytes.length;
+		ends[size] = length;
+		return size++;
+	}
+
+	/**
+	 * Gets the string with the specified index, decoding it.
+	 *
+	 * @param index The index of the string.
+	 * @return The string, or {@code null} if the index is {@link #NULL}.
+	 * @throws IndexOutOfBoundsException If the index is out of bounds.
+	 */
+	public String get(int index) {
+		if (index == NULL) {
+			return null;
+		}
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		int start = index == 0 ? 0 : ends[index - 1];
+		return new String(data, start, ends[index] - start, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the amount of strings within this table.
+	 */
+	public int size() {
+		return size;
+	}
+
+}
@@ -2,6 +2,7 @@ package org.apollo.game.model.grounditem;
 
 import org.apollo.game.model.Entity;
 import org.apollo.game.model.Item;
+import org.apollo.game.model.Player;
 import org.apollo.game.model.Position;
 import org.apollo.game.model.World;
 
@@ -23,22 +24,53 @@ public final class GroundItem extends Entity {
 	 */
 	public static final int PULSES_UNTIL_INVALID = 150 * 1000 / 600;
 
+	/**
+	 * The owner of a ground item which has no owner.
+	 */
+	public static final long NO_OWNER = 0;
+
 	/**
 	 * The item displayed on the ground.
 	 */
 	private final Item item;
 
 	/**
-	 * Constructs a new {@link GroundItem} with the specified position, item
-	 * owner and global flag.
+	 * The encoded name of the player which owns this ground item.
+	 */
+	private final long owner;
+
+	/**
+	 * Whether or not this ground item is visible to every player.
+	 */
+	private boolean global;
+
+	/**
+	 * Constructs a new global {@link GroundItem} with the specified position
+	 * and item.
 	 *
 	 * @param position The position of this ground item.
 	 * @param world The world this ground item is in.
 	 * @param item The ground item.
 	 */
 	public GroundItem(Position position, World world, Item item) {
+		this(position, world, item, NO_OWNER);
+	}
+
+	/**
+	 * Constructs a new {@link GroundItem} with the specified position, item and
+	 * owner. A ground item with an owner is only visible to its owner until it
+	 * becomes global.
+	 *
+	 * @param position The position of this ground item.
+	 * @param world The world this ground item is in.
+	 * @param item The ground item.
+	 * @param owner The encoded name of the owner, or {@link #NO_OWNER}.
+	 */
+	public GroundItem(Position position, World world, Item item, long owner) {
 		super(position, world);
 		this.item = item;
+		this.owner = owner;
+		global = owner == NO_OWNER;
 	}
 
 	/**
@@ -48,6 +80,51 @@ public final class GroundItem extends Entity {
 		return item;
 	}
 
+	/**
+	 * Returns the encoded name of the player which owns this ground item, or
+	 * {@link #NO_OWNER}.
+	 */
+	public long getOwner() {
+		return owner;
+	}
+
+	/**
+	 * Returns whether or not this ground item is visible to every player.
+	 */
+	public boolean isGlobal() {
+		return global;
+	}
+
+	/**
+	 * Makes this ground item visible to every player.
+	 */
+	void setGlobal() {
+		global = true;
+	}
+
+	/**
+	 * Tests whether or not the specified player is the owner of this ground
+	 * item.
+	 *
+	 * @param player The player.
+	 * @return {@code true} if the player owns this ground item, otherwise
+	 *         {@code false}.
+	 */
+	public boolean isOwner(Player player) {
+		return owner != NO_OWNER && owner == player.getEncodedName();
+	}
+
+	/**
+	 * Tests whether or not this ground item is visible to the specified player.
+	 *
+	 * @param player The player.
+	 * @return {@code true} if the player can see this ground item, otherwise
+	 *         {@code false}.
+	 */
+	public boolean isVisibleTo(Player player) {
+		return global || isOwner(player);
+	}
+
 	@Override
 	public EntityCategory getCategory() {
 		return EntityCategory.GROUND_ITEM;
@@ -0,0 +1,95 @@
+package org.apollo.game.model.grounditem;
+
+import org.apollo.game.model.Player;
+
+/**
+ * A single change to a {@link GroundItem} which players who can see it must
+ * be informed of.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class GroundItemChange {
+
+	/**
+	 * Represents the type of a change.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	public enum Type {
+
+		/**
+		 * The ground item was added.
+		 */
+		ADDED,
+
+		/**
+		 * The ground item was removed.
+		 */
+		REMOVED,
+
+		/**
+		 * The ground item became visible to every player, rather than only its
+		 * owner.
+		 */
+		GLOBALIZED
+
+	}
+
+	/**
+	 * The ground item which changed.
+	 */
+	private final GroundItem item;
+
+	/**
+	 * The type of this change.
+	 */
+	private final Type type;
+
+	/**
+	 * Whether or not the ground item was global when it changed.
+	 */
+	private final boolean global;
+
+	/**
+	 * Constructs a new {@link GroundItemChange}.
+	 *
+	 * @param item The ground item which changed.
+	 * @param type The type of this change.
+	 */
+	public GroundItemChange(GroundItem item, Type type) {
+		this.item = item;
+		this.type = type;
+		global = item.isGlobal();
+	}
+
+	/**
+	 * Returns the ground item which changed.
+	 */
+	public GroundItem getItem() {
+		return item;
+	}
+
+	/**
+	 * Returns the type of this change.
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Tests whether or not the specified player must be informed of this
+	 * change. Visibility is decided by the state of the ground item when it
+	 * changed, not its current state.
+	 *
+	 * @param player The player.
+	 * @return {@code true} if the player must be informed, otherwise
+	 *         {@code false}.
+	 */
+	public boolean isVisibleTo(Player player) {
+		if (type == Type.GLOBALIZED) {
+			return !item.isOwner(player);
+		}
+		return global || item.isOwner(player);
+	}
+
+}
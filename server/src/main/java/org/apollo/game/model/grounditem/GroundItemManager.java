@@ -0,0 +1,182 @@
+package org.apollo.game.model.grounditem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apollo.game.model.World;
+import org.apollo.game.model.grounditem.GroundItemChange.Type;
+import org.apollo.game.model.region.Region;
+import org.apollo.game.model.region.RegionRepository;
+import org.apollo.game.task.Task;
+
+/**
+ * Manages every {@link GroundItem} within a {@link World}.
+ *
+ * <p>
+ * Ground items are stored within the {@link Region} they lie in. Each ground
+ * item has a single expiry task on the world's task scheduler which makes an
+ * owned ground item global after {@link GroundItem#PULSES_UNTIL_GLOBAL} pulses
+ * and removes it after {@link GroundItem#PULSES_UNTIL_INVALID} pulses.
+ * </p>
+ *
+ * <p>
+ * Changes are recorded per region and drained once per pulse by the client
+ * synchronizer, so each player is only sent the changes within the regions it
+ * can see, rather than every ground item being checked against every player.
+ * This class must only be used from the game thread.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class GroundItemManager {
+
+	/**
+	 * A task which makes a ground item global and later removes it.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	private final class ExpiryTask extends Task {
+
+		/**
+		 * The ground item.
+		 */
+		private final GroundItem item;
+
+		/**
+		 * Constructs a new {@link ExpiryTask}.
+		 *
+		 * @param item The ground item.
+		 */
+		public ExpiryTask(GroundItem item) {
+			super(item.isGlobal() ? GroundItem.PULSES_UNTIL_INVALID : GroundItem.PULSES_UNTIL_GLOBAL, false);
+			this.item = item;
+		}
+
+		@Override
+		public void execute() {
+			if (!item.isGlobal()) {
+				globalize(item);
+				setDelay(GroundItem.PULSES_UNTIL_INVALID - GroundItem.PULSES_UNTIL_GLOBAL);
+				return;
+			}
+
+			remove(item);
+		}
+
+	}
+
+	/**
+	 * The world the ground items are in.
+	 */
+	private final World world;
+
+	/**
+	 * The expiry task of each ground item.
+	 */
+	private final Map<GroundItem, ExpiryTask> tasks = new IdentityHashMap<>();
+
+	/**
+	 * The changes made since they were last drained, by region id.
+	 */
+	private Map<Integer, List<GroundItemChange>> changes = new HashMap<>();
+
+	/**
+	 * Constructs a new {@link GroundItemManager}.
+	 *
+	 * @param world The world the ground items are in.
+	 */
+	public GroundItemManager(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Adds the specified ground item to the world.
+	 *
+	 * @param item The ground item.
+	 * @return {@code true} if the ground item was added, {@code false} if it
+	 *         was already added.
+	 */
+	public boolean add(GroundItem item) {
+		if (tasks.containsKey(item)) {
+			return false;
+		}
+
+		ExpiryTask task = new ExpiryTask(item);
+		tasks.put(item, task);
+		world.getRegionRepository().getRegion(item.getPosition()).addEntity(item);
+		world.submit(task);
+
+		record(item, Type.ADDED);
+		return true;
+	}
+
+	/**
+	 * Removes the specified ground item from the world, for example once it
+	 * has been picked up.
+	 *
+	 * @param item The ground item.
+	 * @return {@code true} if the ground item was removed, {@code false} if it
+	 *         had already been removed.
+	 */
+	public boolean remove(GroundItem item) {
+		ExpiryTask task = tasks.remove(item);
+		if (task == null) {
+			return false;
+		}
+
+		task.stop();
+		world.getRegionRepository().getRegion(item.getPosition()).removeEntity(item);
+
+		record(item, Type.REMOVED);
+		return true;
+	}
+
+	/**
+	 * Makes the specified ground item visible to every player.
+	 *
+	 * @param item The ground item.
+	 */
+	private void globalize(GroundItem item) {
+		item.setGlobal();
+		record(item, Type.GLOBALIZED);
+	}
+
+	/**
+	 * Records a change to the specified ground item.
+	 *
+	 * @param item The ground item.
+	 * @param type The type of change.
+	 */
+	private void record(GroundItem item, Type type) {
+		int region = RegionRepository.getRegionId(item.getPosition());
+		changes.computeIfAbsent(region, id -> new ArrayList<>()).add(new GroundItemChange(item, type));
+	}
+
+	/**
+	 * Returns the changes made since this method was last called, by region
+	 * id, and begins recording a new set of changes.
+	 *
+	 * @return The changes, in the order they were made within each region.
+	 */
+	public Map<Integer, List<GroundItemChange>> drainChanges() {
+		if (changes.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Integer, List<GroundItemChange>> drained = changes;
+		changes = new HashMap<>();
+		return drained;
+	}
+
+	/**
+	 * Returns the amount of ground items within the world.
+	 */
+	public int size() {
+		return tasks.size();
+	}
+
+}
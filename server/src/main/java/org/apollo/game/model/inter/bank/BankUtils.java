@@ -122,7 +122,7 @@ public final class BankUtils {
 
 		int newId = player.getAttributes().isWithdrawingNotes() ? ItemDefinition.itemToNote(item.getId()) : item.getId();
 
-		if (inventory.freeSlots() == 0 && !(inventory.contains(newId) && ItemDefinition.forId(newId).isStackable())) {
+		if (inventory.freeSlots() == 0 && !(inventory.contains(newId) && ItemDefinition.isStackable(newId))) {
 			inventory.forceCapacityExceeded();
 			return false;
 		}
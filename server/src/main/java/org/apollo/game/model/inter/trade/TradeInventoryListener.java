@@ -7,7 +7,6 @@ import static org.apollo.game.model.inter.trade.TradeStatus.INITIALIZED;
 import static org.apollo.game.model.inter.trade.TradeStatus.UPDATING_ITEMS;
 import static org.apollo.game.model.inter.trade.TradeStatus.VERIFYING;
 
-import org.apollo.game.model.Item;
 import org.apollo.game.model.Player;
 import org.apollo.game.model.inv.Inventory;
 import org.apollo.game.model.inv.InventoryAdapter;
@@ -43,7 +42,7 @@ public final class TradeInventoryListener extends InventoryAdapter {
 	}
 
 	@Override
-	public void itemUpdated(Inventory inventory, int slot, Item item) {
+	public void itemUpdated(Inventory inventory, int slot) {
 		itemsUpdated(inventory);
 	}
 
@@ -94,7 +94,7 @@ public final class TradeUtils {
 			amount = item.getAmount();
 		}
 
-		if (inventory.freeSlots() == 0 && !(inventory.contains(id) && ItemDefinition.forId(id).isStackable())) {
+		if (inventory.freeSlots() == 0 && !(inventory.contains(id) && ItemDefinition.isStackable(id))) {
 			inventory.forceCapacityExceeded();
 			return false;
 		}
@@ -1,6 +1,5 @@
 package org.apollo.game.model.inv;
 
-import org.apollo.game.model.Item;
 import org.apollo.game.model.Player;
 
 /**
@@ -33,7 +32,7 @@ public final class AppearanceInventoryListener extends InventoryAdapter {
 	}
 
 	@Override
-	public void itemUpdated(Inventory inventory, int slot, Item item) {
+	public void itemUpdated(Inventory inventory, int slot) {
 		update();
 	}
 
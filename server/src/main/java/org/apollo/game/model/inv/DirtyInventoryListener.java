@@ -0,0 +1,113 @@
+package org.apollo.game.model.inv;
+
+import java.util.BitSet;
+
+/**
+ * An {@link InventoryListener} which records the slots of an {@link Inventory}
+ * which have changed since they were last saved.
+ *
+ * <p>
+ * Slots are marked by the game thread and drained by the serializer, so every
+ * method of this listener is synchronized.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class DirtyInventoryListener extends InventoryAdapter {
+
+	/**
+	 * The slots which have changed since they were last drained.
+	 */
+	private final BitSet dirty;
+
+	/**
+	 * The capacity of the inventory being tracked.
+	 */
+	private final int capacity;
+
+	/**
+	 * The listener this listener was detached from, may be {@code null}.
+	 */
+	private final DirtyInventoryListener parent;
+
+	/**
+	 * Constructs a new {@link DirtyInventoryListener}.
+	 *
+	 * @param capacity The capacity of the inventory being tracked.
+	 */
+	public DirtyInventoryListener(int capacity) {
+		this(capacity, null);
+	}
+
+	/**
+	 * Constructs a new {@link DirtyInventoryListener} with the specified
+	 * parent.
+	 *
+	 * @param capacity The capacity of the inventory being tracked.
+	 * @param parent The listener this listener was detached from.
+	 */
+	private DirtyInventoryListener(int capacity, DirtyInventoryListener parent) {
+		this.capacity = capacity;
+		this.parent = parent;
+		dirty = new BitSet(capacity);
+	}
+
+	@Override
+	public synchronized void itemUpdated(Inventory inventory, int slot) {
+		dirty.set(slot);
+	}
+
+	@Override
+	public synchronized void itemsUpdated(Inventory inventory) {
+		dirty.set(0, capacity);
+	}
+
+	/**
+	 * Returns the changed slots and clears them.
+	 *
+	 * @return The slots which have changed since they were last drained.
+	 */
+	public synchronized BitSet drain() {
+		BitSet slots = (BitSet) dirty.clone();
+		dirty.clear();
+		return slots;
+	}
+
+	/**
+	 * Moves the changed slots into a new listener, used when taking a snapshot
+	 * of the inventory. Slots restored to the detached listener are also
+	 * restored to this listener.
+	 *
+	 * @return The detached listener.
+	 */
+	public synchronized DirtyInventoryListener detach() {
+		DirtyInventoryListener detached = new DirtyInventoryListener(capacity, this);
+		detached.dirty.or(dirty);
+		dirty.clear();
+		return detached;
+	}
+
+	/**
+	 * Marks the specified slots as changed, used to restore slots which were
+	 * drained but could not be saved.
+	 *
+	 * @param slots The slots to mark.
+	 */
+	public void mark(BitSet slots) {
+		synchronized (this) {
+			dirty.or(slots);
+		}
+
+		if (parent != null) {
+			parent.mark(slots);
+		}
+	}
+
+	/**
+	 * Marks every slot as unchanged.
+	 */
+	public synchronized void clear() {
+		dirty.clear();
+	}
+
+}
@@ -1,6 +1,7 @@
 package org.apollo.game.model.inv;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -12,8 +13,12 @@ import org.apollo.game.model.Item;
 import org.apollo.game.model.Player;
 import org.apollo.game.model.def.ItemDefinition;
 
+import com.google.common.base.Preconditions;
+
 /**
- * Represents an inventory - a collection of {@link Item}s.
+ * Represents an inventory - a collection of {@link Item}s. The id and amount
+ * of each slot are stored in primitive arrays, {@link Item}s are only created
+ * when they are requested.
  *
  * @author Graham
  */
@@ -45,6 +50,11 @@ public final class Inventory implements Cloneable {
 
 	}
 
+	/**
+	 * The id which marks an empty slot.
+	 */
+	private static final int EMPTY = -1;
+
 	/**
 	 * A set of inventory listeners.
 	 */
@@ -56,9 +66,14 @@ public final class Inventory implements Cloneable {
 	private final int capacity;
 
 	/**
-	 * The items in this inventory.
+	 * The id of the item in each slot, or {@link #EMPTY} if the slot is empty.
 	 */
-	private Item[] items;
+	private int[] ids;
+
+	/**
+	 * The amount of the item in each slot, or {@code 0} if the slot is empty.
+	 */
+	private int[] amounts;
 
 	/**
 	 * The stacking mode.
@@ -97,13 +112,16 @@ public final class Inventory implements Cloneable {
 		}
 		this.capacity = capacity;
 		this.mode = Objects.requireNonNull(mode);
-		items = new Item[capacity];
+		ids = new int[capacity];
+		amounts = new int[capacity];
+		Arrays.fill(ids, EMPTY);
 	}
 
 	@Override
 	public Inventory clone() {
 		Inventory copy = new Inventory(capacity, mode);
-		copy.items = items.clone();
+		copy.ids = ids.clone();
+		copy.amounts = amounts.clone();
 		copy.size = size;
 		return copy;
 	}
@@ -117,7 +135,7 @@ public final class Inventory implements Cloneable {
 	 */
 	public boolean available(int slot) {
 		checkBounds(slot);
-		return items[slot] == null;
+		return ids[slot] == EMPTY;
 	}
 
 	/**
@@ -127,12 +145,7 @@ public final class Inventory implements Cloneable {
 	 * @return {@code true} if so, {@code false} if not.
 	 */
 	public boolean contains(int id) {
-		for (Item item : items) {
-			if (item != null && item.getId() == id) {
-				return true;
-			}
-		}
-		return false;
+		return slotOf(id) != -1;
 	}
 
 	/**
@@ -148,7 +161,8 @@ public final class Inventory implements Cloneable {
 	 * Clears the inventory.
 	 */
 	public void clear() {
-		items = new Item[capacity];
+		Arrays.fill(ids, EMPTY);
+		Arrays.fill(amounts, 0);
 		size = 0;
 		notifyItemsUpdated();
 	}
@@ -180,7 +194,31 @@ public final class Inventory implements Cloneable {
 	 */
 	public Item get(int slot) {
 		checkBounds(slot);
-		return items[slot];
+		return itemAt(slot);
+	}
+
+	/**
+	 * Gets the id of the item in the specified slot.
+	 *
+	 * @param slot The slot.
+	 * @return The id, or {@code -1} if the slot is empty.
+	 * @throws IndexOutOfBoundsException if the slot is out of bounds.
+	 */
+	public int getId(int slot) {
+		checkBounds(slot);
+		return ids[slot];
+	}
+
+	/**
+	 * Gets the amount of the item in the specified slot.
+	 *
+	 * @param slot The slot.
+	 * @return The amount, or {@code 0} if the slot is empty.
+	 * @throws IndexOutOfBoundsException if the slot is out of bounds.
+	 */
+	public int getAmount(int slot) {
+		checkBounds(slot);
+		return amounts[slot];
 	}
 
 	/**
@@ -198,15 +236,29 @@ public final class Inventory implements Cloneable {
 		}
 		checkBounds(slot);
 
-		Item old = items[slot];
-		if (old == null) {
-			size++;
-		}
-		items[slot] = item;
-		notifyItemUpdated(slot);
+		Item old = itemAt(slot);
+		update(slot, item.getId(), item.getAmount());
 		return old;
 	}
 
+	/**
+	 * Sets the item that is in the specified slot, without creating an
+	 * {@link Item}.
+	 *
+	 * @param slot The slot.
+	 * @param id The id of the item.
+	 * @param amount The amount of the item.
+	 * @throws IndexOutOfBoundsException if the slot is out of bounds.
+	 * @throws IllegalArgumentException if the id or amount is negative.
+	 */
+	public void set(int slot, int id, int amount) {
+		checkBounds(slot);
+		if (id < 0 || amount < 0) {
+			throw new IllegalArgumentException("Id and amount must be positive");
+		}
+		update(slot, id, amount);
+	}
+
 	/**
 	 * Removes the item (if any) that is in the specified slot.
 	 *
@@ -217,12 +269,8 @@ public final class Inventory implements Cloneable {
 	public Item reset(int slot) {
 		checkBounds(slot);
 
-		Item old = items[slot];
-		if (old != null) {
-			size--;
-		}
-		items[slot] = null;
-		notifyItemUpdated(slot);
+		Item old = itemAt(slot);
+		update(slot, EMPTY, 0);
 		return old;
 	}
 
@@ -247,6 +295,24 @@ public final class Inventory implements Cloneable {
 		return failed;
 	}
 
+	/**
+	 * Attempts to remove each of the specified items from this inventory.
+	 *
+	 * @param ids The ids of the items to remove.
+	 * @param amounts The amounts of the items to remove.
+	 * @return The amount of each item that was removed, by index.
+	 * @throws IllegalArgumentException if the arrays differ in length.
+	 */
+	public int[] removeAll(int[] ids, int[] amounts) {
+		Preconditions.checkArgument(ids.length == amounts.length, "Ids and amounts must be of equal length");
+
+		int[] removed = new int[ids.length];
+		for (int index = 0; index < ids.length; index++) {
+			removed[index] = remove(ids[index], amounts[index]);
+		}
+		return removed;
+	}
+
 	/**
 	 * Attempts to add all of the specified {@code items} to this inventory.
 	 *
@@ -258,15 +324,33 @@ public final class Inventory implements Cloneable {
 		List<Item> failed = new ArrayList<>();
 		for (Item item : items) {
 			if (item != null) {
-				Item added = add(item);
-				if (added == null) {
-					failed.add(added);
+				Item remaining = add(item);
+				if (remaining != null) {
+					failed.add(remaining);
 				}
 			}
 		}
 		return failed;
 	}
 
+	/**
+	 * Attempts to add each of the specified items to this inventory.
+	 *
+	 * @param ids The ids of the items to add.
+	 * @param amounts The amounts of the items to add.
+	 * @return The amount of each item that could not be added, by index.
+	 * @throws IllegalArgumentException if the arrays differ in length.
+	 */
+	public int[] addAll(int[] ids, int[] amounts) {
+		Preconditions.checkArgument(ids.length == amounts.length, "Ids and amounts must be of equal length");
+
+		int[] remaining = new int[ids.length];
+		for (int index = 0; index < ids.length; index++) {
+			remaining[index] = add(ids[index], amounts[index]);
+		}
+		return remaining;
+	}
+
 	/**
 	 * An alias for {@code add(id, 1)}.
 	 *
@@ -279,18 +363,58 @@ public final class Inventory implements Cloneable {
 	}
 
 	/**
-	 * An alias for {@code add(new Item(int, int)}.
+	 * Adds an item to this inventory. This will attempt to add as much of the
+	 * item that is possible, if some of the item remains the listeners are
+	 * notified that the capacity has been exceeded.
 	 *
 	 * @param id The id.
 	 * @param amount The amount.
 	 * @return The amount that remains.
+	 * @throws IllegalArgumentException if the amount is negative.
 	 */
 	public int add(int id, int amount) {
-		Item item = add(new Item(id, amount));
-		if (item != null) {
-			return item.getAmount();
+		if (amount < 0) {
+			throw new IllegalArgumentException("Amount must be positive");
+		}
+		if (amount == 0) {
+			return 0;
 		}
-		return 0;
+
+		if (isStackable(id)) {
+			int slot = slotOf(id);
+			if (slot != -1) {
+				long total = (long) amounts[slot] + amount;
+				int remaining = 0;
+				if (total > Integer.MAX_VALUE) {
+					remaining = (int) (total - Integer.MAX_VALUE);
+					total = Integer.MAX_VALUE;
+					notifyCapacityExceeded();
+				}
+				update(slot, id, (int) total);
+				return remaining;
+			}
+
+			slot = slotOf(EMPTY);
+			if (slot == -1) {
+				notifyCapacityExceeded();
+				return amount;
+			}
+			update(slot, id, amount);
+			return 0;
+		}
+
+		int remaining = amount;
+		for (int slot = 0; slot < capacity && remaining > 0; slot++) {
+			if (ids[slot] == EMPTY) {
+				update(slot, id, 1);
+				remaining--;
+			}
+		}
+
+		if (remaining > 0) {
+			notifyCapacityExceeded();
+		}
+		return remaining;
 	}
 
 	/**
@@ -306,64 +430,11 @@ public final class Inventory implements Cloneable {
 	 *         inventory. If nothing remains, {@code null}.
 	 */
 	public Item add(Item item) {
-		int id = item.getId();
-		boolean stackable = isStackable(item.getDefinition());
-		if (stackable) {
-			for (int slot = 0; slot < capacity; slot++) {
-				Item other = items[slot];
-				if (other != null && other.getId() == id) {
-					long total = item.getAmount() + other.getAmount();
-					int amount;
-					int remaining;
-					if (total > Integer.MAX_VALUE) {
-						amount = (int) (total - Integer.MAX_VALUE);
-						remaining = (int) (total - amount);
-						notifyCapacityExceeded();
-					} else {
-						amount = (int) total;
-						remaining = 0;
-					}
-					set(slot, new Item(id, amount));
-					return remaining > 0 ? new Item(id, remaining) : null;
-				}
-			}
-			for (int slot = 0; slot < capacity; slot++) {
-				Item other = items[slot];
-				if (other == null) {
-					set(slot, item);
-					return null;
-				}
-			}
-			notifyCapacityExceeded();
-			return item;
+		int remaining = add(item.getId(), item.getAmount());
+		if (remaining == 0) {
+			return null;
 		}
-
-		int remaining = item.getAmount();
-
-		stopFiringEvents();
-		try {
-			Item single = new Item(item.getId(), 1);
-			for (int slot = 0; slot < capacity; slot++) {
-				if (items[slot] == null) {
-					remaining--;
-					set(slot, single); // share the instances
-					if (remaining <= 0) {
-						break;
-					}
-				}
-			}
-		} finally {
-			startFiringEvents();
-		}
-
-		if (remaining != item.getAmount()) {
-			notifyItemsUpdated();
-		}
-		if (remaining > 0) {
-			notifyCapacityExceeded();
-		}
-
-		return new Item(item.getId(), remaining);
+		return remaining == item.getAmount() ? item : new Item(item.getId(), remaining);
 	}
 
 	/**
@@ -396,34 +467,27 @@ public final class Inventory implements Cloneable {
 	 * @return The amount that was removed.
 	 */
 	public int remove(int id, int amount) {
-		ItemDefinition def = ItemDefinition.forId(id);
-		boolean stackable = isStackable(def);
-		if (stackable) {
-			for (int slot = 0; slot < capacity; slot++) {
-				Item item = items[slot];
-				if (item != null && item.getId() == id) {
-					if (amount >= item.getAmount()) {
-						set(slot, null);
-						return item.getAmount();
-					} else {
-						int newAmount = item.getAmount() - amount;
-						set(slot, new Item(item.getId(), newAmount));
-						return amount;
-					}
-				}
+		if (isStackable(id)) {
+			int slot = slotOf(id);
+			if (slot == -1) {
+				return 0;
 			}
-			return 0;
+
+			int stack = amounts[slot];
+			if (amount >= stack) {
+				update(slot, EMPTY, 0);
+				return stack;
+			}
+			update(slot, id, stack - amount);
+			return amount;
 		}
+
 		int removed = 0;
-		for (int slot = 0; slot < capacity; slot++) {
-			Item item = items[slot];
-			if (item != null && item.getId() == id) {
-				set(slot, null);
+		for (int slot = 0; slot < capacity && removed < amount; slot++) {
+			if (ids[slot] == id) {
+				update(slot, EMPTY, 0);
 				removed++;
 			}
-			if (removed >= amount) {
-				break;
-			}
 		}
 		return removed;
 	}
@@ -432,13 +496,15 @@ public final class Inventory implements Cloneable {
 	 * Shifts all items to the top left of the container, leaving no gaps.
 	 */
 	public void shift() {
-		Item[] old = items;
-		items = new Item[capacity];
-		for (int i = 0, pos = 0; i < items.length; i++) {
-			if (old[i] != null) {
-				items[pos++] = old[i];
+		for (int slot = 0, pos = 0; slot < capacity; slot++) {
+			if (ids[slot] != EMPTY) {
+				ids[pos] = ids[slot];
+				amounts[pos++] = amounts[slot];
 			}
 		}
+
+		Arrays.fill(ids, size, capacity, EMPTY);
+		Arrays.fill(amounts, size, capacity, 0);
 		notifyItemsUpdated();
 	}
 
@@ -475,14 +541,62 @@ public final class Inventory implements Cloneable {
 			} // else no change is required - aren't we lucky?
 			forceRefresh();
 		} else {
-			Item temp = items[oldSlot];
-			items[oldSlot] = items[newSlot];
-			items[newSlot] = temp;
+			int id = ids[oldSlot];
+			int amount = amounts[oldSlot];
+			ids[oldSlot] = ids[newSlot];
+			amounts[oldSlot] = amounts[newSlot];
+			ids[newSlot] = id;
+			amounts[newSlot] = amount;
 			notifyItemUpdated(oldSlot);
 			notifyItemUpdated(newSlot);
 		}
 	}
 
+	/**
+	 * Sets the id and amount of the item in the specified slot, updating the
+	 * size of this inventory and notifying listeners.
+	 *
+	 * @param slot The slot.
+	 * @param id The id, or {@link #EMPTY} to empty the slot.
+	 * @param amount The amount.
+	 */
+	private void update(int slot, int id, int amount) {
+		if (ids[slot] == EMPTY && id != EMPTY) {
+			size++;
+		} else if (ids[slot] != EMPTY && id == EMPTY) {
+			size--;
+		}
+
+		ids[slot] = id;
+		amounts[slot] = id == EMPTY ? 0 : amount;
+		notifyItemUpdated(slot);
+	}
+
+	/**
+	 * Gets the first slot holding the item with the specified id.
+	 *
+	 * @param id The id, or {@link #EMPTY} to find the first empty slot.
+	 * @return The slot, or {@code -1} if there is no such slot.
+	 */
+	private int slotOf(int id) {
+		for (int slot = 0; slot < capacity; slot++) {
+			if (ids[slot] == id) {
+				return slot;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Creates the item in the specified slot.
+	 *
+	 * @param slot The slot.
+	 * @return The item, or {@code null} if the slot is empty.
+	 */
+	private Item itemAt(int slot) {
+		return ids[slot] == EMPTY ? null : new Item(ids[slot], amounts[slot]);
+	}
+
 	/**
 	 * Adds a listener.
 	 *
@@ -533,8 +647,7 @@ public final class Inventory implements Cloneable {
 	 */
 	private void notifyItemUpdated(int slot) {
 		if (firingEvents) {
-			Item item = items[slot];
-			listeners.forEach(listener -> listener.itemUpdated(this, slot, item));
+			listeners.forEach(listener -> listener.itemUpdated(this, slot));
 		}
 	}
 
@@ -551,18 +664,18 @@ public final class Inventory implements Cloneable {
 	}
 
 	/**
-	 * Checks if the item specified by the definition should be stacked.
+	 * Checks if the item with the specified id should be stacked.
 	 *
-	 * @param def The definition.
+	 * @param id The id of the item.
 	 * @return {@code true} if the item should be stacked, {@code false}
 	 *         otherwise.
 	 */
-	private boolean isStackable(ItemDefinition def) {
+	private boolean isStackable(int id) {
 		switch (mode) {
 		case STACK_ALWAYS:
 			return true;
 		case STACK_STACKABLE_ITEMS:
-			return def.isStackable();
+			return ItemDefinition.isStackable(id);
 		case STACK_NEVER:
 			return false;
 		}
@@ -599,12 +712,16 @@ public final class Inventory implements Cloneable {
 	}
 
 	/**
-	 * Gets a clone of the items array.
+	 * Gets the items within this inventory, by slot.
 	 *
-	 * @return A clone of the items array.
+	 * @return A new array of the items.
 	 */
 	public Item[] getItems() {
-		return items.clone();
+		Item[] items = new Item[capacity];
+		for (int slot = 0; slot < capacity; slot++) {
+			items[slot] = itemAt(slot);
+		}
+		return items;
 	}
 
 	/**
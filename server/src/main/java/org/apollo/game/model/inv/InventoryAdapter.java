@@ -1,7 +1,5 @@
 package org.apollo.game.model.inv;
 
-import org.apollo.game.model.Item;
-
 /**
  * An adapter for the {@link InventoryListener}.
  *
@@ -15,7 +13,7 @@ public abstract class InventoryAdapter implements InventoryListener {
 	}
 
 	@Override
-	public void itemUpdated(Inventory inventory, int slot, Item item) {
+	public void itemUpdated(Inventory inventory, int slot) {
 		/* empty */
 	}
 
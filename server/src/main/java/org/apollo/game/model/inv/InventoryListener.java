@@ -1,7 +1,5 @@
 package org.apollo.game.model.inv;
 
-import org.apollo.game.model.Item;
-
 /**
  * An interface which listens to events from an {@link Inventory}.
  *
@@ -20,10 +18,9 @@ public interface InventoryListener {
 	 * Called when an item has been updated.
 	 *
 	 * @param inventory The inventory.
-	 * @param slot The slot.
-	 * @param item The new item, or {@code null} if there is no new item.
+	 * @param slot The slot, whose new item may be read from the inventory.
 	 */
-	void itemUpdated(Inventory inventory, int slot, Item item);
+	void itemUpdated(Inventory inventory, int slot);
 
 	/**
 	 * Called when items have been updated in bulk.
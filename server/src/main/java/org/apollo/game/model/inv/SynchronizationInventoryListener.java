@@ -1,6 +1,7 @@
 package org.apollo.game.model.inv;
 
-import org.apollo.game.model.Item;
+import java.util.BitSet;
+
 import org.apollo.game.model.Player;
 import org.apollo.game.model.SlottedItem;
 import org.apollo.game.msg.impl.UpdateItemsMessage;
@@ -10,6 +11,12 @@ import org.apollo.game.msg.impl.UpdateSlottedItemsMessage;
  * An {@link InventoryListener} which synchronizes the state of the server's
  * inventory with the client's.
  *
+ * <p>
+ * Changed slots are accumulated and sent when the player is next
+ * synchronized, as a single message per inventory, rather than a message for
+ * every change.
+ * </p>
+ *
  * @author Graham
  */
 public final class SynchronizationInventoryListener extends InventoryAdapter {
@@ -24,6 +31,21 @@ public final class SynchronizationInventoryListener extends InventoryAdapter {
 	 */
 	private final int interfaceId;
 
+	/**
+	 * The slots which have changed since the last flush.
+	 */
+	private final BitSet dirty = new BitSet();
+
+	/**
+	 * Whether or not every slot has changed since the last flush.
+	 */
+	private boolean refresh;
+
+	/**
+	 * The inventory with changes to flush, or {@code null} if there are none.
+	 */
+	private Inventory inventory;
+
 	/**
 	 * Creates the synchronization inventory listener.
 	 *
@@ -36,13 +58,54 @@ public final class SynchronizationInventoryListener extends InventoryAdapter {
 	}
 
 	@Override
-	public void itemUpdated(Inventory inventory, int slot, Item item) {
-		player.send(new UpdateSlottedItemsMessage(interfaceId, new SlottedItem(slot, item)));
+	public void itemUpdated(Inventory inventory, int slot) {
+		if (!refresh) {
+			dirty.set(slot);
+		}
+		schedule(inventory);
 	}
 
 	@Override
 	public void itemsUpdated(Inventory inventory) {
-		player.send(new UpdateItemsMessage(interfaceId, inventory.getItems()));
+		refresh = true;
+		dirty.clear();
+		schedule(inventory);
+	}
+
+	/**
+	 * Schedules the changes of the specified inventory to be flushed when the
+	 * player is next synchronized.
+	 *
+	 * @param inventory The inventory.
+	 */
+	private void schedule(Inventory inventory) {
+		if (this.inventory == null) {
+			player.queueInventorySynchronization(this);
+		}
+		this.inventory = inventory;
+	}
+
+	/**
+	 * Sends the changes made since the last flush, if any.
+	 */
+	public void flush() {
+		if (inventory == null) {
+			return;
+		}
+
+		if (refresh) {
+			player.send(new UpdateItemsMessage(interfaceId, inventory.getItems()));
+		} else {
+			SlottedItem[] items = new SlottedItem[dirty.cardinality()];
+			for (int slot = dirty.nextSetBit(0), index = 0; slot >= 0; slot = dirty.nextSetBit(slot + 1)) {
+				items[index++] = new SlottedItem(slot, inventory.get(slot));
+			}
+			player.send(new UpdateSlottedItemsMessage(interfaceId, items));
+		}
+
+		dirty.clear();
+		refresh = false;
+		inventory = null;
 	}
 
-}
\ No newline at end of file
+}
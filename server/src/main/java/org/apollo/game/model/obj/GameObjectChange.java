@@ -0,0 +1,78 @@
+package org.apollo.game.model.obj;
+
+/**
+ * A single versioned change to the {@link GameObject}s within a region.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class GameObjectChange {
+
+	/**
+	 * Represents the type of a change.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	public enum Type {
+
+		/**
+		 * The game object was added.
+		 */
+		ADDED,
+
+		/**
+		 * The game object was removed.
+		 */
+		REMOVED
+
+	}
+
+	/**
+	 * The game object which changed.
+	 */
+	private final GameObject object;
+
+	/**
+	 * The type of this change.
+	 */
+	private final Type type;
+
+	/**
+	 * The version of the region after this change.
+	 */
+	private final int version;
+
+	/**
+	 * Constructs a new {@link GameObjectChange}.
+	 *
+	 * @param object The game object which changed.
+	 * @param type The type of this change.
+	 * @param version The version of the region after this change.
+	 */
+	public GameObjectChange(GameObject object, Type type, int version) {
+		this.object = object;
+		this.type = type;
+		this.version = version;
+	}
+
+	/**
+	 * Returns the game object which changed.
+	 */
+	public GameObject getObject() {
+		return object;
+	}
+
+	/**
+	 * Returns the type of this change.
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the version of the region after this change.
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+}
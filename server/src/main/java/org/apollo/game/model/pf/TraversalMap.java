@@ -44,6 +44,11 @@ import org.apollo.game.model.region.Region;
  */
 public final class TraversalMap {
 
+	/**
+	 * The most tiles which can be traversable from a single tile.
+	 */
+	public static final int NEARBY_TILES = 8;
+
 	/**
 	 * The world.
 	 */
@@ -330,17 +335,17 @@ public final class TraversalMap {
 		int localX = x & 0x3F;
 		int localY = y & 0x3F;
 
-		Region region = world.getRegionRepository().getRegion(new Position(x, y));
+		Region region = world.getRegionRepository().getRegionIfPresent(x, y);
 		if (region == null) {
 			return;
 		}
 
 		int modifiedHeight = height;
-		if (region.getTile(1, localX, localY).isActive(BRIDGE)) {
+		if ((region.getFlags(1, localX, localY) & BRIDGE) != 0) {
 			modifiedHeight = height - 1;
 		}
 
-		region.getTile(modifiedHeight, x & 0x3F, y & 0x3F).set(BLOCKED);
+		region.setFlag(modifiedHeight, localX, localY, BLOCKED);
 	}
 
 	/**
@@ -792,12 +797,12 @@ public final class TraversalMap {
 	 * @param flag The flag to put on this tile.
 	 */
 	public void set(int height, int x, int y, int flag) {
-		Region region = world.getRegionRepository().getRegion(new Position(x, y));
+		Region region = world.getRegionRepository().getRegionIfPresent(x, y);
 		if (region == null) {
 			return;
 		}
 
-		region.getTile(height, x & 0x3F, y & 0x3F).set(flag);
+		region.setFlag(height, x & 0x3F, y & 0x3F, flag);
 	}
 
 	/**
@@ -815,17 +820,17 @@ public final class TraversalMap {
 		int localX = x & 0x3F;
 		int localY = y & 0x3F;
 
-		Region region = world.getRegionRepository().getRegion(new Position(x, y));
+		Region region = world.getRegionRepository().getRegionIfMapped(x, y);
 		if (region == null) {
 			return false;
 		}
 
 		int modifiedHeight = height;
-		if (region.getTile(1, localX, localY).isActive(BRIDGE)) {
+		if ((region.getFlags(1, localX, localY) & BRIDGE) != 0) {
 			modifiedHeight = height + 1;
 		}
 
-		return region.getTile(modifiedHeight, localX, localY).isInactive(flag);
+		return (region.getFlags(modifiedHeight, localX, localY) & flag) == 0;
 	}
 
 	/**
@@ -837,12 +842,12 @@ public final class TraversalMap {
 	 * @param flag The flag to unset from the specified position.
 	 */
 	public void unset(int height, int x, int y, int flag) {
-		Region region = world.getRegionRepository().getRegion(new Position(x, y));
+		Region region = world.getRegionRepository().getRegionIfPresent(x, y);
 		if (region == null) {
 			return;
 		}
 
-		region.getTile(height, x & 0x3F, y & 0x3F).unset(flag);
+		region.unsetFlag(height, x & 0x3F, y & 0x3F, flag);
 	}
 
 	/**
@@ -856,23 +861,39 @@ public final class TraversalMap {
 	 *         <code>false</code>.
 	 */
 	public boolean isTraversable(Position from, Direction direction, int size) {
+		return isTraversable(from.getHeight(), from.getX(), from.getY(), direction, size);
+	}
+
+	/**
+	 * Tests whether or not the specified coordinates are traversable in the
+	 * specified direction.
+	 *
+	 * @param height The height.
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param direction The direction to traverse.
+	 * @param size The size of the entity attempting to traverse.
+	 * @return <code>true</code> if the direction is traversable otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isTraversable(int height, int x, int y, Direction direction, int size) {
 		switch (direction) {
 		case NORTH:
-			return isTraversableNorth(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableNorth(height, x, y, size);
 		case SOUTH:
-			return isTraversableSouth(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableSouth(height, x, y, size);
 		case EAST:
-			return isTraversableEast(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableEast(height, x, y, size);
 		case WEST:
-			return isTraversableWest(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableWest(height, x, y, size);
 		case NORTH_EAST:
-			return isTraversableNorthEast(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableNorthEast(height, x, y, size);
 		case NORTH_WEST:
-			return isTraversableNorthWest(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableNorthWest(height, x, y, size);
 		case SOUTH_EAST:
-			return isTraversableSouthEast(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableSouthEast(height, x, y, size);
 		case SOUTH_WEST:
-			return isTraversableSouthWest(from.getHeight(), from.getX(), from.getY(), size);
+			return isTraversableSouthWest(height, x, y, size);
 		case NONE:
 			return true;
 		default:
@@ -880,6 +901,21 @@ public final class TraversalMap {
 		}
 	}
 
+	/**
+	 * Tests whether or not the specified packed position is traversable in the
+	 * specified direction.
+	 *
+	 * @param from The packed position.
+	 * @param direction The direction to traverse.
+	 * @param size The size of the entity attempting to traverse.
+	 * @return <code>true</code> if the direction is traversable otherwise
+	 *         <code>false</code>.
+	 * @see Position#pack(int, int, int)
+	 */
+	public boolean isTraversable(int from, Direction direction, int size) {
+		return isTraversable(Position.unpackHeight(from), Position.unpackX(from), Position.unpackY(from), direction, size);
+	}
+
 	/**
 	 * Returns a {@link List} of positions that are traversable from the
 	 * specified position.
@@ -889,41 +925,66 @@ public final class TraversalMap {
 	 * @return A {@link List} of positions.
 	 */
 	public Set<Position> getNearbyTraversableTiles(Position from, int size) {
+		int[] tiles = new int[NEARBY_TILES];
+		int count = getNearbyTraversableTiles(from.pack(), size, tiles);
+
 		Set<Position> positions = new HashSet<>();
+		for (int index = 0; index < count; index++) {
+			positions.add(Position.unpack(tiles[index]));
+		}
+		return positions;
+	}
+
+	/**
+	 * Finds the packed positions that are traversable from the specified
+	 * packed position, without allocating.
+	 *
+	 * @param from The packed position.
+	 * @param size The size of the mob attempting to traverse.
+	 * @param tiles The array to place the traversable packed positions in,
+	 *            which must hold at least {@link #NEARBY_TILES} elements.
+	 * @return The amount of traversable positions placed in the array.
+	 */
+	public int getNearbyTraversableTiles(int from, int size, int[] tiles) {
+		int height = Position.unpackHeight(from);
+		int x = Position.unpackX(from);
+		int y = Position.unpackY(from);
 
-		if (isTraversableNorth(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX(), from.getY() + 1, from.getHeight()));
+		int count = 0;
+
+		if (isTraversableNorth(height, x, y, size)) {
+			tiles[count++] = Position.pack(x, y + 1, height);
 		}
 
-		if (isTraversableSouth(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX(), from.getY() - 1, from.getHeight()));
+		if (isTraversableSouth(height, x, y, size)) {
+			tiles[count++] = Position.pack(x, y - 1, height);
 		}
 
-		if (isTraversableEast(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX() + 1, from.getY(), from.getHeight()));
+		if (isTraversableEast(height, x, y, size)) {
+			tiles[count++] = Position.pack(x + 1, y, height);
 		}
 
-		if (isTraversableWest(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX() - 1, from.getY(), from.getHeight()));
+		if (isTraversableWest(height, x, y, size)) {
+			tiles[count++] = Position.pack(x - 1, y, height);
 		}
 
-		if (isTraversableNorthEast(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX() + 1, from.getY() + 1, from.getHeight()));
+		if (isTraversableNorthEast(height, x, y, size)) {
+			tiles[count++] = Position.pack(x + 1, y + 1, height);
 		}
 
-		if (isTraversableNorthWest(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX() - 1, from.getY() + 1, from.getHeight()));
+		if (isTraversableNorthWest(height, x, y, size)) {
+			tiles[count++] = Position.pack(x - 1, y + 1, height);
 		}
 
-		if (isTraversableSouthEast(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX() + 1, from.getY() - 1, from.getHeight()));
+		if (isTraversableSouthEast(height, x, y, size)) {
+			tiles[count++] = Position.pack(x + 1, y - 1, height);
 		}
 
-		if (isTraversableSouthWest(from.getHeight(), from.getX(), from.getY(), size)) {
-			positions.add(new Position(from.getX() - 1, from.getY() - 1, from.getHeight()));
+		if (isTraversableSouthWest(height, x, y, size)) {
+			tiles[count++] = Position.pack(x - 1, y - 1, height);
 		}
 
-		return positions;
+		return count;
 	}
 
 }
\ No newline at end of file
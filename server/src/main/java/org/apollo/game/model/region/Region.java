@@ -1,13 +1,21 @@
 package org.apollo.game.model.region;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apollo.game.model.Entity;
 import org.apollo.game.model.Entity.EntityCategory;
 import org.apollo.game.model.Position;
+import org.apollo.game.model.obj.GameObject;
+import org.apollo.game.model.obj.GameObjectChange;
+import org.apollo.game.model.obj.GameObjectGroup;
 
 /**
  * Represents a single region.
@@ -32,33 +40,74 @@ public final class Region {
 	public static final int MAXIMUM_HEIGHT_LEVEL = 4;
 
 	/**
-	 * The tiles within the region.
+	 * The traversal flags of the tiles within this region, by height. The
+	 * flags of a height are only allocated once a flag is set upon it, so
+	 * regions which are mostly open, such as the ocean, stay small.
 	 */
-	private final Tile[][] tiles = new Tile[MAXIMUM_HEIGHT_LEVEL][REGION_SIZE * REGION_SIZE];
+	private final int[][] flags = new int[MAXIMUM_HEIGHT_LEVEL][];
 
 	/**
-	 * A set of entities within this region.
+	 * The entities within this region.
 	 */
-	private final Set<Entity> entities = new HashSet<>();
+	private final EntitySet entities = new EntitySet();
+
+	/**
+	 * The entities within this region, by category.
+	 */
+	private final Map<EntityCategory, EntitySet> categories = new EnumMap<>(EntityCategory.class);
+
+	/**
+	 * The entities within this region, by local tile.
+	 */
+	private final Map<Integer, EntitySet> tileEntities = new HashMap<>();
+
+	/**
+	 * The entities within this region, by category and then by local tile.
+	 */
+	private final Map<EntityCategory, Map<Integer, EntitySet>> categoryTileEntities = new EnumMap<>(EntityCategory.class);
+
+	/**
+	 * The game object slots changed since the map was loaded, by local tile
+	 * and object group.
+	 */
+	private final Map<Integer, ObjectSlot> objectSlots = new HashMap<>();
+
+	/**
+	 * The game object changes made since they were last committed.
+	 */
+	private final List<GameObjectChange> objectChanges = new ArrayList<>();
+
+	/**
+	 * The current version of the game objects within this region, incremented
+	 * with every change.
+	 */
+	private int objectVersion;
 
 	/**
 	 * Constructs a new {@link Region}.
 	 */
 	protected Region() {
-		for (int height = 0; height < MAXIMUM_HEIGHT_LEVEL; height++) {
-			for (int regionId = 0; regionId < REGION_SIZE * REGION_SIZE; regionId++) {
-				tiles[height][regionId] = new Tile();
-			}
+		for (EntityCategory category : EntityCategory.values()) {
+			categories.put(category, new EntitySet());
+			categoryTileEntities.put(category, new HashMap<>());
 		}
 	}
 
 	/**
-	 * Adds an {@link Entity} to this region.
+	 * Adds an {@link Entity} to this region. Entities are indexed by their
+	 * position, so an entity must be removed before its position changes.
 	 *
 	 * @param entity The entity to add.
 	 */
 	public void addEntity(Entity entity) {
-		entities.add(entity);
+		if (!entities.add(entity)) {
+			return;
+		}
+
+		int tile = getLocalTile(entity.getPosition());
+		categories.get(entity.getCategory()).add(entity);
+		tileEntities.computeIfAbsent(tile, key -> new EntitySet()).add(entity);
+		categoryTileEntities.get(entity.getCategory()).computeIfAbsent(tile, key -> new EntitySet()).add(entity);
 	}
 
 	/**
@@ -67,16 +116,37 @@ public final class Region {
 	 * @param entity The entity to remove.
 	 */
 	public void removeEntity(Entity entity) {
-		entities.remove(entity);
+		if (!entities.remove(entity)) {
+			return;
+		}
+
+		int tile = getLocalTile(entity.getPosition());
+		categories.get(entity.getCategory()).remove(entity);
+		removeFromTile(tileEntities, tile, entity);
+		removeFromTile(categoryTileEntities.get(entity.getCategory()), tile, entity);
 	}
 
 	/**
-	 * Tests whether or not the {@link #entities} {@link Set} contains the
-	 * specified {@link Entity}.
+	 * Removes an {@link Entity} from the set of the specified tile, discarding
+	 * the set once it is empty.
+	 *
+	 * @param tiles The sets of entities by local tile.
+	 * @param tile The local tile.
+	 * @param entity The entity to remove.
+	 */
+	private static void removeFromTile(Map<Integer, EntitySet> tiles, int tile, Entity entity) {
+		EntitySet set = tiles.get(tile);
+		if (set != null && set.remove(entity) && set.isEmpty()) {
+			tiles.remove(tile);
+		}
+	}
+
+	/**
+	 * Tests whether or not this region contains the specified {@link Entity}.
 	 *
 	 * @param entity The entity.
-	 * @return {@code true} if and only if the entities set contains the
-	 *         specified entity otherwise {@code false}.
+	 * @return {@code true} if and only if this region contains the specified
+	 *         entity otherwise {@code false}.
 	 */
 	public boolean contains(Entity entity) {
 		return entities.contains(entity);
@@ -85,11 +155,10 @@ public final class Region {
 	/**
 	 * Gets the entities within this region.
 	 *
-	 * @return A {@link Set} of entities in this region.
+	 * @return An immutable {@link Set} of entities in this region.
 	 */
-	@SuppressWarnings("unchecked")
 	public <T extends Entity> Set<T> getEntities() {
-		return (Set<T>) entities;
+		return entities.view();
 	}
 
 	/**
@@ -97,22 +166,20 @@ public final class Region {
 	 * region.
 	 *
 	 * @param category The category of entity to get.
-	 * @return A {@link Set} of entities in this region.
+	 * @return An immutable {@link Set} of entities in this region.
 	 */
 	public <T extends Entity> Set<T> getEntities(EntityCategory category) {
-		Set<T> entities = getEntities();
-		return entities.stream().filter(e -> e.getCategory() == category).collect(Collectors.toSet());
+		return categories.get(category).view();
 	}
 
 	/**
 	 * Gets the entities on the specified {@link Position}.
 	 *
 	 * @param position The position.
-	 * @return A {@link Set} of entities on the specified position.
+	 * @return An immutable {@link Set} of entities on the specified position.
 	 */
 	public <T extends Entity> Set<T> getEntities(Position position) {
-		Set<T> entities = getEntities();
-		return entities.stream().filter(e -> e.getPosition().equals(position)).collect(Collectors.toSet());
+		return view(tileEntities.get(getLocalTile(position)));
 	}
 
 	/**
@@ -121,30 +188,349 @@ public final class Region {
 	 *
 	 * @param position The position.
 	 * @param category The category of the entity.
-	 * @return A {@link Set} of entities on the specified position.
+	 * @return An immutable {@link Set} of entities on the specified position.
 	 */
 	public <T extends Entity> Set<T> getEntities(Position position, EntityCategory category) {
-		Set<T> entities = getEntities(position);
-		return entities.stream().filter(e -> e.getCategory() == category).collect(Collectors.toSet());
+		return view(categoryTileEntities.get(category).get(getLocalTile(position)));
+	}
+
+	/**
+	 * Returns the immutable view of the specified set of entities.
+	 *
+	 * @param set The set of entities, may be {@code null}.
+	 * @return The view, or an empty set if the set is {@code null}.
+	 */
+	private static <T extends Entity> Set<T> view(EntitySet set) {
+		return set == null ? Collections.emptySet() : set.view();
+	}
+
+	/**
+	 * Gets the local tile of the specified {@link Position}, its height and
+	 * coordinates within its region packed into a single {@code int}.
+	 *
+	 * @param position The position.
+	 * @return The local tile.
+	 */
+	private static int getLocalTile(Position position) {
+		return position.getHeight() << 12 | (position.getY() & REGION_SIZE - 1) << 6 | position.getX() & REGION_SIZE - 1;
+	}
+
+	/**
+	 * Adds a dynamic {@link GameObject} to this region, replacing the game
+	 * object of the same group on its tile, if any. Game objects loaded from
+	 * the map are added with {@link #addEntity(Entity)} instead and form the
+	 * baseline which changes are recorded against.
+	 *
+	 * @param object The game object to add.
+	 */
+	public void addObject(GameObject object) {
+		ObjectSlot slot = getObjectSlot(object);
+		if (slot.current != null) {
+			removeEntity(slot.current);
+		}
+
+		slot.current = object;
+		addEntity(object);
+		recordObjectChange(object, GameObjectChange.Type.ADDED, slot);
+	}
+
+	/**
+	 * Removes a {@link GameObject} from this region, if the game object in the
+	 * same group on its tile has the same id.
+	 *
+	 * @param object The game object to remove.
+	 * @return {@code true} if a game object was removed, otherwise
+	 *         {@code false}.
+	 */
+	public boolean removeObject(GameObject object) {
+		ObjectSlot slot = getObjectSlot(object);
+		GameObject current = slot.current;
+		if (current == null || current.getId() != object.getId()) {
+			discardIfUnchanged(object, slot);
+			return false;
+		}
+
+		slot.current = null;
+		removeEntity(current);
+		recordObjectChange(current, GameObjectChange.Type.REMOVED, slot);
+		return true;
+	}
+
+	/**
+	 * Gets the slot of the specified game object, creating it from the
+	 * baseline game object on its tile if it has not changed yet.
+	 *
+	 * @param object The game object.
+	 * @return The slot.
+	 */
+	private ObjectSlot getObjectSlot(GameObject object) {
+		int group = GameObjectGroup.OBJECT_GROUPS[object.getType().getId()];
+		return objectSlots.computeIfAbsent(getObjectSlotKey(object), key -> {
+			Set<GameObject> objects = getEntities(object.getPosition(), EntityCategory.GAME_OBJECT);
+			GameObject baseline = objects.stream().filter(other -> GameObjectGroup.OBJECT_GROUPS[other.getType().getId()] == group).findFirst().orElse(null);
+			return new ObjectSlot(baseline);
+		});
+	}
+
+	/**
+	 * Records a change to the game objects within this region.
+	 *
+	 * @param object The game object which changed.
+	 * @param type The type of change.
+	 * @param slot The slot of the game object.
+	 */
+	private void recordObjectChange(GameObject object, GameObjectChange.Type type, ObjectSlot slot) {
+		objectChanges.add(new GameObjectChange(object, type, ++objectVersion));
+		discardIfUnchanged(object, slot);
+	}
+
+	/**
+	 * Discards the specified slot if it no longer differs from the baseline.
+	 * A game object equal to the baseline, such as a door which has been
+	 * closed again, restores the baseline.
+	 *
+	 * @param object The game object within the slot.
+	 * @param slot The slot.
+	 */
+	private void discardIfUnchanged(GameObject object, ObjectSlot slot) {
+		if (isEquivalent(slot.current, slot.baseline)) {
+			objectSlots.remove(getObjectSlotKey(object));
+		}
+	}
+
+	/**
+	 * Tests whether or not the specified game objects, within the same slot,
+	 * look the same to the client.
+	 *
+	 * @param first The first game object, may be {@code null}.
+	 * @param second The second game object, may be {@code null}.
+	 * @return {@code true} if both are {@code null} or share their id, type
+	 *         and orientation, otherwise {@code false}.
+	 */
+	private static boolean isEquivalent(GameObject first, GameObject second) {
+		if (first == null || second == null) {
+			return first == second;
+		}
+		return first.getId() == second.getId() && first.getType() == second.getType() && first.getOrientation() == second.getOrientation();
+	}
+
+	/**
+	 * Gets the differences between the game objects within this region and
+	 * the baseline loaded from the map, as the changes which would turn the
+	 * baseline into the current state.
+	 *
+	 * @return The differences, with a version of this regions current version.
+	 */
+	public List<GameObjectChange> getObjectDifferences() {
+		if (objectSlots.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<GameObjectChange> differences = new ArrayList<>(objectSlots.size());
+		for (ObjectSlot slot : objectSlots.values()) {
+			if (slot.current != null) {
+				differences.add(new GameObjectChange(slot.current, GameObjectChange.Type.ADDED, objectVersion));
+			} else {
+				differences.add(new GameObjectChange(slot.baseline, GameObjectChange.Type.REMOVED, objectVersion));
+			}
+		}
+		return differences;
+	}
+
+	/**
+	 * Gets the game object changes made since they were last committed, in
+	 * the order they were made.
+	 *
+	 * @return An immutable {@link List} of the changes.
+	 */
+	public List<GameObjectChange> getObjectChanges() {
+		return Collections.unmodifiableList(objectChanges);
+	}
+
+	/**
+	 * Commits the game object changes, once every player which can see this
+	 * region has been sent them.
+	 */
+	public void commitObjectChanges() {
+		objectChanges.clear();
+	}
+
+	/**
+	 * Returns the current version of the game objects within this region.
+	 */
+	public int getObjectVersion() {
+		return objectVersion;
+	}
+
+	/**
+	 * Gets the key of the slot of the specified game object, its local tile
+	 * and object group packed into a single {@code int}.
+	 *
+	 * @param object The game object.
+	 * @return The key.
+	 */
+	private static int getObjectSlotKey(GameObject object) {
+		return getLocalTile(object.getPosition()) << 2 | GameObjectGroup.OBJECT_GROUPS[object.getType().getId()];
+	}
+
+	/**
+	 * Gets the traversal flags of a single tile in this region from the
+	 * specified height, x and y coordinates.
+	 *
+	 * @param height The height.
+	 * @param x The local x coordinate.
+	 * @param y The local y coordinate.
+	 * @return The flags of the tile.
+	 */
+	public int getFlags(int height, int x, int y) {
+		int[] plane = flags[height];
+		return plane == null ? 0 : plane[x + y * REGION_SIZE];
+	}
+
+	/**
+	 * Sets the specified flag on a single tile in this region.
+	 *
+	 * @param height The height.
+	 * @param x The local x coordinate.
+	 * @param y The local y coordinate.
+	 * @param flag The flag to set.
+	 */
+	public void setFlag(int height, int x, int y, int flag) {
+		int[] plane = flags[height];
+		if (plane == null) {
+			plane = flags[height] = new int[REGION_SIZE * REGION_SIZE];
+		}
+		plane[x + y * REGION_SIZE] |= flag;
 	}
 
 	/**
-	 * Gets a single tile in this region from the specified height, x and y
-	 * coordinates.
+	 * Unsets the specified flag from a single tile in this region.
 	 *
 	 * @param height The height.
-	 * @param x The x coordinate.
-	 * @param y The y coordinate.
-	 * @return The tile in this region for the specified attributes.
+	 * @param x The local x coordinate.
+	 * @param y The local y coordinate.
+	 * @param flag The flag to unset.
+	 */
+	public void unsetFlag(int height, int x, int y, int flag) {
+		int[] plane = flags[height];
+		if (plane != null) {
+			plane[x + y * REGION_SIZE] &= ~flag;
+		}
+	}
+
+	/**
+	 * Tests whether or not this region holds only the game objects loaded
+	 * from the map, that is every entity within it is a game object and no
+	 * game object has been changed.
+	 *
+	 * @return {@code true} if this region holds only its static game objects,
+	 *         otherwise {@code false}.
+	 */
+	public boolean isStatic() {
+		return entities.view().size() == categories.get(EntityCategory.GAME_OBJECT).view().size() && objectSlots.isEmpty() && objectChanges.isEmpty();
+	}
+
+	/**
+	 * A mutable set of entities along with its immutable view.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	private static final class EntitySet {
+
+		/**
+		 * The entities.
+		 */
+		private final Set<Entity> entities = new HashSet<>();
+
+		/**
+		 * The immutable view of the entities.
+		 */
+		private final Set<Entity> view = Collections.unmodifiableSet(entities);
+
+		/**
+		 * Adds the specified entity.
+		 *
+		 * @param entity The entity.
+		 * @return {@code true} if the entity was added.
+		 */
+		public boolean add(Entity entity) {
+			return entities.add(entity);
+		}
+
+		/**
+		 * Removes the specified entity.
+		 *
+		 * @param entity The entity.
+		 * @return {@code true} if the entity was removed.
+		 */
+		public boolean remove(Entity entity) {
+			return entities.remove(entity);
+		}
+
+		/**
+		 * Tests whether or not this set contains the specified entity.
+		 *
+		 * @param entity The entity.
+		 * @return {@code true} if this set contains the entity.
+		 */
+		public boolean contains(Entity entity) {
+			return entities.contains(entity);
+		}
+
+		/**
+		 * Tests whether or not this set is empty.
+		 *
+		 * @return {@code true} if this set is empty.
+		 */
+		public boolean isEmpty() {
+			return entities.isEmpty();
+		}
+
+		/**
+		 * Returns the immutable view of this set.
+		 *
+		 * @return The view.
+		 */
+		@SuppressWarnings("unchecked")
+		public <T extends Entity> Set<T> view() {
+			return (Set<T>) view;
+		}
+
+	}
+
+	/**
+	 * The game object of a single object group on a single tile.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
 	 */
-	public Tile getTile(int height, int x, int y) {
-		return tiles[height][x + y * REGION_SIZE];
+	private static final class ObjectSlot {
+
+		/**
+		 * The game object loaded from the map, may be {@code null}.
+		 */
+		private final GameObject baseline;
+
+		/**
+		 * The current game object, may be {@code null}.
+		 */
+		private GameObject current;
+
+		/**
+		 * Constructs a new {@link ObjectSlot}.
+		 *
+		 * @param baseline The game object loaded from the map.
+		 */
+		public ObjectSlot(GameObject baseline) {
+			this.baseline = baseline;
+			current = baseline;
+		}
+
 	}
 
 	@Override
 	public int hashCode() {
-		int result = 31 + entities.hashCode();
-		result = 31 * result + Arrays.hashCode(tiles);
+		int result = 31 + entities.view().hashCode();
+		result = 31 * result + Arrays.deepHashCode(flags);
 		return result;
 	}
 
@@ -157,7 +543,7 @@ public final class Region {
 			return false;
 		}
 		Region other = (Region) obj;
-		return entities.equals(other.entities) && !Arrays.deepEquals(tiles, other.tiles);
+		return entities.view().equals(other.entities.view()) && Arrays.deepEquals(flags, other.flags);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package org.apollo.game.model.region;
+
+import java.util.Arrays;
+
+import org.apollo.game.model.Player;
+import org.apollo.game.model.Position;
+
+/**
+ * Tracks which regions are active, a region is active while a {@link Player}
+ * is close enough to see into it. Characters within inactive regions are
+ * dormant and may skip their per-pulse work entirely.
+ *
+ * <p>
+ * Activity is updated once per pulse on the game thread and may be read from
+ * any thread afterwards.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class RegionActivity {
+
+	/**
+	 * The distance from a player within which regions are active. A running
+	 * player may move two tiles after activity has been updated and before
+	 * the world is synchronized.
+	 */
+	private static final int ACTIVITY_DISTANCE = Position.MAXIMUM_DISTANCE + 2;
+
+	/**
+	 * Whether or not each region is active, indexed by region id.
+	 */
+	private final boolean[] active = new boolean[Region.SIZE * Region.SIZE];
+
+	/**
+	 * The amount of active regions.
+	 */
+	private int activeRegions;
+
+	/**
+	 * Updates the activity of every region from the positions of the specified
+	 * players.
+	 *
+	 * @param players The players.
+	 */
+	public void update(Iterable<Player> players) {
+		Arrays.fill(active, false);
+		activeRegions = 0;
+
+		for (Player player : players) {
+			Position position = player.getPosition();
+			int minX = Math.max(0, position.getX() - ACTIVITY_DISTANCE) >> 6;
+			int minY = Math.max(0, position.getY() - ACTIVITY_DISTANCE) >> 6;
+			int maxX = Math.min(Region.SIZE - 1, (position.getX() + ACTIVITY_DISTANCE) >> 6);
+			int maxY = Math.min(Region.SIZE - 1, (position.getY() + ACTIVITY_DISTANCE) >> 6);
+
+			for (int x = minX; x <= maxX; x++) {
+				for (int y = minY; y <= maxY; y++) {
+					int id = x + y * Region.SIZE;
+					if (!active[id]) {
+						active[id] = true;
+						activeRegions++;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests whether or not the region containing the specified position is
+	 * active.
+	 *
+	 * @param position The position.
+	 * @return {@code true} if the region is active, otherwise {@code false}.
+	 */
+	public boolean isActive(Position position) {
+		return isActive(RegionRepository.getRegionId(position));
+	}
+
+	/**
+	 * Tests whether or not the region with the specified id is active.
+	 *
+	 * @param regionId The region id.
+	 * @return {@code true} if the region is active, otherwise {@code false}.
+	 */
+	public boolean isActive(int regionId) {
+		return active[regionId];
+	}
+
+	/**
+	 * Returns the amount of active regions.
+	 */
+	public int getActiveRegions() {
+		return activeRegions;
+	}
+
+}
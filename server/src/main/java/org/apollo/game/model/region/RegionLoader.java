@@ -0,0 +1,280 @@
+package org.apollo.game.model.region;
+
+import static org.apollo.game.model.obj.GameObjectGroup.WALL;
+import static org.apollo.game.model.region.Region.REGION_SIZE;
+import static org.apollo.game.model.region.Region.SIZE;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+import org.apollo.fs.FileSystem;
+import org.apollo.fs.parser.StaticObjectDefinitionParser;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.def.MapDefinition;
+import org.apollo.game.model.obj.GameObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads regions from the map on demand and unloads them once they have been
+ * inactive for a while.
+ *
+ * <p>
+ * Which regions are part of the map is kept in a small bitmap, so traversal
+ * queries upon regions which are not part of the map are answered without
+ * creating them. A region is decoded the first time it is requested from the
+ * {@link RegionRepository}.
+ * </p>
+ *
+ * <p>
+ * Walls upon the edge of a region also mark the tiles of the neighbouring
+ * region, which is lost if the neighbour is not loaded at the time. The walls
+ * upon the edges of each region are therefore remembered, and marked again
+ * whenever a neighbouring region is loaded. The collision of game objects is
+ * never changed once the map is loaded, so marking a wall again is harmless.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe, it must only be used by the game thread.
+ * Walking queues are pulsed in parallel during client synchronization, so
+ * the regions surrounding every walking character are
+ * {@link #loadSurrounding(Position) loaded} by the game thread beforehand.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class RegionLoader {
+
+	/**
+	 * The amount of pulses a region must be inactive for before it is
+	 * unloaded.
+	 */
+	private static final int UNLOAD_DELAY = 500;
+
+	/**
+	 * The logger used to print information and debug messages to the console.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(RegionLoader.class);
+
+	/**
+	 * The world.
+	 */
+	private final World world;
+
+	/**
+	 * The file system the map is read from.
+	 */
+	private final FileSystem fileSystem;
+
+	/**
+	 * The parser which decodes the map.
+	 */
+	private final StaticObjectDefinitionParser parser;
+
+	/**
+	 * The map definitions, by region id.
+	 */
+	private final Map<Integer, MapDefinition> definitions = new HashMap<>();
+
+	/**
+	 * Whether or not each region is part of the map, indexed by region id.
+	 */
+	private final BitSet mapped = new BitSet(SIZE * SIZE);
+
+	/**
+	 * The amount of pulses each loaded region has been inactive for, by
+	 * region id.
+	 */
+	private final Map<Integer, Integer> idlePulses = new HashMap<>();
+
+	/**
+	 * The walls upon the edges of each region decoded so far, by region id.
+	 */
+	private final Map<Integer, List<GameObject>> borderWalls = new HashMap<>();
+
+	/**
+	 * Constructs a new {@link RegionLoader}.
+	 *
+	 * @param world The world.
+	 * @param fileSystem The file system the map is read from.
+	 * @param definitions The map definitions, by hash.
+	 */
+	public RegionLoader(World world, FileSystem fileSystem, Map<Integer, MapDefinition> definitions) {
+		this.world = world;
+		this.fileSystem = fileSystem;
+		parser = new StaticObjectDefinitionParser(world);
+
+		for (MapDefinition def : definitions.values()) {
+			int hash = def.getHash();
+			int id = (hash >> 8 & 0xFF) + (hash & 0xFF) * SIZE;
+
+			this.definitions.put(id, def);
+			mapped.set(id);
+		}
+	}
+
+	/**
+	 * Tests whether or not the region with the specified id is part of the
+	 * map.
+	 *
+	 * @param id The region id.
+	 * @return {@code true} if the region is part of the map, otherwise
+	 *         {@code false}.
+	 */
+	public boolean isMapped(int id) {
+		return mapped.get(id);
+	}
+
+	/**
+	 * Tests whether or not the region with the specified id is loaded.
+	 *
+	 * @param id The region id.
+	 * @return {@code true} if the region is loaded, otherwise {@code false}.
+	 */
+	public boolean isLoaded(int id) {
+		return idlePulses.containsKey(id);
+	}
+
+	/**
+	 * Returns the amount of loaded regions.
+	 */
+	public int getLoadedRegions() {
+		return idlePulses.size();
+	}
+
+	/**
+	 * Loads the region with the specified id from the map. The region must
+	 * already be within the {@link RegionRepository}.
+	 *
+	 * @param id The region id.
+	 * @param region The region.
+	 */
+	void load(int id, Region region) {
+		idlePulses.put(id, 0);
+
+		try {
+			List<GameObject> objects = parser.parse(fileSystem, definitions.get(id));
+			objects.forEach(region::addEntity);
+			borderWalls.putIfAbsent(id, filterBorderWalls(objects));
+
+			int regionX = id % SIZE;
+			int regionY = id / SIZE;
+
+			for (int dx = -1; dx <= 1; dx++) {
+				for (int dy = -1; dy <= 1; dy++) {
+					int x = regionX + dx;
+					int y = regionY + dy;
+					if (dx == 0 && dy == 0 || x < 0 || y < 0 || x >= SIZE || y >= SIZE) {
+						continue;
+					}
+
+					int neighbour = x + y * SIZE;
+					if (mapped.get(neighbour)) {
+						getBorderWalls(neighbour).forEach(parser::markCollision);
+					}
+				}
+			}
+		} catch (IOException e) {
+			logger.error("Unable to load region {}.", id, e);
+		}
+	}
+
+	/**
+	 * Loads the mapped regions surrounding the specified position: the region
+	 * containing it and each of its neighbours.
+	 *
+	 * @param position The position.
+	 */
+	public void loadSurrounding(Position position) {
+		RegionRepository repository = world.getRegionRepository();
+
+		for (int dx = -1; dx <= 1; dx++) {
+			for (int dy = -1; dy <= 1; dy++) {
+				int x = position.getX() + dx * REGION_SIZE;
+				int y = position.getY() + dy * REGION_SIZE;
+				if (x >= 0 && y >= 0) {
+					repository.getRegionIfMapped(x, y);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Pulses this loader, unloading every region which has been inactive for
+	 * {@link #UNLOAD_DELAY} pulses and holds nothing but its static game
+	 * objects.
+	 *
+	 * @param activity The activity of the regions within the world.
+	 */
+	public void pulse(RegionActivity activity) {
+		RegionRepository repository = world.getRegionRepository();
+		Iterator<Entry<Integer, Integer>> iterator = idlePulses.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			Entry<Integer, Integer> entry = iterator.next();
+			int id = entry.getKey();
+
+			if (activity.isActive(id)) {
+				entry.setValue(0);
+				continue;
+			}
+
+			int idle = entry.getValue() + 1;
+			Region region = repository.getRegions().get(id);
+
+			if (region != null && (idle < UNLOAD_DELAY || !region.isStatic())) {
+				entry.setValue(idle);
+				continue;
+			}
+
+			iterator.remove();
+			repository.removeRegion(id);
+		}
+	}
+
+	/**
+	 * Gets the walls upon the edges of the region with the specified id,
+	 * decoding its game objects if it has not been decoded yet.
+	 *
+	 * @param id The region id.
+	 * @return The walls.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	private List<GameObject> getBorderWalls(int id) throws IOException {
+		List<GameObject> walls = borderWalls.get(id);
+		if (walls == null) {
+			walls = filterBorderWalls(parser.parseObjects(fileSystem, definitions.get(id)));
+			borderWalls.put(id, walls);
+		}
+
+		return walls;
+	}
+
+	/**
+	 * Filters the walls upon the edges of a region from the specified game
+	 * objects.
+	 *
+	 * @param objects The game objects of the region.
+	 * @return The walls.
+	 */
+	private static List<GameObject> filterBorderWalls(List<GameObject> objects) {
+		return objects.stream().filter(object -> {
+			if (!object.getType().getGroup().filter(group -> group == WALL).isPresent()) {
+				return false;
+			}
+
+			Position position = object.getPosition();
+			int localX = position.getX() & REGION_SIZE - 1;
+			int localY = position.getY() & REGION_SIZE - 1;
+			return localX == 0 || localY == 0 || localX == REGION_SIZE - 1 || localY == REGION_SIZE - 1;
+		}).collect(Collectors.toList());
+	}
+
+}
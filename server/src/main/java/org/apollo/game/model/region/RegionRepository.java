@@ -2,10 +2,14 @@ package org.apollo.game.model.region;
 
 import static org.apollo.game.model.region.Region.SIZE;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.apollo.game.model.Position;
+import org.apollo.game.model.obj.GameObject;
 
 /**
  * A repository of regions.
@@ -19,6 +23,49 @@ public final class RegionRepository {
 	 */
 	private final Map<Integer, Region> regions = new HashMap<>();
 
+	/**
+	 * The regions with uncommitted game object changes.
+	 */
+	private final Set<Region> changedRegions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * The loader which decodes regions from the map on demand, or
+	 * {@code null} if the whole map is decoded up front.
+	 */
+	private RegionLoader loader;
+
+	/**
+	 * Returns the id of the region containing the specified {@link Position}.
+	 *
+	 * @param position The position.
+	 * @return The region id.
+	 */
+	public static int getRegionId(Position position) {
+		return getRegionId(position.getX(), position.getY());
+	}
+
+	/**
+	 * Returns the id of the region containing the specified packed position.
+	 *
+	 * @param position The packed position.
+	 * @return The region id.
+	 * @see Position#pack(int, int, int)
+	 */
+	public static int getRegionId(int position) {
+		return getRegionId(Position.unpackX(position), Position.unpackY(position));
+	}
+
+	/**
+	 * Returns the id of the region containing the specified coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return The region id.
+	 */
+	public static int getRegionId(int x, int y) {
+		return (x >> 6) + (y >> 6) * SIZE;
+	}
+
 	/**
 	 * Gets the region for the specified {@link Position}.
 	 *
@@ -26,17 +73,160 @@ public final class RegionRepository {
 	 * @return The region for the specified position.
 	 */
 	public Region getRegion(Position position) {
-		int regionX = position.getX() >> 6;
-		int regionY = position.getY() >> 6;
-		int id = regionX + regionY * SIZE;
+		return getOrCreate(getRegionId(position));
+	}
 
+	/**
+	 * Gets the region for the specified packed position.
+	 *
+	 * @param position The packed position.
+	 * @return The region for the specified position.
+	 */
+	public Region getRegion(int position) {
+		return getOrCreate(getRegionId(position));
+	}
+
+	/**
+	 * Gets the region containing the specified coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return The region containing the specified coordinates.
+	 */
+	public Region getRegion(int x, int y) {
+		return getOrCreate(getRegionId(x, y));
+	}
+
+	/**
+	 * Gets the region containing the specified coordinates, without creating
+	 * it.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return The region containing the specified coordinates, or
+	 *         {@code null} if it does not exist.
+	 */
+	public Region getRegionIfPresent(int x, int y) {
+		return regions.get(getRegionId(x, y));
+	}
+
+	/**
+	 * Gets the region containing the specified coordinates if it is part of
+	 * the map, loading it if it has not been loaded yet. Unlike
+	 * {@link #getRegion(int, int)} a region which is not part of the map is
+	 * never created.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return The region containing the specified coordinates, or
+	 *         {@code null} if it does not exist and is not part of the map.
+	 */
+	public Region getRegionIfMapped(int x, int y) {
+		int id = getRegionId(x, y);
+		Region region = regions.get(id);
+		if (region == null && loader != null && loader.isMapped(id)) {
+			return getOrCreate(id);
+		}
+
+		return region;
+	}
+
+	/**
+	 * Sets the loader which decodes regions from the map on demand.
+	 *
+	 * @param loader The region loader.
+	 */
+	public void setLoader(RegionLoader loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Returns an unmodifiable view of every region which exists, by region id.
+	 */
+	public Map<Integer, Region> getRegions() {
+		return Collections.unmodifiableMap(regions);
+	}
+
+	/**
+	 * Adds a dynamic {@link GameObject} to the region it lies in, see
+	 * {@link Region#addObject(GameObject)}.
+	 *
+	 * @param object The game object.
+	 */
+	public void addObject(GameObject object) {
+		Region region = getRegion(object.getPosition());
+		region.addObject(object);
+		changedRegions.add(region);
+	}
+
+	/**
+	 * Removes a {@link GameObject} from the region it lies in, see
+	 * {@link Region#removeObject(GameObject)}.
+	 *
+	 * @param object The game object.
+	 * @return {@code true} if a game object was removed, otherwise
+	 *         {@code false}.
+	 */
+	public boolean removeObject(GameObject object) {
+		Region region = getRegion(object.getPosition());
+		if (!region.removeObject(object)) {
+			return false;
+		}
+
+		changedRegions.add(region);
+		return true;
+	}
+
+	/**
+	 * Tests whether or not the game objects of any region have changed since
+	 * they were last committed.
+	 *
+	 * @return {@code true} if so, {@code false} if not.
+	 */
+	public boolean hasObjectChanges() {
+		return !changedRegions.isEmpty();
+	}
+
+	/**
+	 * Commits the game object changes of every changed region, once every
+	 * player has been synchronized.
+	 */
+	public void commitObjectChanges() {
+		changedRegions.forEach(Region::commitObjectChanges);
+		changedRegions.clear();
+	}
+
+	/**
+	 * Gets the region with the specified id, creating it if it does not exist.
+	 *
+	 * @param id The region id.
+	 * @return The region.
+	 */
+	private Region getOrCreate(int id) {
 		Region region = regions.get(id);
 		if (region == null) {
-			regions.put(id, new Region());
-			return regions.get(id);
+			region = new Region();
+			regions.put(id, region);
+
+			/* The region is put first, so flags it marks upon itself land. */
+			if (loader != null && loader.isMapped(id)) {
+				loader.load(id, region);
+			}
 		}
 
 		return region;
 	}
 
+	/**
+	 * Removes the region with the specified id, once it has been unloaded.
+	 *
+	 * @param id The region id.
+	 */
+	void removeRegion(int id) {
+		Region region = regions.remove(id);
+		if (region != null) {
+			changedRegions.remove(region);
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package org.apollo.game.model.skill;
+
+import java.util.BitSet;
+
+/**
+ * A {@link SkillListener} which records the skills of a {@link SkillSet} which
+ * have changed since they were last saved.
+ *
+ * <p>
+ * Skills are marked by the game thread and drained by the serializer, so every
+ * method of this listener is synchronized.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class DirtySkillListener implements SkillListener {
+
+	/**
+	 * The skills which have changed since they were last drained.
+	 */
+	private final BitSet dirty = new BitSet(SkillSet.SKILL_COUNT);
+
+	/**
+	 * The listener this listener was detached from, may be {@code null}.
+	 */
+	private final DirtySkillListener parent;
+
+	/**
+	 * Constructs a new {@link DirtySkillListener}.
+	 */
+	public DirtySkillListener() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new {@link DirtySkillListener} with the specified parent.
+	 *
+	 * @param parent The listener this listener was detached from.
+	 */
+	private DirtySkillListener(DirtySkillListener parent) {
+		this.parent = parent;
+	}
+
+	@Override
+	public synchronized void skillUpdated(SkillSet set, int id, Skill skill) {
+		dirty.set(id);
+	}
+
+	@Override
+	public synchronized void skillsUpdated(SkillSet set) {
+		dirty.set(0, set.size());
+	}
+
+	@Override
+	public void leveledUp(SkillSet set, int id, Skill skill) {
+		/* the skill itself is marked through skillUpdated */
+	}
+
+	/**
+	 * Returns the changed skills and clears them.
+	 *
+	 * @return The skills which have changed since they were last drained.
+	 */
+	public synchronized BitSet drain() {
+		BitSet skills = (BitSet) dirty.clone();
+		dirty.clear();
+		return skills;
+	}
+
+	/**
+	 * Moves the changed skills into a new listener, used when taking a
+	 * snapshot of the skill set. Skills restored to the detached listener are
+	 * also restored to this listener.
+	 *
+	 * @return The detached listener.
+	 */
+	public synchronized DirtySkillListener detach() {
+		DirtySkillListener detached = new DirtySkillListener(this);
+		detached.dirty.or(dirty);
+		dirty.clear();
+		return detached;
+	}
+
+	/**
+	 * Marks the specified skills as changed, used to restore skills which were
+	 * drained but could not be saved.
+	 *
+	 * @param skills The skills to mark.
+	 */
+	public void mark(BitSet skills) {
+		synchronized (this) {
+			dirty.or(skills);
+		}
+
+		if (parent != null) {
+			parent.mark(skills);
+		}
+	}
+
+	/**
+	 * Marks every skill as unchanged.
+	 */
+	public synchronized void clear() {
+		dirty.clear();
+	}
+
+}
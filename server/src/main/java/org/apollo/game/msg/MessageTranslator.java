@@ -65,6 +65,7 @@ import org.apollo.game.msg.encoder.PlayerSynchronizationMessageEncoder;
 import org.apollo.game.msg.encoder.PositionHintIconMessageEncoder;
 import org.apollo.game.msg.encoder.PositionMessageEncoder;
 import org.apollo.game.msg.encoder.RegionChangeMessageEncoder;
+import org.apollo.game.msg.encoder.RemoveGameObjectMessageEncoder;
 import org.apollo.game.msg.encoder.RemoveGroundItemMessageEncoder;
 import org.apollo.game.msg.encoder.ServerMessageMessageEncoder;
 import org.apollo.game.msg.encoder.SetInterfaceTextMessageEncoder;
@@ -74,6 +75,7 @@ import org.apollo.game.msg.encoder.UpdateItemsMessageEncoder;
 import org.apollo.game.msg.encoder.UpdateSkillMessageEncoder;
 import org.apollo.game.msg.encoder.UpdateSlottedItemsMessageEncoder;
 import org.apollo.game.msg.encoder.WelcomeScreenMessageEncoder;
+import org.apollo.game.msg.encoder.ZoneUpdateMessageEncoder;
 import org.apollo.game.msg.handler.ButtonMessageHandler;
 import org.apollo.game.msg.handler.CharacterDesignMessageHandler;
 import org.apollo.game.msg.handler.ChatMessageHandler;
@@ -91,6 +93,7 @@ import org.apollo.game.msg.handler.RegionLoadedMessageHandler;
 import org.apollo.game.msg.handler.SwitchItemMessageHandler;
 import org.apollo.game.msg.handler.WalkMessageHandler;
 import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.metrics.NetworkMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -109,9 +112,14 @@ public final class MessageTranslator {
 	private final Logger logger = LoggerFactory.getLogger(MessageTranslator.class);
 
 	/**
-	 * A {@link Map} of {@link Integer}s to {@link MessageDecoder}s.
+	 * The amount of possible opcodes.
 	 */
-	private final Map<Integer, MessageDecoder<?>> decoders = new HashMap<>();
+	private static final int OPCODES = 256;
+
+	/**
+	 * The {@link MessageDecoder}s, indexed by opcode.
+	 */
+	private final MessageDecoder<?>[] decoders = new MessageDecoder<?>[OPCODES];
 
 	/**
 	 * A {@link Map} of {@link Class}' to {@link MessageEncoder}s.
@@ -123,6 +131,35 @@ public final class MessageTranslator {
 	 */
 	private final Map<Class<?>, MessageHandler<?>> handlers = new HashMap<>();
 
+	/**
+	 * The {@link MessageEncoder} of each message class, cached on the class
+	 * itself so encoding a message does not hash its class. Every encoder is
+	 * registered before the first lookup.
+	 */
+	private final ClassValue<MessageEncoder<?>> encoderCache = new ClassValue<MessageEncoder<?>>() {
+		@Override
+		protected MessageEncoder<?> computeValue(Class<?> type) {
+			return encoders.get(type);
+		}
+	};
+
+	/**
+	 * The {@link MessageHandler} of each message class, cached on the class
+	 * itself so handling a message does not hash its class. Every handler is
+	 * registered before the first lookup.
+	 */
+	private final ClassValue<MessageHandler<?>> handlerCache = new ClassValue<MessageHandler<?>>() {
+		@Override
+		protected MessageHandler<?> computeValue(Class<?> type) {
+			return handlers.get(type);
+		}
+	};
+
+	/**
+	 * The metrics of the messages translated.
+	 */
+	private final NetworkMetrics metrics = new NetworkMetrics();
+
 	/**
 	 * Constructs a new {@link MessageTranslator}.
 	 */
@@ -205,6 +242,8 @@ public final class MessageTranslator {
 		register(new InterfaceItemModelMessageEncoder());
 		register(new PositionMessageEncoder());
 		register(new GameObjectMessageEncoder());
+		register(new RemoveGameObjectMessageEncoder());
+		register(new ZoneUpdateMessageEncoder(this));
 		register(new AddGroundItemMessageEncoder());
 		register(new RemoveGroundItemMessageEncoder());
 		register(new PositionHintIconMessageEncoder());
@@ -243,7 +282,7 @@ public final class MessageTranslator {
 		}
 
 		for (int value : annotation.value()) {
-			decoders.put(value, decoder);
+			decoders[value] = decoder;
 		}
 	}
 
@@ -284,7 +323,7 @@ public final class MessageTranslator {
 	 */
 	@SuppressWarnings("unchecked")
 	public <E extends Message> E decode(GamePacket packet) {
-		MessageDecoder<E> decoder = (MessageDecoder<E>) decoders.get(packet.getOpcode());
+		MessageDecoder<E> decoder = (MessageDecoder<E>) decoders[packet.getOpcode()];
 		if (decoder == null) {
 			logger.error("No message decoder for packet: {}", packet.getOpcode());
 			return null;
@@ -302,7 +341,7 @@ public final class MessageTranslator {
 	 */
 	@SuppressWarnings("unchecked")
 	public <E extends Message> GamePacket encode(E msg) {
-		MessageEncoder<E> encoder = (MessageEncoder<E>) encoders.get(msg.getClass());
+		MessageEncoder<E> encoder = (MessageEncoder<E>) encoderCache.get(msg.getClass());
 		if (encoder == null) {
 			logger.error("No message encoder for message: {}", msg);
 			return null;
@@ -320,12 +359,21 @@ public final class MessageTranslator {
 	 */
 	@SuppressWarnings("unchecked")
 	public <E extends Message> void handle(Player player, E msg) {
-		MessageHandler<E> handler = (MessageHandler<E>) handlers.get(msg.getClass());
+		MessageHandler<E> handler = (MessageHandler<E>) handlerCache.get(msg.getClass());
 		if (handler == null) {
 			return;
 		}
 
+		long start = System.nanoTime();
 		handler.handle(player, msg);
+		metrics.recordHandled(msg.getClass(), System.nanoTime() - start);
+	}
+
+	/**
+	 * Returns the metrics of the messages translated.
+	 */
+	public NetworkMetrics getMetrics() {
+		return metrics;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.apollo.game.msg.encoder;
+
+import org.apollo.game.msg.MessageEncoder;
+import org.apollo.game.msg.annotate.EncodesMessage;
+import org.apollo.game.msg.impl.RemoveGameObjectMessage;
+import org.apollo.net.codec.game.DataTransformation;
+import org.apollo.net.codec.game.DataType;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.codec.game.GamePacketBuilder;
+
+/**
+ * Encodes the remove game object message.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+@EncodesMessage(RemoveGameObjectMessage.class)
+public final class RemoveGameObjectMessageEncoder implements MessageEncoder<RemoveGameObjectMessage> {
+
+	@Override
+	public GamePacket encode(RemoveGameObjectMessage msg) {
+		GamePacketBuilder bldr = new GamePacketBuilder(101);
+		bldr.put(DataType.BYTE, DataTransformation.NEGATE, msg.getObject().hashCode());
+		bldr.put(DataType.BYTE, msg.getPositionOffset());
+		return bldr.toGamePacket();
+	}
+
+}
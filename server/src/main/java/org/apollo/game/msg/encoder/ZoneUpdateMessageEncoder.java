@@ -0,0 +1,57 @@
+package org.apollo.game.msg.encoder;
+
+import org.apollo.game.msg.Message;
+import org.apollo.game.msg.MessageEncoder;
+import org.apollo.game.msg.MessageTranslator;
+import org.apollo.game.msg.annotate.EncodesMessage;
+import org.apollo.game.msg.impl.ZoneUpdateMessage;
+import org.apollo.net.codec.game.DataTransformation;
+import org.apollo.net.codec.game.DataType;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.codec.game.GamePacketBuilder;
+import org.apollo.net.codec.game.GamePacketType;
+
+/**
+ * Encodes the zone update message. Each update is encoded by its own encoder
+ * and written as its opcode followed by its payload.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+@EncodesMessage(ZoneUpdateMessage.class)
+public final class ZoneUpdateMessageEncoder implements MessageEncoder<ZoneUpdateMessage> {
+
+	/**
+	 * The translator used to encode each update.
+	 */
+	private final MessageTranslator translator;
+
+	/**
+	 * Constructs a new {@link ZoneUpdateMessageEncoder}.
+	 *
+	 * @param translator The translator used to encode each update.
+	 */
+	public ZoneUpdateMessageEncoder(MessageTranslator translator) {
+		this.translator = translator;
+	}
+
+	@Override
+	public GamePacket encode(ZoneUpdateMessage msg) {
+		GamePacketBuilder bldr = new GamePacketBuilder(60, GamePacketType.VARIABLE_SHORT);
+		bldr.put(DataType.BYTE, msg.getZone().getLocalY(msg.getBase()));
+		bldr.put(DataType.BYTE, DataTransformation.NEGATE, msg.getZone().getLocalX(msg.getBase()));
+
+		for (Message update : msg.getUpdates()) {
+			GamePacket packet = translator.encode(update);
+			if (packet == null) {
+				continue;
+			}
+
+			bldr.put(DataType.BYTE, packet.getOpcode());
+			bldr.putBytes(packet.getPayload());
+			packet.getPayload().release();
+		}
+
+		return bldr.toGamePacket();
+	}
+
+}
@@ -25,7 +25,7 @@ public final class SwitchItemMessageHandler implements MessageHandler<SwitchItem
 			return;
 		}
 
-		if (message.getInterfaceId() < 0 || message.getInterfaceId() > InterfaceDefinition.count()) {
+		if (message.getInterfaceId() < 0 || message.getInterfaceId() >= InterfaceDefinition.count()) {
 			return;
 		}
 
@@ -33,8 +33,7 @@ public final class SwitchItemMessageHandler implements MessageHandler<SwitchItem
 			return;
 		}
 
-		InterfaceDefinition def = InterfaceDefinition.forId(message.getInterfaceId());
-		if (!def.isInventory()) {
+		if (!InterfaceDefinition.isInventory(message.getInterfaceId())) {
 			return;
 		}
 
@@ -46,7 +45,7 @@ public final class SwitchItemMessageHandler implements MessageHandler<SwitchItem
 		Inventory inventory = supplier.getInventory(player);
 
 		if (message.getOldSlot() < inventory.capacity() && message.getNewSlot() < inventory.capacity()) {
-			inventory.swap(message.isInserting() && Interfaces.insertPermitted(def.getId()), message.getOldSlot(), message.getNewSlot());
+			inventory.swap(message.isInserting() && Interfaces.insertPermitted(message.getInterfaceId()), message.getOldSlot(), message.getNewSlot());
 		}
 	}
 
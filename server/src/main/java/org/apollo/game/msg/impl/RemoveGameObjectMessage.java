@@ -0,0 +1,49 @@
+package org.apollo.game.msg.impl;
+
+import org.apollo.game.model.obj.GameObject;
+import org.apollo.game.msg.Message;
+
+/**
+ * A message which removes a {@link GameObject}.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class RemoveGameObjectMessage implements Message {
+
+	/**
+	 * The game object.
+	 */
+	private final GameObject object;
+
+	/**
+	 * The objects offset.
+	 */
+	private final int positionOffset;
+
+	/**
+	 * Constructs a new {@link RemoveGameObjectMessage} with the specified game
+	 * object.
+	 *
+	 * @param object The game object.
+	 * @param positionOffset The objects offset.
+	 */
+	public RemoveGameObjectMessage(GameObject object, int positionOffset) {
+		this.object = object;
+		this.positionOffset = positionOffset;
+	}
+
+	/**
+	 * Returns this messages game object.
+	 */
+	public GameObject getObject() {
+		return object;
+	}
+
+	/**
+	 * Returns the offset of this object.
+	 */
+	public int getPositionOffset() {
+		return positionOffset;
+	}
+
+}
@@ -0,0 +1,66 @@
+package org.apollo.game.msg.impl;
+
+import java.util.List;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.msg.Message;
+
+/**
+ * A message which batches several updates within a single 8x8 zone, such as
+ * {@link GameObjectMessage}s and {@link RemoveGameObjectMessage}s, into one
+ * packet.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class ZoneUpdateMessage implements Message {
+
+	/**
+	 * The base position, the last known region of the player.
+	 */
+	private final Position base;
+
+	/**
+	 * The position of the bottom left corner of the zone.
+	 */
+	private final Position zone;
+
+	/**
+	 * The updates within the zone.
+	 */
+	private final List<Message> updates;
+
+	/**
+	 * Constructs a new {@link ZoneUpdateMessage}.
+	 *
+	 * @param base The base position, the last known region of the player.
+	 * @param zone The position of the bottom left corner of the zone.
+	 * @param updates The updates within the zone.
+	 */
+	public ZoneUpdateMessage(Position base, Position zone, List<Message> updates) {
+		this.base = base;
+		this.zone = zone;
+		this.updates = updates;
+	}
+
+	/**
+	 * Returns the base position.
+	 */
+	public Position getBase() {
+		return base;
+	}
+
+	/**
+	 * Returns the position of the bottom left corner of the zone.
+	 */
+	public Position getZone() {
+		return zone;
+	}
+
+	/**
+	 * Returns the updates within the zone.
+	 */
+	public List<Message> getUpdates() {
+		return updates;
+	}
+
+}
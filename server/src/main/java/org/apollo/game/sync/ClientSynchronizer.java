@@ -1,5 +1,8 @@
 package org.apollo.game.sync;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Phaser;
@@ -9,6 +12,10 @@ import org.apollo.game.model.GameCharacterRepository;
 import org.apollo.game.model.Mob;
 import org.apollo.game.model.Player;
 import org.apollo.game.model.World;
+import org.apollo.game.model.grounditem.GroundItemChange;
+import org.apollo.game.model.region.RegionActivity;
+import org.apollo.game.sync.task.GameObjectSynchronizationTask;
+import org.apollo.game.sync.task.GroundItemSynchronizationTask;
 import org.apollo.game.sync.task.MobSynchronizationTask;
 import org.apollo.game.sync.task.PhasedSynchronizationTask;
 import org.apollo.game.sync.task.PlayerSynchronizationTask;
@@ -60,10 +67,13 @@ public final class ClientSynchronizer {
 
 	/**
 	 * Synchronizes the specified {@code world}, this method is thread-safe.
+	 * Mobs within inactive regions are dormant, no player can see them so they
+	 * are not synchronized.
 	 */
 	public void synchronize() {
 		GameCharacterRepository<Player> players = world.getPlayerRepository();
-		GameCharacterRepository<Mob> mobs = world.getMobRepository();
+		List<Mob> mobs = activeMobs();
+		Map<Integer, List<GroundItemChange>> groundItemChanges = world.getGroundItemManager().drainChanges();
 
 		int playerCount = players.size();
 		int mobCount = mobs.size();
@@ -72,6 +82,8 @@ public final class ClientSynchronizer {
 		players.forEach(player -> executor.submit(new PhasedSynchronizationTask(phaser, new PrePlayerSynchronizationTask(player))));
 		phaser.arriveAndAwaitAdvance();
 
+		boolean regionChanged = anyRegionChanged(players);
+
 		phaser.bulkRegister(mobCount);
 		mobs.forEach(mob -> executor.submit(new PhasedSynchronizationTask(phaser, new PreMobSynchronizationTask(mob))));
 		phaser.arriveAndAwaitAdvance();
@@ -84,6 +96,18 @@ public final class ClientSynchronizer {
 		players.forEach(player -> executor.submit(new PhasedSynchronizationTask(phaser, new MobSynchronizationTask(player, world))));
 		phaser.arriveAndAwaitAdvance();
 
+		if (regionChanged || !groundItemChanges.isEmpty()) {
+			phaser.bulkRegister(playerCount);
+			players.forEach(player -> executor.submit(new PhasedSynchronizationTask(phaser, new GroundItemSynchronizationTask(player, world, groundItemChanges))));
+			phaser.arriveAndAwaitAdvance();
+		}
+
+		if (regionChanged || world.getRegionRepository().hasObjectChanges()) {
+			phaser.bulkRegister(playerCount);
+			players.forEach(player -> executor.submit(new PhasedSynchronizationTask(phaser, new GameObjectSynchronizationTask(player, world))));
+			phaser.arriveAndAwaitAdvance();
+		}
+
 		phaser.bulkRegister(playerCount);
 		players.forEach(player -> executor.submit(new PhasedSynchronizationTask(phaser, new PostPlayerSynchronizationTask(player))));
 		phaser.arriveAndAwaitAdvance();
@@ -91,6 +115,40 @@ public final class ClientSynchronizer {
 		phaser.bulkRegister(mobCount);
 		mobs.forEach(mob -> executor.submit(new PhasedSynchronizationTask(phaser, new PostMobSynchronizationTask(mob))));
 		phaser.arriveAndAwaitAdvance();
+
+		world.getRegionRepository().commitObjectChanges();
+	}
+
+	/**
+	 * Tests whether or not the region of any of the specified players has
+	 * changed this pulse.
+	 *
+	 * @param players The players.
+	 * @return {@code true} if so, {@code false} if not.
+	 */
+	private static boolean anyRegionChanged(GameCharacterRepository<Player> players) {
+		for (Player player : players) {
+			if (player.hasRegionChanged()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the mobs which are within active regions.
+	 *
+	 * @return The active mobs.
+	 */
+	private List<Mob> activeMobs() {
+		RegionActivity activity = world.getRegionActivity();
+		List<Mob> mobs = new ArrayList<>();
+		for (Mob mob : world.getMobRepository()) {
+			if (activity.isActive(mob.getPosition())) {
+				mobs.add(mob);
+			}
+		}
+		return mobs;
 	}
 
 }
\ No newline at end of file
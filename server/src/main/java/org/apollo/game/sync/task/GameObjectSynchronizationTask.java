@@ -0,0 +1,123 @@
+package org.apollo.game.sync.task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apollo.game.model.Player;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.obj.GameObject;
+import org.apollo.game.model.obj.GameObjectChange;
+import org.apollo.game.model.region.Region;
+import org.apollo.game.msg.Message;
+import org.apollo.game.msg.impl.GameObjectMessage;
+import org.apollo.game.msg.impl.RemoveGameObjectMessage;
+import org.apollo.game.msg.impl.ZoneUpdateMessage;
+
+/**
+ * A {@link SynchronizationTask} which synchronizes the dynamic
+ * {@link GameObject}s a {@link Player} can see.
+ *
+ * <p>
+ * When the region of a player changes the client loads the game objects of
+ * the map, so only the differences between each region and its map are sent.
+ * Otherwise only the uncommitted changes of each region are sent. Either way
+ * the updates are batched into a single {@link ZoneUpdateMessage} per 8x8
+ * zone.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class GameObjectSynchronizationTask extends SynchronizationTask {
+
+	/**
+	 * The length of one side of the area loaded by the client, in tiles.
+	 */
+	private static final int LOADED_AREA_SIZE = 104;
+
+	/**
+	 * The length of one side of a zone, in tiles.
+	 */
+	private static final int ZONE_SIZE = 8;
+
+	/**
+	 * The player.
+	 */
+	private final Player player;
+
+	/**
+	 * The world.
+	 */
+	private final World world;
+
+	/**
+	 * Constructs a new {@link GameObjectSynchronizationTask}.
+	 *
+	 * @param player The player.
+	 * @param world The world.
+	 */
+	public GameObjectSynchronizationTask(Player player, World world) {
+		this.player = player;
+		this.world = world;
+	}
+
+	@Override
+	public void run() {
+		boolean differences = player.hasRegionChanged();
+		Position base = player.getLastKnownRegion();
+
+		int minX = base.getBaseLocalX();
+		int minY = base.getBaseLocalY();
+		int maxX = minX + LOADED_AREA_SIZE - 1;
+		int maxY = minY + LOADED_AREA_SIZE - 1;
+
+		Map<Integer, List<Message>> zones = new LinkedHashMap<>();
+
+		for (int regionX = minX >> 6; regionX <= maxX >> 6; regionX++) {
+			for (int regionY = minY >> 6; regionY <= maxY >> 6; regionY++) {
+				Region region = world.getRegionRepository().getRegionIfPresent(regionX << 6, regionY << 6);
+				if (region == null) {
+					continue;
+				}
+
+				List<GameObjectChange> changes = differences ? region.getObjectDifferences() : region.getObjectChanges();
+				for (GameObjectChange change : changes) {
+					GameObject object = change.getObject();
+					Position position = object.getPosition();
+					if (!isLoaded(position, base)) {
+						continue;
+					}
+
+					int offset = (position.getX() & ZONE_SIZE - 1) << 4 | position.getY() & ZONE_SIZE - 1;
+					Message update = change.getType() == GameObjectChange.Type.ADDED ? new GameObjectMessage(object, offset) : new RemoveGameObjectMessage(object, offset);
+
+					int zone = Position.pack(position.getX() & ~(ZONE_SIZE - 1), position.getY() & ~(ZONE_SIZE - 1), position.getHeight());
+					zones.computeIfAbsent(zone, key -> new ArrayList<>()).add(update);
+				}
+			}
+		}
+
+		zones.forEach((zone, updates) -> player.send(new ZoneUpdateMessage(base, Position.unpack(zone), updates)));
+	}
+
+	/**
+	 * Tests whether or not the specified position lies within the area loaded
+	 * by the client, on the height of the player.
+	 *
+	 * @param position The position.
+	 * @param base The last known region of the player.
+	 * @return {@code true} if the position is loaded, otherwise {@code false}.
+	 */
+	private boolean isLoaded(Position position, Position base) {
+		if (position.getHeight() != player.getPosition().getHeight()) {
+			return false;
+		}
+
+		int localX = position.getLocalX(base);
+		int localY = position.getLocalY(base);
+		return localX >= 0 && localY >= 0 && localX < LOADED_AREA_SIZE && localY < LOADED_AREA_SIZE;
+	}
+
+}
@@ -0,0 +1,188 @@
+package org.apollo.game.sync.task;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apollo.game.model.Entity.EntityCategory;
+import org.apollo.game.model.Player;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.grounditem.GroundItem;
+import org.apollo.game.model.grounditem.GroundItemChange;
+import org.apollo.game.model.region.Region;
+import org.apollo.game.model.region.RegionRepository;
+import org.apollo.game.msg.impl.AddGroundItemMessage;
+import org.apollo.game.msg.impl.PositionMessage;
+import org.apollo.game.msg.impl.RemoveGroundItemMessage;
+
+/**
+ * A {@link SynchronizationTask} which synchronizes the {@link GroundItem}s a
+ * {@link Player} can see.
+ *
+ * <p>
+ * When the region of a player changes the client forgets every ground item,
+ * so every visible ground item within the loaded area is sent. Otherwise only
+ * the changes made this pulse within the regions overlapping the loaded area
+ * are sent.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class GroundItemSynchronizationTask extends SynchronizationTask {
+
+	/**
+	 * The length of one side of the area loaded by the client, in tiles.
+	 */
+	private static final int LOADED_AREA_SIZE = 104;
+
+	/**
+	 * The length of one side of a placement zone, in tiles.
+	 */
+	private static final int ZONE_SIZE = 8;
+
+	/**
+	 * The player.
+	 */
+	private final Player player;
+
+	/**
+	 * The world.
+	 */
+	private final World world;
+
+	/**
+	 * The ground item changes made this pulse, by region id.
+	 */
+	private final Map<Integer, List<GroundItemChange>> changes;
+
+	/**
+	 * The zone the client was last told to place ground items in, or
+	 * {@code null} if no zone has been sent.
+	 */
+	private Position zone;
+
+	/**
+	 * Constructs a new {@link GroundItemSynchronizationTask}.
+	 *
+	 * @param player The player.
+	 * @param world The world.
+	 * @param changes The ground item changes made this pulse, by region id.
+	 */
+	public GroundItemSynchronizationTask(Player player, World world, Map<Integer, List<GroundItemChange>> changes) {
+		this.player = player;
+		this.world = world;
+		this.changes = changes;
+	}
+
+	@Override
+	public void run() {
+		boolean full = player.hasRegionChanged();
+		if (!full && changes.isEmpty()) {
+			return;
+		}
+
+		Position base = player.getLastKnownRegion();
+		int minX = base.getBaseLocalX();
+		int minY = base.getBaseLocalY();
+		int maxX = minX + LOADED_AREA_SIZE - 1;
+		int maxY = minY + LOADED_AREA_SIZE - 1;
+
+		for (int regionX = minX >> 6; regionX <= maxX >> 6; regionX++) {
+			for (int regionY = minY >> 6; regionY <= maxY >> 6; regionY++) {
+				int x = regionX << 6;
+				int y = regionY << 6;
+
+				if (full) {
+					Region region = world.getRegionRepository().getRegionIfPresent(x, y);
+					if (region != null) {
+						Set<GroundItem> items = region.getEntities(EntityCategory.GROUND_ITEM);
+						items.stream().filter(item -> item.isVisibleTo(player) && isLoaded(item, base)).forEach(this::sendAdd);
+					}
+					continue;
+				}
+
+				List<GroundItemChange> regionChanges = changes.get(RegionRepository.getRegionId(x, y));
+				if (regionChanges == null) {
+					continue;
+				}
+
+				for (GroundItemChange change : regionChanges) {
+					GroundItem item = change.getItem();
+					if (!change.isVisibleTo(player) || !isLoaded(item, base)) {
+						continue;
+					}
+
+					switch (change.getType()) {
+					case ADDED:
+					case GLOBALIZED:
+						sendAdd(item);
+						break;
+					case REMOVED:
+						sendRemove(item);
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests whether or not the specified ground item lies within the area
+	 * loaded by the client, on the height of the player.
+	 *
+	 * @param item The ground item.
+	 * @param base The last known region of the player.
+	 * @return {@code true} if the ground item is loaded, otherwise
+	 *         {@code false}.
+	 */
+	private boolean isLoaded(GroundItem item, Position base) {
+		Position position = item.getPosition();
+		if (position.getHeight() != player.getPosition().getHeight()) {
+			return false;
+		}
+
+		int localX = position.getLocalX(base);
+		int localY = position.getLocalY(base);
+		return localX >= 0 && localY >= 0 && localX < LOADED_AREA_SIZE && localY < LOADED_AREA_SIZE;
+	}
+
+	/**
+	 * Sends the addition of the specified ground item.
+	 *
+	 * @param item The ground item.
+	 */
+	private void sendAdd(GroundItem item) {
+		player.send(new AddGroundItemMessage(item, placeInZone(item.getPosition())));
+	}
+
+	/**
+	 * Sends the removal of the specified ground item.
+	 *
+	 * @param item The ground item.
+	 */
+	private void sendRemove(GroundItem item) {
+		player.send(new RemoveGroundItemMessage(item, placeInZone(item.getPosition())));
+	}
+
+	/**
+	 * Tells the client the zone containing the specified position, unless it
+	 * was the last zone sent, and returns the offset of the position within
+	 * that zone.
+	 *
+	 * @param position The position.
+	 * @return The offset of the position within its zone.
+	 */
+	private int placeInZone(Position position) {
+		int zoneX = position.getX() & ~(ZONE_SIZE - 1);
+		int zoneY = position.getY() & ~(ZONE_SIZE - 1);
+
+		if (zone == null || zone.getX() != zoneX || zone.getY() != zoneY) {
+			zone = new Position(zoneX, zoneY, position.getHeight());
+			player.send(new PositionMessage(player.getLastKnownRegion(), zone));
+		}
+
+		return (position.getX() & ZONE_SIZE - 1) << 4 | position.getY() & ZONE_SIZE - 1;
+	}
+
+}
@@ -29,6 +29,7 @@ public final class PrePlayerSynchronizationTask extends SynchronizationTask {
 
 	@Override
 	public void run() {
+		player.flushInventories();
 		player.getWalkingQueue().pulse();
 
 		if (player.getAttributes().isTeleporting()) {
@@ -46,7 +47,8 @@ public final class PrePlayerSynchronizationTask extends SynchronizationTask {
 	}
 
 	/**
-	 * Checks if a region update is required.
+	 * Checks if a region update is required. Changing height also requires a
+	 * region update, so the client reloads the ground items of the new height.
 	 *
 	 * @return {@code true} if so, {@code false} otherwise.
 	 */
@@ -57,7 +59,7 @@ public final class PrePlayerSynchronizationTask extends SynchronizationTask {
 		int deltaX = current.getLocalX(last);
 		int deltaY = current.getLocalY(last);
 
-		return deltaX < 16 || deltaX >= 88 || deltaY < 16 || deltaY >= 88;
+		return deltaX < 16 || deltaX >= 88 || deltaY < 16 || deltaY >= 88 || current.getHeight() != last.getHeight();
 	}
 
 }
\ No newline at end of file
@@ -18,9 +18,14 @@ public abstract class Task {
 	private int delay;
 
 	/**
-	 * The number of pulses remaining until the task is next executed.
+	 * The number of pulses remaining until the task is first executed.
 	 */
-	private int pulses;
+	private final int pulses;
+
+	/**
+	 * The tick of the {@link TaskScheduler} this task is next due on.
+	 */
+	private long dueTick;
 
 	/**
 	 * Creates a new scheduled task.
@@ -67,14 +72,31 @@ public abstract class Task {
 	}
 
 	/**
-	 * Pulses this task: updates the delay and calls {@link #execute()} if
-	 * necessary.
+	 * Returns the tick of the {@link TaskScheduler} this task is next due on.
 	 */
-	protected final void pulse() {
-		if (running && pulses-- == 0) {
-			execute();
-			pulses = delay;
-		}
+	final long getDueTick() {
+		return dueTick;
+	}
+
+	/**
+	 * Schedules the first execution of this task, relative to the specified
+	 * tick.
+	 *
+	 * @param tick The tick this task was added to the scheduler on.
+	 */
+	final void schedule(long tick) {
+		dueTick = tick + pulses;
+	}
+
+	/**
+	 * Executes this task and schedules the next execution, relative to the
+	 * specified tick.
+	 *
+	 * @param tick The tick this task is being executed on.
+	 */
+	final void pulse(long tick) {
+		execute();
+		dueTick = tick + delay + 1;
 	}
 
 	/**
@@ -2,27 +2,77 @@ package org.apollo.game.task;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A class which manages {@link Task}s.
  *
+ * <p>
+ * Active tasks are kept within a hashed timing wheel, each task is placed in
+ * the bucket of the tick it is next due on. Every pulse only visits the bucket
+ * of the current tick, so tasks which are not due cost nothing, tasks due more
+ * than one revolution away are revisited once per revolution. Stopped tasks
+ * are discarded when their bucket is next visited.
+ * </p>
+ *
  * @author Graham
  * @author Ryley Kimmel <ryley.kimmel@live.com>
  */
 public final class TaskScheduler {
 
 	/**
-	 * A {@link ArrayDeque} of new tasks currently waiting to be added.
+	 * The amount of buckets within the wheel, must be a power of two.
+	 */
+	private static final int WHEEL_SIZE = 512;
+
+	/**
+	 * The mask used to find the bucket of a tick.
+	 */
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	/**
+	 * The logger used to print information and debug messages to the console.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(TaskScheduler.class);
+
+	/**
+	 * A queue of new tasks currently waiting to be added, tasks may be
+	 * scheduled from any thread.
+	 */
+	private final Queue<Task> pendingTasks = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The wheel of buckets of active tasks, indexed by due tick.
+	 */
+	private final Queue<Task>[] wheel = newWheel();
+
+	/**
+	 * The current tick.
+	 */
+	private long tick;
+
+	/**
+	 * The amount of active tasks.
 	 */
-	private final Queue<Task> pendingTasks = new ArrayDeque<>();
+	private int size;
 
 	/**
-	 * An {@link ArrayList} of currently active tasks.
+	 * Creates the buckets of the wheel.
+	 *
+	 * @return The wheel.
 	 */
-	private final List<Task> tasks = new ArrayList<>();
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Queue<Task>[] newWheel() {
+		Queue<Task>[] wheel = new Queue[WHEEL_SIZE];
+		Arrays.setAll(wheel, bucket -> new ArrayDeque<>());
+		return wheel;
+	}
 
 	/**
 	 * Schedules a new pending {@link Task}.
@@ -36,8 +86,8 @@ public final class TaskScheduler {
 	}
 
 	/**
-	 * Pulses all active tasks, adds pending tasks, executes active tasks and
-	 * removes inactive tasks.
+	 * Adds pending tasks and executes the active tasks which are due on the
+	 * current tick, removing inactive tasks.
 	 */
 	public void pulse() {
 		for (;;) {
@@ -45,18 +95,80 @@ public final class TaskScheduler {
 			if (task == null) {
 				break;
 			}
-			tasks.add(task);
+
+			task.schedule(tick);
+			insert(task);
+			size++;
+		}
+
+		Queue<Task> bucket = wheel[(int) (tick & WHEEL_MASK)];
+		List<Task> due = new ArrayList<>(bucket.size());
+
+		for (int remaining = bucket.size(); remaining > 0; remaining--) {
+			Task task = bucket.poll();
+
+			if (!task.isRunning()) {
+				size--;
+				continue;
+			}
+
+			/* Due on a later revolution of the wheel. */
+			if (task.getDueTick() != tick) {
+				bucket.add(task);
+				continue;
+			}
+
+			due.add(task);
 		}
 
-		Iterator<Task> iterator = tasks.iterator();
-		while (iterator.hasNext()) {
-			Task task = iterator.next();
-			task.pulse();
+		due.forEach(this::execute);
 
+		for (Task task : due) {
 			if (!task.isRunning()) {
-				iterator.remove();
+				size--;
+				continue;
 			}
+
+			insert(task);
+		}
+
+		tick++;
+	}
+
+	/**
+	 * Executes the specified task, a task which fails is stopped and discarded.
+	 * A task stopped earlier within the same pulse is not executed.
+	 *
+	 * @param task The task.
+	 */
+	private void execute(Task task) {
+		if (!task.isRunning()) {
+			return;
+		}
+
+		try {
+			task.pulse(tick);
+		} catch (RuntimeException e) {
+			logger.error("Task {} failed and has been discarded.", task, e);
+			task.stop();
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Places the specified task in the bucket of the tick it is due on.
+	 *
+	 * @param task The task.
+	 */
+	private void insert(Task task) {
+		wheel[(int) (task.getDueTick() & WHEEL_MASK)].add(task);
+	}
+
+	/**
+	 * Returns the amount of active tasks, including stopped tasks which are
+	 * yet to be discarded.
+	 */
+	public int size() {
+		return size;
+	}
+
+}
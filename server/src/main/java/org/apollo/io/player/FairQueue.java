@@ -0,0 +1,87 @@
+package org.apollo.io.player;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+
+/**
+ * A queue which is fair between keys, such as the host addresses requests
+ * originate from. Each key has its own first-in-first-out queue and keys are
+ * serviced in turn, so a single key submitting many elements can not starve
+ * the elements of every other key.
+ *
+ * <p>
+ * This class is not thread-safe, callers must guard it with their own lock.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ * @param <K> The type of key.
+ * @param <V> The type of element.
+ */
+final class FairQueue<K, V> {
+
+	/**
+	 * The queue of each key with pending elements, in the order they are next
+	 * serviced.
+	 */
+	private final Map<K, Queue<V>> queues = new LinkedHashMap<>();
+
+	/**
+	 * The amount of pending elements.
+	 */
+	private int size;
+
+	/**
+	 * Adds an element to the queue of the specified key.
+	 *
+	 * @param key The key.
+	 * @param value The element.
+	 */
+	public void add(K key, V value) {
+		queues.computeIfAbsent(key, k -> new ArrayDeque<>()).add(value);
+		size++;
+	}
+
+	/**
+	 * Removes the next element of the key whose turn it is, moving that key
+	 * to the back of the rotation if it has further elements.
+	 *
+	 * @return The element, or {@code null} if this queue is empty.
+	 */
+	public V poll() {
+		Iterator<Entry<K, Queue<V>>> iterator = queues.entrySet().iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+
+		Entry<K, Queue<V>> entry = iterator.next();
+		iterator.remove();
+
+		Queue<V> queue = entry.getValue();
+		V value = queue.poll();
+		if (!queue.isEmpty()) {
+			queues.put(entry.getKey(), queue);
+		}
+
+		size--;
+		return value;
+	}
+
+	/**
+	 * Returns the amount of pending elements.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether or not this queue is empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+}
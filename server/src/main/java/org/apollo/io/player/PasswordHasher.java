@@ -0,0 +1,203 @@
+package org.apollo.io.player;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apollo.game.crypto.BCrypt;
+import org.apollo.util.ThreadUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies and generates password hashes on a dedicated pool of threads.
+ *
+ * <p>
+ * Hashing is purely CPU bound, so the pool is sized to the amount of
+ * available processors and never holds a database connection. Pending
+ * requests are serviced fairly between host addresses, so a single host
+ * reconnecting many accounts at once can not starve the logins of every other
+ * host.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class PasswordHasher {
+
+	/**
+	 * The log2 of the amount of rounds used when generating a new hash.
+	 */
+	public static final int LOG_ROUNDS = 12;
+
+	/**
+	 * The amount of threads hashing passwords.
+	 */
+	private static final int THREAD_COUNT = ThreadUtil.AVAILABLE_PROCESSORS;
+
+	/**
+	 * Represents a pending hash request.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	private static final class HashRequest {
+
+		/**
+		 * The plaintext password.
+		 */
+		private final String password;
+
+		/**
+		 * The stored hash to verify against, or {@code null} to generate a new
+		 * hash.
+		 */
+		private final String hash;
+
+		/**
+		 * The callback notified with the result.
+		 */
+		private final Consumer<String> callback;
+
+		/**
+		 * The callback notified if the password could not be hashed.
+		 */
+		private final Runnable failure;
+
+		/**
+		 * Constructs a new {@link HashRequest}.
+		 *
+		 * @param password The plaintext password.
+		 * @param hash The stored hash, may be {@code null}.
+		 * @param callback The callback notified with the result.
+		 * @param failure The callback notified if hashing failed.
+		 */
+		private HashRequest(String password, String hash, Consumer<String> callback, Runnable failure) {
+			this.password = password;
+			this.hash = hash;
+			this.callback = callback;
+			this.failure = failure;
+		}
+
+	}
+
+	/**
+	 * The logger used to print information and debug messages to the console.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+	/**
+	 * The lock guarding the pending requests.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * The condition signalled when a request has been submitted.
+	 */
+	private final Condition requestSubmitted = lock.newCondition();
+
+	/**
+	 * The pending requests, by host address.
+	 */
+	private final FairQueue<String, HashRequest> requests = new FairQueue<>();
+
+	/**
+	 * The {@link ExecutorService} running the hashing threads.
+	 */
+	private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT, ThreadUtil.build("PasswordHasher-%d"));
+
+	/**
+	 * Constructs a new {@link PasswordHasher}, starting its threads.
+	 */
+	public PasswordHasher() {
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			executor.execute(this::work);
+		}
+	}
+
+	/**
+	 * Submits a password to be hashed. If a stored hash is specified the
+	 * password is verified against it, otherwise a new hash is generated.
+	 *
+	 * <p>
+	 * The callback is notified on a hashing thread with the hash to store for
+	 * the password, or {@code null} if the password did not match the stored
+	 * hash. If the password could not be hashed at all, for example because
+	 * the stored hash is malformed, the failure callback is notified instead.
+	 * </p>
+	 *
+	 * @param address The host address the request originates from.
+	 * @param password The plaintext password.
+	 * @param hash The stored hash, or {@code null} to generate a new hash.
+	 * @param callback The callback notified with the result.
+	 * @param failure The callback notified if hashing failed.
+	 */
+	public void submit(String address, String password, String hash, Consumer<String> callback, Runnable failure) {
+		lock.lock();
+		try {
+			requests.add(address, new HashRequest(password, hash, callback, failure));
+			requestSubmitted.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Services requests until this hasher's thread is interrupted. A request
+	 * which fails is reported to its failure callback, it never ends the
+	 * thread.
+	 */
+	private void work() {
+		for (;;) {
+			HashRequest request;
+
+			lock.lock();
+			try {
+				while (requests.isEmpty()) {
+					requestSubmitted.await();
+				}
+				request = requests.poll();
+			} catch (InterruptedException e) {
+				return;
+			} finally {
+				lock.unlock();
+			}
+
+			try {
+				request.callback.accept(hash(request));
+			} catch (RuntimeException e) {
+				logger.error("Unable to hash password.", e);
+				request.failure.run();
+			}
+		}
+	}
+
+	/**
+	 * Verifies or generates the hash of the specified request.
+	 *
+	 * @param request The hash request.
+	 * @return The hash to store, or {@code null} if the password did not match.
+	 * @throws RuntimeException If the stored hash is malformed.
+	 */
+	private String hash(HashRequest request) {
+		if (request.hash == null) {
+			return BCrypt.hashpw(request.password, BCrypt.gensalt(LOG_ROUNDS));
+		}
+
+		return BCrypt.checkpw(request.password, request.hash) ? request.hash : null;
+	}
+
+	/**
+	 * Returns the amount of pending hash requests.
+	 */
+	public int getPendingRequests() {
+		lock.lock();
+		try {
+			return requests.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+}
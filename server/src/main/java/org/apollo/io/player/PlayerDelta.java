@@ -0,0 +1,104 @@
+package org.apollo.io.player;
+
+import java.util.BitSet;
+
+import org.apollo.game.model.Player;
+
+/**
+ * A snapshot of the inventory slots and skills of a {@link Player} which have
+ * changed since the player was last saved. Draining a delta clears the
+ * player's changes, if the save fails the delta must be
+ * {@link #restore() restored} so the changes are written by the next save.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class PlayerDelta {
+
+	/**
+	 * Drains the changes of the specified player.
+	 *
+	 * @param player The player.
+	 * @return The drained delta.
+	 */
+	public static PlayerDelta drain(Player player) {
+		return new PlayerDelta(player);
+	}
+
+	/**
+	 * The player this delta belongs to.
+	 */
+	private final Player player;
+
+	/**
+	 * The changed inventory slots.
+	 */
+	private final BitSet inventory;
+
+	/**
+	 * The changed equipment slots.
+	 */
+	private final BitSet equipment;
+
+	/**
+	 * The changed bank slots.
+	 */
+	private final BitSet bank;
+
+	/**
+	 * The changed skills.
+	 */
+	private final BitSet skills;
+
+	/**
+	 * Constructs a new {@link PlayerDelta}, draining the changes of the
+	 * specified player.
+	 *
+	 * @param player The player.
+	 */
+	private PlayerDelta(Player player) {
+		this.player = player;
+		inventory = player.getInventoryChanges().drain();
+		equipment = player.getEquipmentChanges().drain();
+		bank = player.getBankChanges().drain();
+		skills = player.getSkillChanges().drain();
+	}
+
+	/**
+	 * Returns the changed inventory slots.
+	 */
+	public BitSet getInventory() {
+		return inventory;
+	}
+
+	/**
+	 * Returns the changed equipment slots.
+	 */
+	public BitSet getEquipment() {
+		return equipment;
+	}
+
+	/**
+	 * Returns the changed bank slots.
+	 */
+	public BitSet getBank() {
+		return bank;
+	}
+
+	/**
+	 * Returns the changed skills.
+	 */
+	public BitSet getSkills() {
+		return skills;
+	}
+
+	/**
+	 * Marks every change of this delta as unsaved again.
+	 */
+	public void restore() {
+		player.getInventoryChanges().mark(inventory);
+		player.getEquipmentChanges().mark(equipment);
+		player.getBankChanges().mark(bank);
+		player.getSkillChanges().mark(skills);
+	}
+
+}
@@ -2,9 +2,11 @@ package org.apollo.io.player;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.apollo.game.model.Player;
 import org.apollo.game.model.World;
+import org.apollo.net.codec.login.LoginConstants;
 import org.apollo.security.PlayerCredentials;
 
 /**
@@ -43,6 +45,30 @@ public abstract class PlayerSerializer {
 	 */
 	protected abstract PlayerSerializerResponse loadPlayer(PlayerCredentials credentials) throws SQLException, IOException;
 
+	/**
+	 * This event is fired once the password of a player whose load
+	 * {@link PlayerSerializerResponse#isHashRequired() required hashing} has
+	 * been hashed, completing the load. By default the player is accepted if
+	 * the password matched.
+	 *
+	 * @param credentials The credentials passed.
+	 * @param response The response which required hashing.
+	 * @param passwordHash The hash to store for the password, or {@code null}
+	 *            if the password did not match.
+	 * @return The response of this load request.
+	 * @throws SQLException If some database access error occurs.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	protected PlayerSerializerResponse completeLoad(PlayerCredentials credentials, PlayerSerializerResponse response, String passwordHash) throws SQLException, IOException {
+		if (passwordHash == null) {
+			return new PlayerSerializerResponse(LoginConstants.STATUS_INVALID_CREDENTIALS);
+		}
+
+		Player player = response.getPlayer();
+		player.setPasswordHash(passwordHash);
+		return new PlayerSerializerResponse(LoginConstants.STATUS_OK, player);
+	}
+
 	/**
 	 * This event is fired when a player is logged out of the game naturally.
 	 *
@@ -52,6 +78,21 @@ public abstract class PlayerSerializer {
 	 */
 	protected abstract void savePlayer(Player player) throws SQLException, IOException;
 
+	/**
+	 * This event is fired when a batch of players is to be saved together. By
+	 * default each player is saved in turn, implementations which can write a
+	 * batch more efficiently should override this method.
+	 *
+	 * @param players The players to save.
+	 * @throws SQLException If some database access error occurs.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	protected void savePlayers(List<Player> players) throws SQLException, IOException {
+		for (Player player : players) {
+			savePlayer(player);
+		}
+	}
+
 	/**
 	 * Returns the world this player is in.
 	 */
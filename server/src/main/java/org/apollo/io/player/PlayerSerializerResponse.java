@@ -22,6 +22,18 @@ public final class PlayerSerializerResponse {
 	 */
 	private final Player player;
 
+	/**
+	 * Whether or not the password of the player must be hashed before the
+	 * load completes.
+	 */
+	private final boolean hashRequired;
+
+	/**
+	 * The stored password hash to verify against, or {@code null} if a new
+	 * hash must be generated.
+	 */
+	private final String passwordHash;
+
 	/**
 	 * Creates a {@link PlayerSerializerResponse} with only a status code.
 	 *
@@ -35,6 +47,8 @@ public final class PlayerSerializerResponse {
 		}
 		this.status = status;
 		player = null;
+		hashRequired = false;
+		passwordHash = null;
 	}
 
 	/**
@@ -51,6 +65,25 @@ public final class PlayerSerializerResponse {
 		}
 		this.status = status;
 		this.player = player;
+		hashRequired = false;
+		passwordHash = null;
+	}
+
+	/**
+	 * Creates a {@link PlayerSerializerResponse} for a player whose password
+	 * must be hashed before the load is completed by
+	 * {@link PlayerSerializer#completeLoad}.
+	 *
+	 * @param player The player.
+	 * @param passwordHash The stored password hash to verify against, or
+	 *            {@code null} if the account has no stored password and a new
+	 *            hash must be generated.
+	 */
+	public PlayerSerializerResponse(Player player, String passwordHash) {
+		status = LoginConstants.STATUS_OK;
+		this.player = player;
+		this.passwordHash = passwordHash;
+		hashRequired = true;
 	}
 
 	/**
@@ -72,4 +105,20 @@ public final class PlayerSerializerResponse {
 		return player;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Returns whether or not the password of the player must be hashed before
+	 * the load completes.
+	 */
+	public boolean isHashRequired() {
+		return hashRequired;
+	}
+
+	/**
+	 * Returns the stored password hash to verify against, or {@code null} if a
+	 * new hash must be generated.
+	 */
+	public String getPasswordHash() {
+		return passwordHash;
+	}
+
+}
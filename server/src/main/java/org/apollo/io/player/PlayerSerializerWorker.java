@@ -1,8 +1,24 @@
 package org.apollo.io.player;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apollo.fs.FileSystem;
 import org.apollo.game.model.Player;
@@ -10,6 +26,7 @@ import org.apollo.net.codec.login.LoginConstants;
 import org.apollo.net.codec.login.LoginRequest;
 import org.apollo.net.session.GameSession;
 import org.apollo.net.session.LoginSession;
+import org.apollo.security.PlayerCredentials;
 import org.apollo.util.ThreadUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,11 +36,70 @@ import org.slf4j.LoggerFactory;
  * also any verification required is done here before any serialization has
  * taken place.
  *
+ * <p>
+ * Requests are serviced by a fixed amount of worker threads. Load requests
+ * always take priority over save requests. Save requests are coalesced per
+ * player, so several pending saves of the same player result in a single
+ * write, and are handed to the serializer in batches.
+ * </p>
+ *
+ * <p>
+ * Logins are pipelined in stages: the serializer fetches the account, its
+ * password is hashed by the {@link PasswordHasher} and the serializer then
+ * completes the load. Workers are never blocked on hashing, so database round
+ * trips overlap with hashing. Pending loads are serviced fairly between host
+ * addresses, and loads which have already been hashed are completed before
+ * any new load is started.
+ * </p>
+ *
  * @author Graham
  * @author Ryley Kimmel <ryley.kimmel@live.com>
  */
 public final class PlayerSerializerWorker {
 
+	/**
+	 * The amount of worker threads servicing requests.
+	 */
+	private static final int WORKER_COUNT = ThreadUtil.AVAILABLE_PROCESSORS;
+
+	/**
+	 * The maximum amount of players saved within a single batch.
+	 */
+	private static final int MAXIMUM_BATCH_SIZE = 32;
+
+	/**
+	 * Represents a pending save of a single player.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	private static final class SaveRequest {
+
+		/**
+		 * The player to save, replaced by the most recent player submitted.
+		 */
+		private Player player;
+
+		/**
+		 * The sessions notified once the save has completed.
+		 */
+		private final List<GameSession> sessions = new ArrayList<>(1);
+
+		/**
+		 * The time this save was first requested, in nanoseconds.
+		 */
+		private final long requested = System.nanoTime();
+
+		/**
+		 * Constructs a new {@link SaveRequest}.
+		 *
+		 * @param player The player to save.
+		 */
+		private SaveRequest(Player player) {
+			this.player = player;
+		}
+
+	}
+
 	/**
 	 * The logger used to print information and debug messages to the console.
 	 */
@@ -34,6 +110,77 @@ public final class PlayerSerializerWorker {
 	 */
 	private final PlayerSerializer serializer;
 
+	/**
+	 * The lock guarding the pending requests.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * The condition signalled when a request has been submitted.
+	 */
+	private final Condition requestSubmitted = lock.newCondition();
+
+	/**
+	 * The pending load requests, by host address.
+	 */
+	private final FairQueue<String, Runnable> loads = new FairQueue<>();
+
+	/**
+	 * A queue of loads which have been hashed and are waiting to be completed.
+	 */
+	private final Queue<Runnable> continuations = new ArrayDeque<>();
+
+	/**
+	 * The password hasher.
+	 */
+	private final PasswordHasher hasher = new PasswordHasher();
+
+	/**
+	 * A {@link Map} of encoded player names to pending saves, in the order they
+	 * were first requested.
+	 */
+	private final Map<Long, SaveRequest> saves = new LinkedHashMap<>();
+
+	/**
+	 * A {@link Set} of encoded names of the players currently being saved.
+	 */
+	private final Set<Long> saving = new HashSet<>();
+
+	/**
+	 * The amount of saves which were merged into an already pending save.
+	 */
+	private final LongAdder coalescedSaves = new LongAdder();
+
+	/**
+	 * The amount of completed saves.
+	 */
+	private final LongAdder completedSaves = new LongAdder();
+
+	/**
+	 * The amount of completed loads.
+	 */
+	private final LongAdder completedLoads = new LongAdder();
+
+	/**
+	 * The total latency of every completed load, in nanoseconds.
+	 */
+	private final LongAdder totalLoadLatency = new LongAdder();
+
+	/**
+	 * The total latency of every completed save, in nanoseconds.
+	 */
+	private final LongAdder totalSaveLatency = new LongAdder();
+
+	/**
+	 * The latency of the last completed save, in nanoseconds.
+	 */
+	private final AtomicLong lastSaveLatency = new AtomicLong();
+
+	/**
+	 * The {@link ExecutorService} running the worker threads.
+	 */
+	private final ExecutorService executor = Executors.newFixedThreadPool(WORKER_COUNT, ThreadUtil.build("PlayerSerializer-%d"));
+
 	/**
 	 * Constructs a new {@link PlayerSerializerWorker} with specified
 	 * serializer.
@@ -42,12 +189,11 @@ public final class PlayerSerializerWorker {
 	 */
 	public PlayerSerializerWorker(PlayerSerializer serializer) {
 		this.serializer = serializer;
-	}
 
-	/**
-	 * The {@link ExecutorService} to which workers are submitted.
-	 */
-	private final ExecutorService executor = Executors.newCachedThreadPool(ThreadUtil.build("PlayerSerializer"));
+		for (int i = 0; i < WORKER_COUNT; i++) {
+			executor.execute(this::work);
+		}
+	}
 
 	/**
 	 * Submits a login request.
@@ -58,33 +204,366 @@ public final class PlayerSerializerWorker {
 	 * @throws IOException If some I/O exception occurs.
 	 */
 	public void submitLoadRequest(LoginSession session, LoginRequest request, FileSystem fileSystem) throws IOException {
-		executor.submit(() -> {
+		PlayerCredentials credentials = request.getCredentials();
+		long requested = System.nanoTime();
+
+		submit(credentials.getAddress(), () -> {
 			try {
-				PlayerSerializerResponse response = serializer.loadPlayer(request.getCredentials());
-				session.handlePlayerLoaderResponse(request, response);
+				PlayerSerializerResponse response = serializer.loadPlayer(credentials);
+				if (!response.isHashRequired()) {
+					respond(session, request, response, requested);
+					return;
+				}
+
+				hasher.submit(credentials.getAddress(), credentials.getPassword(), response.getPasswordHash(), hash -> continueWith(() -> {
+					try {
+						respond(session, request, serializer.completeLoad(credentials, response, hash), requested);
+					} catch (Exception e) {
+						logger.error("Unable to load players game.", e);
+						respond(session, request, new PlayerSerializerResponse(LoginConstants.STATUS_COULD_NOT_COMPLETE), requested);
+					}
+				}), () -> continueWith(() -> respond(session, request, new PlayerSerializerResponse(LoginConstants.STATUS_COULD_NOT_COMPLETE), requested)));
 			} catch (Exception e) {
 				logger.error("Unable to load players game.", e);
-				session.handlePlayerLoaderResponse(request, new PlayerSerializerResponse(LoginConstants.STATUS_COULD_NOT_COMPLETE));
+				respond(session, request, new PlayerSerializerResponse(LoginConstants.STATUS_COULD_NOT_COMPLETE), requested);
 			}
 		});
 	}
 
 	/**
-	 * Submits a save request.
+	 * Responds to a load request, recording its latency.
+	 *
+	 * @param session The session which submitted the request.
+	 * @param request The login request.
+	 * @param response The response.
+	 * @param requested The time the load was requested, in nanoseconds.
+	 */
+	private void respond(LoginSession session, LoginRequest request, PlayerSerializerResponse response, long requested) {
+		totalLoadLatency.add(System.nanoTime() - requested);
+		completedLoads.increment();
+
+		session.handlePlayerLoaderResponse(request, response);
+	}
+
+	/**
+	 * Submits a save request, the specified session is notified once the
+	 * player has been saved.
 	 *
 	 * @param session The session submitting this request.
 	 * @param player The player to save.
 	 */
 	public void submitSaveRequest(GameSession session, Player player) {
-		executor.submit(() -> {
+		submitSave(session, player);
+	}
+
+	/**
+	 * Submits a save request which no session waits upon, such as the save of
+	 * a {@link Player#snapshot() snapshot}.
+	 *
+	 * @param player The player to save.
+	 */
+	public void submitSaveRequest(Player player) {
+		submitSave(null, player);
+	}
+
+	/**
+	 * Submits a save request, coalescing it with any pending save of the same
+	 * player.
+	 *
+	 * @param session The session to notify once saved, may be {@code null}.
+	 * @param player The player to save.
+	 */
+	private void submitSave(GameSession session, Player player) {
+		lock.lock();
+		try {
+			SaveRequest request = saves.get(player.getEncodedName());
+			if (request == null) {
+				request = new SaveRequest(player);
+				saves.put(player.getEncodedName(), request);
+			} else {
+				coalescedSaves.increment();
+
+				/*
+				 * The most recent player is saved, the unsaved changes of the
+				 * player it replaces are returned to the player they came from.
+				 */
+				if (request.player != player) {
+					PlayerDelta.drain(request.player).restore();
+					request.player = player;
+				}
+			}
+
+			if (session != null) {
+				request.sessions.add(session);
+			}
+			requestSubmitted.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Submits a load request, to be serviced before any pending save.
+	 *
+	 * @param address The host address the request originates from.
+	 * @param request The load request.
+	 */
+	private void submit(String address, Runnable request) {
+		lock.lock();
+		try {
+			loads.add(address, request);
+			requestSubmitted.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Submits the continuation of a load whose password has been hashed, to
+	 * be serviced before any new load.
+	 *
+	 * @param continuation The continuation.
+	 */
+	private void continueWith(Runnable continuation) {
+		lock.lock();
+		try {
+			continuations.add(continuation);
+			requestSubmitted.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Services requests until this worker's thread is interrupted.
+	 */
+	private void work() {
+		for (;;) {
+			Runnable load = null;
+			List<SaveRequest> batch = null;
+
+			lock.lock();
 			try {
-				serializer.savePlayer(player);
-			} catch (Exception e) {
-				logger.error("Unable to save players game.", e);
+				for (;;) {
+					load = continuations.poll();
+					if (load == null) {
+						load = loads.poll();
+					}
+					if (load != null) {
+						break;
+					}
+
+					batch = drainSaves();
+					if (!batch.isEmpty()) {
+						break;
+					}
+
+					requestSubmitted.await();
+				}
+			} catch (InterruptedException e) {
+				return;
 			} finally {
-				session.handlePlayerSaverResponse();
+				lock.unlock();
 			}
-		});
+
+			if (load != null) {
+				load.run();
+			} else {
+				save(batch);
+			}
+		}
+	}
+
+	/**
+	 * Removes up to {@link #MAXIMUM_BATCH_SIZE} pending saves, skipping players
+	 * which are currently being saved by another worker. This method must be
+	 * called while holding the {@link #lock}.
+	 *
+	 * @return The drained batch, possibly empty.
+	 */
+	private List<SaveRequest> drainSaves() {
+		if (saves.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<SaveRequest> batch = new ArrayList<>(Math.min(saves.size(), MAXIMUM_BATCH_SIZE));
+		Iterator<SaveRequest> iterator = saves.values().iterator();
+		while (iterator.hasNext() && batch.size() < MAXIMUM_BATCH_SIZE) {
+			SaveRequest request = iterator.next();
+			if (saving.add(request.player.getEncodedName())) {
+				iterator.remove();
+				batch.add(request);
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Saves the specified batch of players, falling back to saving each player
+	 * individually if the batch fails.
+	 *
+	 * @param batch The batch of save requests.
+	 */
+	private void save(List<SaveRequest> batch) {
+		List<Player> players = new ArrayList<>(batch.size());
+		batch.forEach(request -> players.add(request.player));
+
+		try {
+			serializer.savePlayers(players);
+		} catch (Exception reason) {
+			logger.error("Unable to save batch of {} players, saving individually.", players.size(), reason);
+
+			for (Player player : players) {
+				try {
+					serializer.savePlayer(player);
+				} catch (Exception e) {
+					logger.error("Unable to save players game.", e);
+				}
+			}
+		} finally {
+			complete(batch);
+		}
+	}
+
+	/**
+	 * Completes the specified batch, recording the save latency and notifying
+	 * any waiting sessions.
+	 *
+	 * @param batch The batch of save requests.
+	 */
+	private void complete(List<SaveRequest> batch) {
+		long now = System.nanoTime();
+
+		lock.lock();
+		try {
+			batch.forEach(request -> saving.remove(request.player.getEncodedName()));
+			if (!saves.isEmpty()) {
+				requestSubmitted.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		for (SaveRequest request : batch) {
+			long latency = now - request.requested;
+			lastSaveLatency.set(latency);
+			totalSaveLatency.add(latency);
+			completedSaves.increment();
+
+			request.sessions.forEach(GameSession::handlePlayerSaverResponse);
+		}
+	}
+
+	/**
+	 * Returns the amount of pending load requests, including loads waiting to
+	 * be completed after hashing.
+	 */
+	public int getPendingLoads() {
+		lock.lock();
+		try {
+			return loads.size() + continuations.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the amount of passwords waiting to be hashed.
+	 */
+	public int getPendingHashes() {
+		return hasher.getPendingRequests();
+	}
+
+	/**
+	 * Returns the amount of completed loads, successful or not.
+	 */
+	public long getCompletedLoads() {
+		return completedLoads.sum();
+	}
+
+	/**
+	 * Returns the average latency between requesting and completing a load.
+	 *
+	 * @param unit The unit of time to return the latency in.
+	 * @return The average load latency, or {@code 0} if nothing was loaded.
+	 */
+	public long getAverageLoadLatency(TimeUnit unit) {
+		long completed = completedLoads.sum();
+		if (completed == 0) {
+			return 0;
+		}
+		return unit.convert(totalLoadLatency.sum() / completed, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the amount of players waiting to be saved.
+	 */
+	public int getPendingSaves() {
+		lock.lock();
+		try {
+			return saves.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the save lag, the time the oldest pending save has been waiting.
+	 *
+	 * @param unit The unit of time to return the lag in.
+	 * @return The save lag, or {@code 0} if no save is pending.
+	 */
+	public long getSaveLag(TimeUnit unit) {
+		lock.lock();
+		try {
+			if (saves.isEmpty()) {
+				return 0;
+			}
+
+			SaveRequest oldest = saves.values().iterator().next();
+			return unit.convert(System.nanoTime() - oldest.requested, TimeUnit.NANOSECONDS);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the amount of save requests which were merged into an already
+	 * pending save.
+	 */
+	public long getCoalescedSaves() {
+		return coalescedSaves.sum();
+	}
+
+	/**
+	 * Returns the amount of completed saves.
+	 */
+	public long getCompletedSaves() {
+		return completedSaves.sum();
+	}
+
+	/**
+	 * Returns the latency between requesting and completing the last save.
+	 *
+	 * @param unit The unit of time to return the latency in.
+	 * @return The latency of the last save.
+	 */
+	public long getLastSaveLatency(TimeUnit unit) {
+		return unit.convert(lastSaveLatency.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the average latency between requesting and completing a save.
+	 *
+	 * @param unit The unit of time to return the latency in.
+	 * @return The average save latency, or {@code 0} if nothing was saved.
+	 */
+	public long getAverageSaveLatency(TimeUnit unit) {
+		long completed = completedSaves.sum();
+		if (completed == 0) {
+			return 0;
+		}
+		return unit.convert(totalSaveLatency.sum() / completed, TimeUnit.NANOSECONDS);
 	}
 
-}
\ No newline at end of file
+}
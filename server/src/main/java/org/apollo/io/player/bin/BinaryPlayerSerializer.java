@@ -1,11 +1,16 @@
 package org.apollo.io.player.bin;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.BitSet;
 
 import org.apollo.game.model.Appearance;
 import org.apollo.game.model.Gender;
@@ -18,6 +23,7 @@ import org.apollo.game.model.World;
 import org.apollo.game.model.inv.Inventory;
 import org.apollo.game.model.skill.Skill;
 import org.apollo.game.model.skill.SkillSet;
+import org.apollo.io.player.PlayerDelta;
 import org.apollo.io.player.PlayerSerializer;
 import org.apollo.io.player.PlayerSerializerResponse;
 import org.apollo.net.codec.login.LoginConstants;
@@ -33,6 +39,16 @@ import org.apollo.util.StreamUtil;
  */
 public final class BinaryPlayerSerializer extends PlayerSerializer {
 
+	/**
+	 * The size of a single serialized inventory slot, in bytes.
+	 */
+	private static final int SLOT_SIZE = Short.BYTES + Integer.BYTES;
+
+	/**
+	 * The size of a single serialized skill, in bytes.
+	 */
+	private static final int SKILL_SIZE = Byte.BYTES + Double.BYTES;
+
 	/**
 	 * Constructs a new {@link BinaryPlayerSerializer} with the specified world.
 	 *
@@ -44,9 +60,85 @@ public final class BinaryPlayerSerializer extends PlayerSerializer {
 
 	@Override
 	protected void savePlayer(Player player) throws IOException {
+		PlayerDelta delta = PlayerDelta.drain(player);
+		try {
+			savePlayer(player, delta);
+		} catch (IOException e) {
+			delta.restore();
+			throw e;
+		}
+	}
+
+	/**
+	 * Saves the specified player. If the player's file already exists with the
+	 * expected layout only the header and the changed slots and skills are
+	 * rewritten, otherwise the whole file is written.
+	 *
+	 * @param player The player.
+	 * @param delta The changes made since the player was last saved.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	private void savePlayer(Player player, PlayerDelta delta) throws IOException {
 		File f = BinaryPlayerUtil.getFile(player.getName());
+		byte[] header = encodeHeader(player);
+
+		SkillSet skills = player.getSkillSet();
+		long length = header.length + inventoryLength(player.getInventory()) + inventoryLength(player.getEquipment()) + inventoryLength(player.getBank()) + Byte.BYTES + skills.size() * SKILL_SIZE;
+
+		/*
+		 * Every section following the header has a fixed size, so a file of
+		 * the expected length shares the current layout.
+		 */
+		if (!f.exists() || f.length() != length) {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f)))) {
+				out.write(header);
 
-		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(f))) {
+				// write inventories
+				writeInventory(out, player.getInventory());
+				writeInventory(out, player.getEquipment());
+				writeInventory(out, player.getBank());
+
+				// write skills
+				out.writeByte(skills.size());
+				for (int i = 0; i < skills.size(); i++) {
+					Skill skill = skills.getSkill(i);
+					out.writeByte(skill.getCurrentLevel());
+					out.writeDouble(skill.getExperience());
+				}
+			}
+			return;
+		}
+
+		try (RandomAccessFile out = new RandomAccessFile(f, "rw")) {
+			out.write(header);
+
+			long offset = header.length;
+			offset = writeSlots(out, offset, player.getInventory(), delta.getInventory());
+			offset = writeSlots(out, offset, player.getEquipment(), delta.getEquipment());
+			offset = writeSlots(out, offset, player.getBank(), delta.getBank());
+
+			BitSet ids = delta.getSkills();
+			for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+				Skill skill = skills.getSkill(id);
+				out.seek(offset + Byte.BYTES + id * SKILL_SIZE);
+				out.writeByte(skill.getCurrentLevel());
+				out.writeDouble(skill.getExperience());
+			}
+		}
+	}
+
+	/**
+	 * Encodes the credentials, privileges, position and appearance of the
+	 * specified player.
+	 *
+	 * @param player The player.
+	 * @return The encoded header.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	private byte[] encodeHeader(Player player) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
 			// write credentials and privileges
 			StreamUtil.writeString(out, player.getName());
 			StreamUtil.writeString(out, player.getCredentials().getPassword());
@@ -71,22 +163,37 @@ public final class BinaryPlayerSerializer extends PlayerSerializer {
 			for (int color : colors) {
 				out.writeByte(color);
 			}
-			out.flush();
-
-			// write inventories
-			writeInventory(out, player.getInventory());
-			writeInventory(out, player.getEquipment());
-			writeInventory(out, player.getBank());
-
-			// write skills
-			SkillSet skills = player.getSkillSet();
-			out.writeByte(skills.size());
-			for (int i = 0; i < skills.size(); i++) {
-				Skill skill = skills.getSkill(i);
-				out.writeByte(skill.getCurrentLevel());
-				out.writeDouble(skill.getExperience());
-			}
 		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Returns the serialized length of the specified inventory, in bytes.
+	 *
+	 * @param inventory The inventory.
+	 * @return The serialized length.
+	 */
+	private static int inventoryLength(Inventory inventory) {
+		return Short.BYTES + inventory.capacity() * SLOT_SIZE;
+	}
+
+	/**
+	 * Writes the specified slots of an inventory in place.
+	 *
+	 * @param out The file to write to.
+	 * @param offset The offset of the inventory within the file.
+	 * @param inventory The inventory.
+	 * @param slots The slots to write.
+	 * @return The offset of the section following the inventory.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	private long writeSlots(RandomAccessFile out, long offset, Inventory inventory, BitSet slots) throws IOException {
+		for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+			out.seek(offset + Short.BYTES + slot * SLOT_SIZE);
+			writeSlot(out, inventory.get(slot));
+		}
+		return offset + inventoryLength(inventory);
 	}
 
 	/**
@@ -101,14 +208,24 @@ public final class BinaryPlayerSerializer extends PlayerSerializer {
 		out.writeShort(capacity);
 
 		for (int slot = 0; slot < capacity; slot++) {
-			Item item = inventory.get(slot);
-			if (item != null) {
-				out.writeShort(item.getId() + 1);
-				out.writeInt(item.getAmount());
-			} else {
-				out.writeShort(0);
-				out.writeInt(0);
-			}
+			writeSlot(out, inventory.get(slot));
+		}
+	}
+
+	/**
+	 * Writes a single inventory slot.
+	 *
+	 * @param out The output to write to.
+	 * @param item The item within the slot, may be {@code null}.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	private void writeSlot(DataOutput out, Item item) throws IOException {
+		if (item != null) {
+			out.writeShort(item.getId() + 1);
+			out.writeInt(item.getAmount());
+		} else {
+			out.writeShort(0);
+			out.writeInt(0);
 		}
 	}
 
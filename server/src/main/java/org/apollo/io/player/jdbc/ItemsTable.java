@@ -6,10 +6,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.BitSet;
 
 import org.apollo.game.model.Item;
 import org.apollo.game.model.Player;
 import org.apollo.game.model.inv.Inventory;
+import org.apollo.io.player.PlayerDelta;
 
 /**
  * A {@link Table} which serializes player inventories.
@@ -56,6 +58,14 @@ public abstract class ItemsTable extends Table {
 	 */
 	public abstract Inventory getInventory(Player player);
 
+	/**
+	 * Returns the changed slots of the inventory within the specified delta.
+	 *
+	 * @param delta The delta.
+	 * @return The changed slots.
+	 */
+	public abstract BitSet getChangedSlots(PlayerDelta delta);
+
 	@Override
 	public void load(Player player) throws SQLException, IOException {
 		loadStatement.setInt(1, player.getDatabaseId());
@@ -79,13 +89,35 @@ public abstract class ItemsTable extends Table {
 
 	@Override
 	public void save(Player player) throws SQLException, IOException {
+		BitSet slots = new BitSet();
+		slots.set(0, getInventory(player).capacity());
+		save(player, slots);
+	}
+
+	@Override
+	public void save(Player player, PlayerDelta delta) throws SQLException, IOException {
+		BitSet slots = getChangedSlots(delta);
+		if (slots.isEmpty()) {
+			return;
+		}
+
+		save(player, slots);
+	}
+
+	/**
+	 * Saves the specified slots of the players inventory.
+	 *
+	 * @param player The player.
+	 * @param slots The slots to save.
+	 * @throws SQLException If some database access error occurs.
+	 */
+	private void save(Player player, BitSet slots) throws SQLException {
 		saveStatement.setInt(1, player.getDatabaseId());
 		saveStatement.setString(2, type);
 
 		Inventory inventory = getInventory(player);
-		Item[] items = inventory.getItems();
-		for (int slot = 0; slot < items.length; slot++) {
-			Item item = items[slot];
+		for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+			Item item = inventory.get(slot);
 
 			saveStatement.setInt(3, slot);
 			if (item == null) {
@@ -5,20 +5,20 @@ import static java.time.temporal.ChronoUnit.MINUTES;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
-import org.apollo.game.crypto.BCrypt;
 import org.apollo.game.model.Player;
 import org.apollo.game.model.PlayerConstants;
 import org.apollo.game.model.World;
-import org.apollo.game.model.inv.Inventory;
-import org.apollo.io.player.PlayerSanctionProvider;
+import org.apollo.io.player.PlayerDelta;
 import org.apollo.io.player.PlayerSanctionResponse;
 import org.apollo.io.player.PlayerSerializer;
 import org.apollo.io.player.PlayerSerializerResponse;
@@ -31,6 +31,12 @@ import org.slf4j.LoggerFactory;
  * A {@link PlayerSerializer} implementation which supports the JDBC MySQL
  * protocol.
  *
+ * <p>
+ * This serializer is thread-safe, every load or save borrows a
+ * {@link PooledConnection} which has its own prepared statements and returns
+ * it once complete, so concurrent requests never share a connection.
+ * </p>
+ *
  * @author Ryley Kimmel <ryley.kimmel@live.com>
  */
 public final class JdbcPlayerSerializer extends PlayerSerializer implements Closeable {
@@ -46,161 +52,287 @@ public final class JdbcPlayerSerializer extends PlayerSerializer implements Clos
 	private final Logger logger = LoggerFactory.getLogger(JdbcPlayerSerializer.class);
 
 	/**
-	 * The database connection.
-	 */
-	private final Connection connection;
-
-	/**
-	 * A prepared statement which selects the necessary information from the
-	 * players table required in order to query the {@link #tables}.
-	 */
-	private final PreparedStatement loginStatement;
-
-	/**
-	 * A prepared statement which selects information about the current amount
-	 * of failed login attempts.
+	 * The pool of idle database connections.
 	 */
-	private final PreparedStatement selectFailedLogins;
+	private final BlockingQueue<PooledConnection> pool;
 
 	/**
-	 * A prepared statement which inserts failed login user information to the
-	 * database.
+	 * The database url.
 	 */
-	private final PreparedStatement insertFailedLogins;
+	private final String url;
 
 	/**
-	 * A prepared statement which closes failed login users.
+	 * The database username.
 	 */
-	private final PreparedStatement closeFailedLogins;
+	private final String username;
 
 	/**
-	 * The sanction provider which checks a players sanctions.
+	 * The database password.
 	 */
-	private final PlayerSanctionProvider sanctionProvider;
+	private final String password;
 
 	/**
-	 * An array of {@link Table}s used to load and save player information.
+	 * Constructs a new {@link JdbcPlayerSerializer} with the specified url,
+	 * username and password used for connecting to the database, using a
+	 * single connection.
+	 *
+	 * @param url The database url.
+	 * @param username The database username.
+	 * @param password The database password.
+	 * @param world The world this player is in.
+	 * @throws SQLException If some database access error occurs.
 	 */
-	private final Table[] tables;
+	public JdbcPlayerSerializer(String url, String username, String password, World world) throws SQLException {
+		this(url, username, password, world, 1);
+	}
 
 	/**
 	 * Constructs a new {@link JdbcPlayerSerializer} with the specified url,
-	 * username and password used for connecting to the database.
+	 * username and password used for connecting to the database, opening the
+	 * specified amount of pooled connections.
 	 *
 	 * @param url The database url.
 	 * @param username The database username.
 	 * @param password The database password.
 	 * @param world The world this player is in.
+	 * @param poolSize The amount of connections to open.
 	 * @throws SQLException If some database access error occurs.
 	 */
-	public JdbcPlayerSerializer(String url, String username, String password, World world) throws SQLException {
+	public JdbcPlayerSerializer(String url, String username, String password, World world, int poolSize) throws SQLException {
 		super(world);
-		connection = DriverManager.getConnection(url, username, password);
-		connection.setAutoCommit(false);
-		sanctionProvider = new JdbcSanctionProvider(connection);
-		loginStatement = connection.prepareStatement("SELECT id, password FROM players WHERE username = ?;");
-		selectFailedLogins = connection.prepareStatement("SELECT UNIX_TIMESTAMP() as now, count, UNIX_TIMESTAMP(expire) as expire FROM failed_logins WHERE player_id = ?;");
-		insertFailedLogins = connection.prepareStatement("INSERT INTO failed_logins (player_id, expire) VALUES (?, ?) ON DUPLICATE KEY UPDATE count = count + 1;");
-		closeFailedLogins = connection.prepareStatement("DELETE FROM failed_logins WHERE player_id = ?;");
-		tables = new Table[] { new PlayersTable(connection),
-				new SkillsTable(connection), new AppearanceTable(connection),
-				new SettingsTable(connection),
-				new ItemsTable(connection, "inventory") {
-					@Override
-					public Inventory getInventory(Player player) {
-						return player.getInventory();
-					}
-				}, new ItemsTable(connection, "equipment") {
-					@Override
-					public Inventory getInventory(Player player) {
-						return player.getEquipment();
-					}
-				}, new ItemsTable(connection, "bank") {
-					@Override
-					public Inventory getInventory(Player player) {
-						return player.getBank();
-					}
-				} };
+		if (poolSize <= 0) {
+			throw new IllegalArgumentException("Pool size must be positive: " + poolSize);
+		}
+
+		this.url = url;
+		this.username = username;
+		this.password = password;
+
+		pool = new ArrayBlockingQueue<>(poolSize);
+		for (int i = 0; i < poolSize; i++) {
+			pool.add(new PooledConnection(url, username, password));
+		}
 	}
 
 	@Override
 	public PlayerSerializerResponse loadPlayer(PlayerCredentials credentials) throws IOException, SQLException {
+		PooledConnection connection = borrow();
+		try {
+			PlayerSerializerResponse response = loadPlayer(connection, credentials);
+			connection.getConnection().commit();
+			return response;
+		} catch (SQLException | IOException e) {
+			rollback(connection);
+			logger.error("Loading player {} failed.", credentials.getUsername(), e);
+			return new PlayerSerializerResponse(LoginConstants.STATUS_COULD_NOT_COMPLETE);
+		} finally {
+			release(connection);
+		}
+	}
+
+	/**
+	 * Loads a player using the specified pooled connection. The caller is
+	 * responsible for ending the transaction this load is executed in.
+	 *
+	 * @param connection The pooled connection.
+	 * @param credentials The credentials of the player to load.
+	 * @return The response of this load request.
+	 * @throws SQLException If some database access error occurs.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	private PlayerSerializerResponse loadPlayer(PooledConnection connection, PlayerCredentials credentials) throws SQLException, IOException {
+		PreparedStatement loginStatement = connection.getLoginStatement();
 		loginStatement.setString(1, credentials.getUsername());
 
-		try {
-			PlayerSanctionResponse response = sanctionProvider.check(credentials);
-			if (response.getStatus() != LoginConstants.STATUS_OK) {
-				return new PlayerSerializerResponse(response.getStatus());
-			}
+		PlayerSanctionResponse response = connection.getSanctionProvider().check(credentials);
+		if (response.getStatus() != LoginConstants.STATUS_OK) {
+			return new PlayerSerializerResponse(response.getStatus());
+		}
 
-			try (ResultSet set = loginStatement.executeQuery()) {
-				Player player = new Player(credentials, PlayerConstants.SPAWN_POSITION, world);
+		try (ResultSet set = loginStatement.executeQuery()) {
+			Player player = new Player(credentials, PlayerConstants.SPAWN_POSITION, world);
 
-				/* The account doesn't exist, let's create it. */
-				if (!set.first()) {
-					return new PlayerSerializerResponse(LoginConstants.STATUS_OK, player);
-				}
+			/*
+			 * The account doesn't exist, let's create it once its password
+			 * has been hashed.
+			 */
+			if (!set.first()) {
+				return new PlayerSerializerResponse(player, null);
+			}
 
-				int id = set.getInt("id");
-				String hashedPassword = set.getString("password");
+			int id = set.getInt("id");
+			String hashedPassword = set.getString("password");
 
-				/*
-				 * Check to be sure we aren't blocked from logging in.
-				 */
-				if (failedAttempts(id) >= MAXIMUM_FAILED_LOGIN_ATTEMPTS) {
-					return new PlayerSerializerResponse(LoginConstants.STATUS_TOO_MANY_LOGINS);
-				}
+			/*
+			 * Check to be sure we aren't blocked from logging in.
+			 */
+			if (failedAttempts(connection, id) >= MAXIMUM_FAILED_LOGIN_ATTEMPTS) {
+				return new PlayerSerializerResponse(LoginConstants.STATUS_TOO_MANY_LOGINS);
+			}
 
-				/*
-				 * Wrong password, increment failed count and return invalid
-				 * credentials.
-				 */
-				if (!BCrypt.checkpw(credentials.getPassword(), hashedPassword)) {
-					incrementFailedAttempts(id);
-					return new PlayerSerializerResponse(LoginConstants.STATUS_INVALID_CREDENTIALS);
-				}
+			/*
+			 * The password is verified off of this thread, so the
+			 * connection is free for other logins meanwhile.
+			 */
+			player.setDatabaseId(id);
+			return new PlayerSerializerResponse(player, hashedPassword);
+		}
+	}
 
-				/*
-				 * Success, we can load the player's tables and set the database
-				 * id.
-				 */
-				player.setDatabaseId(id);
+	@Override
+	public PlayerSerializerResponse completeLoad(PlayerCredentials credentials, PlayerSerializerResponse response, String passwordHash) throws IOException, SQLException {
+		Player player = response.getPlayer();
 
-				for (Table table : tables) {
-					table.load(player);
-				}
+		/* A new account has nothing further to load. */
+		if (response.getPasswordHash() == null) {
+			return super.completeLoad(credentials, response, passwordHash);
+		}
+
+		PooledConnection connection = borrow();
+		try {
+			/*
+			 * Wrong password, increment failed count and return invalid
+			 * credentials.
+			 */
+			if (passwordHash == null) {
+				incrementFailedAttempts(connection, player.getDatabaseId());
+				connection.getConnection().commit();
+				return new PlayerSerializerResponse(LoginConstants.STATUS_INVALID_CREDENTIALS);
+			}
 
-				return new PlayerSerializerResponse(LoginConstants.STATUS_OK, player);
+			/*
+			 * Success, we can load the player's tables.
+			 */
+			player.setPasswordHash(passwordHash);
 
+			for (Table table : connection.getTables()) {
+				table.load(player);
 			}
+
+			/*
+			 * Ends the read-only transaction, so the next load on this
+			 * connection sees the saves committed on other connections.
+			 */
+			connection.getConnection().commit();
+			return new PlayerSerializerResponse(LoginConstants.STATUS_OK, player);
 		} catch (SQLException | IOException e) {
+			rollback(connection);
 			logger.error("Loading player {} failed.", credentials.getUsername(), e);
 			return new PlayerSerializerResponse(LoginConstants.STATUS_COULD_NOT_COMPLETE);
+		} finally {
+			release(connection);
 		}
 	}
 
 	@Override
 	public void savePlayer(Player player) throws IOException, SQLException {
+		PooledConnection connection = borrow();
+		PlayerDelta delta = PlayerDelta.drain(player);
 		try {
-			for (Table table : tables) {
-				table.save(player);
+			for (Table table : connection.getTables()) {
+				table.save(player, delta);
 			}
 
-			connection.commit();
+			connection.getConnection().commit();
 		} catch (SQLException | IOException e) {
-			connection.rollback();
+			connection.getConnection().rollback();
+			delta.restore();
 			logger.error("Saving player {} failed.", player.getName(), e);
+		} finally {
+			release(connection);
+		}
+	}
+
+	@Override
+	public void savePlayers(List<Player> players) throws IOException, SQLException {
+		PooledConnection connection = borrow();
+		List<PlayerDelta> deltas = new ArrayList<>(players.size());
+		try {
+			for (Player player : players) {
+				PlayerDelta delta = PlayerDelta.drain(player);
+				deltas.add(delta);
+
+				for (Table table : connection.getTables()) {
+					table.save(player, delta);
+				}
+			}
+
+			connection.getConnection().commit();
+		} catch (SQLException | IOException e) {
+			connection.getConnection().rollback();
+			deltas.forEach(PlayerDelta::restore);
+			throw e;
+		} finally {
+			release(connection);
 		}
 	}
 
+	/**
+	 * Borrows an idle connection from the pool, blocking until one is
+	 * available.
+	 *
+	 * @return The borrowed connection.
+	 * @throws SQLException If the calling thread was interrupted whilst
+	 *             waiting.
+	 */
+	private PooledConnection borrow() throws SQLException {
+		try {
+			return pool.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted whilst waiting for a connection", e);
+		}
+	}
+
+	/**
+	 * Rolls back the current transaction of the specified connection, logging
+	 * rather than throwing if it fails as the connection is validated once it
+	 * is released.
+	 *
+	 * @param connection The pooled connection.
+	 */
+	private void rollback(PooledConnection connection) {
+		try {
+			connection.getConnection().rollback();
+		} catch (SQLException e) {
+			logger.debug("Unable to roll back transaction.", e);
+		}
+	}
+
+	/**
+	 * Returns a borrowed connection to the pool, replacing it with a new
+	 * connection if it is no longer valid.
+	 *
+	 * @param connection The borrowed connection.
+	 */
+	private void release(PooledConnection connection) {
+		if (!connection.isValid()) {
+			try {
+				connection.close();
+			} catch (IOException e) {
+				logger.debug("Unable to close invalid connection.", e);
+			}
+
+			try {
+				connection = new PooledConnection(url, username, password);
+			} catch (SQLException e) {
+				logger.error("Unable to replace invalid connection, retrying on next release.", e);
+			}
+		}
+
+		pool.add(connection);
+	}
+
 	/**
 	 * Returns the amount of failed login attempts for the specified players id.
 	 *
+	 * @param connection The pooled connection.
 	 * @param id The players id.
 	 * @return Returns the amount of failed login attempts.
 	 * @throws SQLException If some database access error occurs.
 	 */
-	private int failedAttempts(int id) throws SQLException {
+	private int failedAttempts(PooledConnection connection, int id) throws SQLException {
+		PreparedStatement selectFailedLogins = connection.getSelectFailedLogins();
 		selectFailedLogins.setInt(1, id);
 
 		try (ResultSet set = selectFailedLogins.executeQuery()) {
@@ -214,6 +346,7 @@ public final class JdbcPlayerSerializer extends PlayerSerializer implements Clos
 
 			/* expired, we can remove it. */
 			if (now >= expire) {
+				PreparedStatement closeFailedLogins = connection.getCloseFailedLogins();
 				closeFailedLogins.setInt(1, id);
 				closeFailedLogins.execute();
 				return 0;
@@ -226,10 +359,12 @@ public final class JdbcPlayerSerializer extends PlayerSerializer implements Clos
 	/**
 	 * Increments the failed login attempts for the specified player's id.
 	 *
+	 * @param connection The pooled connection.
 	 * @param id The players id.
 	 * @throws SQLException If some database access error occurs.
 	 */
-	private void incrementFailedAttempts(int id) throws SQLException {
+	private void incrementFailedAttempts(PooledConnection connection, int id) throws SQLException {
+		PreparedStatement insertFailedLogins = connection.getInsertFailedLogins();
 		insertFailedLogins.setInt(1, id);
 
 		LocalTime now = LocalTime.now();
@@ -242,11 +377,21 @@ public final class JdbcPlayerSerializer extends PlayerSerializer implements Clos
 
 	@Override
 	public void close() throws IOException {
-		try {
-			connection.close();
-		} catch (SQLException e) {
-			throw new IOException(e);
+		List<PooledConnection> connections = new ArrayList<>(pool.size());
+		pool.drainTo(connections);
+
+		IOException failure = null;
+		for (PooledConnection connection : connections) {
+			try {
+				connection.close();
+			} catch (IOException e) {
+				failure = e;
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
 		}
 	}
 
-}
\ No newline at end of file
+}
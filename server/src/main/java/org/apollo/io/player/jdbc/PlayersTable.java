@@ -10,6 +10,7 @@ import org.apollo.game.crypto.BCrypt;
 import org.apollo.game.model.Player;
 import org.apollo.game.model.Player.PrivilegeLevel;
 import org.apollo.game.model.Position;
+import org.apollo.io.player.PasswordHasher;
 
 /**
  * A {@link Table} which serializes player information.
@@ -67,7 +68,7 @@ public final class PlayersTable extends Table {
 	public void save(Player player) throws SQLException {
 		saveStatement.setInt(1, player.getDatabaseId());
 		saveStatement.setString(2, player.getName());
-		saveStatement.setString(3, BCrypt.hashpw(player.getPassword(), BCrypt.gensalt(12)));
+		saveStatement.setString(3, passwordHash(player));
 		saveStatement.setInt(4, player.getPrivilegeLevel().toInteger());
 		saveStatement.setBoolean(5, player.isMembers());
 
@@ -79,4 +80,20 @@ public final class PlayersTable extends Table {
 		saveStatement.execute();
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Returns the password hash of the specified player, only hashing the
+	 * password if the player was not loaded with a hash.
+	 *
+	 * @param player The player.
+	 * @return The password hash.
+	 */
+	private String passwordHash(Player player) {
+		String hash = player.getPasswordHash();
+		if (hash == null) {
+			hash = BCrypt.hashpw(player.getPassword(), BCrypt.gensalt(PasswordHasher.LOG_ROUNDS));
+			player.setPasswordHash(hash);
+		}
+		return hash;
+	}
+
+}
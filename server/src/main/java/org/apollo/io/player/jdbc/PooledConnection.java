@@ -0,0 +1,188 @@
+package org.apollo.io.player.jdbc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+import org.apollo.game.model.Player;
+import org.apollo.game.model.inv.Inventory;
+import org.apollo.io.player.PlayerDelta;
+import org.apollo.io.player.PlayerSanctionProvider;
+
+/**
+ * A single database {@link Connection} along with every statement and
+ * {@link Table} prepared on it. A pooled connection is only ever used by one
+ * thread at a time, it is borrowed from and returned to the
+ * {@link JdbcPlayerSerializer} which owns it.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+final class PooledConnection implements Closeable {
+
+	/**
+	 * The database connection.
+	 */
+	private final Connection connection;
+
+	/**
+	 * A prepared statement which selects the necessary information from the
+	 * players table required in order to query the {@link #tables}.
+	 */
+	private final PreparedStatement loginStatement;
+
+	/**
+	 * A prepared statement which selects information about the current amount
+	 * of failed login attempts.
+	 */
+	private final PreparedStatement selectFailedLogins;
+
+	/**
+	 * A prepared statement which inserts failed login user information to the
+	 * database.
+	 */
+	private final PreparedStatement insertFailedLogins;
+
+	/**
+	 * A prepared statement which closes failed login users.
+	 */
+	private final PreparedStatement closeFailedLogins;
+
+	/**
+	 * The sanction provider which checks a players sanctions.
+	 */
+	private final PlayerSanctionProvider sanctionProvider;
+
+	/**
+	 * An array of {@link Table}s used to load and save player information.
+	 */
+	private final Table[] tables;
+
+	/**
+	 * Constructs a new {@link PooledConnection}, opening a connection to the
+	 * database and preparing every statement on it.
+	 *
+	 * @param url The database url.
+	 * @param username The database username.
+	 * @param password The database password.
+	 * @throws SQLException If some database access error occurs.
+	 */
+	PooledConnection(String url, String username, String password) throws SQLException {
+		connection = DriverManager.getConnection(url, username, password);
+		connection.setAutoCommit(false);
+		sanctionProvider = new JdbcSanctionProvider(connection);
+		loginStatement = connection.prepareStatement("SELECT id, password FROM players WHERE username = ?;");
+		selectFailedLogins = connection.prepareStatement("SELECT UNIX_TIMESTAMP() as now, count, UNIX_TIMESTAMP(expire) as expire FROM failed_logins WHERE player_id = ?;");
+		insertFailedLogins = connection.prepareStatement("INSERT INTO failed_logins (player_id, expire) VALUES (?, ?) ON DUPLICATE KEY UPDATE count = count + 1;");
+		closeFailedLogins = connection.prepareStatement("DELETE FROM failed_logins WHERE player_id = ?;");
+		tables = new Table[] { new PlayersTable(connection),
+				new SkillsTable(connection), new AppearanceTable(connection),
+				new SettingsTable(connection),
+				new ItemsTable(connection, "inventory") {
+					@Override
+					public Inventory getInventory(Player player) {
+						return player.getInventory();
+					}
+
+					@Override
+					public BitSet getChangedSlots(PlayerDelta delta) {
+						return delta.getInventory();
+					}
+				}, new ItemsTable(connection, "equipment") {
+					@Override
+					public Inventory getInventory(Player player) {
+						return player.getEquipment();
+					}
+
+					@Override
+					public BitSet getChangedSlots(PlayerDelta delta) {
+						return delta.getEquipment();
+					}
+				}, new ItemsTable(connection, "bank") {
+					@Override
+					public Inventory getInventory(Player player) {
+						return player.getBank();
+					}
+
+					@Override
+					public BitSet getChangedSlots(PlayerDelta delta) {
+						return delta.getBank();
+					}
+				} };
+	}
+
+	/**
+	 * Returns the database connection.
+	 */
+	Connection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * Returns the login statement.
+	 */
+	PreparedStatement getLoginStatement() {
+		return loginStatement;
+	}
+
+	/**
+	 * Returns the statement which selects failed logins.
+	 */
+	PreparedStatement getSelectFailedLogins() {
+		return selectFailedLogins;
+	}
+
+	/**
+	 * Returns the statement which inserts failed logins.
+	 */
+	PreparedStatement getInsertFailedLogins() {
+		return insertFailedLogins;
+	}
+
+	/**
+	 * Returns the statement which closes failed logins.
+	 */
+	PreparedStatement getCloseFailedLogins() {
+		return closeFailedLogins;
+	}
+
+	/**
+	 * Returns the sanction provider.
+	 */
+	PlayerSanctionProvider getSanctionProvider() {
+		return sanctionProvider;
+	}
+
+	/**
+	 * Returns the tables used to load and save player information.
+	 */
+	Table[] getTables() {
+		return tables;
+	}
+
+	/**
+	 * Tests whether or not the underlying connection is still usable.
+	 *
+	 * @return {@code true} if the connection is valid, otherwise {@code false}.
+	 */
+	boolean isValid() {
+		try {
+			return connection.isValid(0);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			throw new IOException(e);
+		}
+	}
+
+}
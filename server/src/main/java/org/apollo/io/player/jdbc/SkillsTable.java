@@ -5,10 +5,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.BitSet;
 
 import org.apollo.game.model.Player;
 import org.apollo.game.model.skill.Skill;
 import org.apollo.game.model.skill.SkillSet;
+import org.apollo.io.player.PlayerDelta;
 
 /**
  * A {@link Table} which serializes players skills.
@@ -36,7 +38,7 @@ public final class SkillsTable extends Table {
 	 */
 	protected SkillsTable(Connection connection) throws SQLException {
 		loadStatement = connection.prepareStatement("SELECT * FROM skills WHERE player_id = ?;");
-		saveStatement = connection.prepareStatement("INSERT INTO skills (player_id, current_level, experience) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE current_level = VALUES(current_level), experience = VALUES(experience);");
+		saveStatement = connection.prepareStatement("INSERT INTO skills (player_id, skill, current_level, experience) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE current_level = VALUES(current_level), experience = VALUES(experience);");
 	}
 
 	@Override
@@ -48,11 +50,10 @@ public final class SkillsTable extends Table {
 		try {
 			try (ResultSet set = loadStatement.executeQuery()) {
 				while (set.next()) {
-					for (int i = 0; i < SkillSet.SKILL_COUNT; i++) {
-						int level = set.getInt("current_level");
-						double experience = set.getDouble("experience");
-						skills.setSkill(i, new Skill(experience, level, SkillSet.getLevelForExperience(experience)));
-					}
+					int id = set.getInt("skill");
+					int level = set.getInt("current_level");
+					double experience = set.getDouble("experience");
+					skills.setSkill(id, new Skill(experience, level, SkillSet.getLevelForExperience(experience)));
 				}
 			}
 		} finally {
@@ -62,14 +63,37 @@ public final class SkillsTable extends Table {
 
 	@Override
 	public void save(Player player) throws SQLException, IOException {
+		BitSet ids = new BitSet();
+		ids.set(0, player.getSkillSet().size());
+		save(player, ids);
+	}
+
+	@Override
+	public void save(Player player, PlayerDelta delta) throws SQLException, IOException {
+		BitSet ids = delta.getSkills();
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		save(player, ids);
+	}
+
+	/**
+	 * Saves the specified skills of the player.
+	 *
+	 * @param player The player.
+	 * @param ids The ids of the skills to save.
+	 * @throws SQLException If some database access error occurs.
+	 */
+	private void save(Player player, BitSet ids) throws SQLException {
 		saveStatement.setInt(1, player.getDatabaseId());
 
 		SkillSet skills = player.getSkillSet();
-
-		for (int i = 0; i < skills.size(); i++) {
-			Skill skill = skills.getSkill(i);
-			saveStatement.setInt(2, skill.getCurrentLevel());
-			saveStatement.setDouble(3, skill.getExperience());
+		for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+			Skill skill = skills.getSkill(id);
+			saveStatement.setInt(2, id);
+			saveStatement.setInt(3, skill.getCurrentLevel());
+			saveStatement.setDouble(4, skill.getExperience());
 
 			saveStatement.addBatch();
 		}
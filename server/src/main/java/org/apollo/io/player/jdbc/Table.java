@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.sql.SQLException;
 
 import org.apollo.game.model.Player;
+import org.apollo.io.player.PlayerDelta;
 
 /**
  * Represents a table within a JDBC database.
@@ -30,4 +31,17 @@ public abstract class Table {
 	 */
 	public abstract void save(Player player) throws SQLException, IOException;
 
+	/**
+	 * Saves the changes of a table for the specified {@link Player}. Tables
+	 * which do not track changes save every row.
+	 *
+	 * @param player The player.
+	 * @param delta The changes made since the player was last saved.
+	 * @throws SQLException If some database access error occurs.
+	 * @throws IOException If some I/O exception occurs.
+	 */
+	public void save(Player player, PlayerDelta delta) throws SQLException, IOException {
+		save(player);
+	}
+
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package org.apollo.net;
 import io.netty.util.AttributeKey;
 
 import org.apollo.net.session.Session;
+import org.apollo.update.UpdateService;
+import org.apollo.util.ThreadUtil;
 
 /**
  * Holds various network-related constants such as port numbers.
@@ -36,6 +38,57 @@ public final class NetworkConstants {
 	 */
 	public static final int IDLE_TIME = 15;
 
+	/**
+	 * Whether or not the native epoll transport is used when it is available,
+	 * falling back to NIO otherwise.
+	 */
+	public static final boolean NATIVE_TRANSPORT = true;
+
+	/**
+	 * The number of threads which accept connections, shared by every
+	 * listener.
+	 */
+	public static final int BOSS_THREADS = 1;
+
+	/**
+	 * The number of threads which service accepted connections, shared by
+	 * every listener.
+	 */
+	public static final int WORKER_THREADS = ThreadUtil.AVAILABLE_PROCESSORS;
+
+	/**
+	 * The maximum number of pending connections queued by each listener.
+	 */
+	public static final int BACKLOG = 1024;
+
+	/**
+	 * The size of the socket send buffer of a connection, in bytes.
+	 */
+	public static final int SEND_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The size of the socket receive buffer of a connection, in bytes.
+	 */
+	public static final int RECEIVE_BUFFER_SIZE = 16 * 1024;
+
+	/**
+	 * The number of queued outbound bytes above which a connection becomes
+	 * unwritable.
+	 */
+	public static final int WRITE_BUFFER_HIGH_WATER_MARK = 128 * 1024;
+
+	/**
+	 * The number of queued outbound bytes below which an unwritable connection
+	 * becomes writable again.
+	 */
+	public static final int WRITE_BUFFER_LOW_WATER_MARK = 32 * 1024;
+
+	/**
+	 * The way in which the update service executes file requests, see
+	 * {@link UpdateService.ExecutionMode}.
+	 */
+	public static final UpdateService.ExecutionMode UPDATE_EXECUTION_MODE = UpdateService.ExecutionMode.WORKER_THREADS;
+
 	/**
 	 * An {@link AttributeKey} which represents a current {@link Session}
 	 * attribute.
@@ -32,9 +32,13 @@ public final class GameMessageDecoder extends MessageToMessageDecoder<GamePacket
 
 	@Override
 	protected void decode(ChannelHandlerContext ctx, GamePacket msg, List<Object> out) {
-		Message message = translator.decode(msg);
-		if (message != null) {
-			out.add(message);
+		try {
+			Message message = translator.decode(msg);
+			if (message != null) {
+				out.add(message);
+			}
+		} finally {
+			msg.getPayload().release();
 		}
 	}
 
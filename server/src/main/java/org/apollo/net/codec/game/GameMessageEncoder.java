@@ -7,6 +7,7 @@ import java.util.List;
 
 import org.apollo.game.msg.Message;
 import org.apollo.game.msg.MessageTranslator;
+import org.apollo.net.metrics.BandwidthMeter;
 
 /**
  * A {@link MessageToMessageEncoder} which encodes {@link Message}s into
@@ -21,19 +22,30 @@ public final class GameMessageEncoder extends MessageToMessageEncoder<Message> {
 	 */
 	private final MessageTranslator translator;
 
+	/**
+	 * The bandwidth meter of the session.
+	 */
+	private final BandwidthMeter bandwidth;
+
 	/**
 	 * Constructs a new {@link GameMessageEncoder}.
 	 *
 	 * @param translator The message translator.
+	 * @param bandwidth The bandwidth meter of the session.
 	 */
-	public GameMessageEncoder(MessageTranslator translator) {
+	public GameMessageEncoder(MessageTranslator translator, BandwidthMeter bandwidth) {
 		this.translator = translator;
+		this.bandwidth = bandwidth;
 	}
 
 	@Override
 	protected void encode(ChannelHandlerContext ctx, Message msg, List<Object> out) {
 		GamePacket packet = translator.encode(msg);
 		if (packet != null) {
+			int size = packet.getSize();
+			translator.getMetrics().recordOutbound(msg.getClass(), packet.getOpcode(), size);
+			bandwidth.recordOutbound(size);
+
 			out.add(packet);
 		}
 	}
@@ -61,6 +61,23 @@ public final class GamePacket {
 		return length;
 	}
 
+	/**
+	 * Returns the amount of bytes this packet occupies on the wire, including
+	 * its opcode and length.
+	 *
+	 * @return The size of this packet.
+	 */
+	public int getSize() {
+		switch (type) {
+		case VARIABLE_BYTE:
+			return 2 + length;
+		case VARIABLE_SHORT:
+			return 3 + length;
+		default:
+			return 1 + length;
+		}
+	}
+
 	/**
 	 * Gets the payload.
 	 *
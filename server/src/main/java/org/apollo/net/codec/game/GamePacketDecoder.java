@@ -14,6 +14,8 @@ import java.util.List;
 import net.burtleburtle.bob.rand.IsaacAlgorithm;
 
 import org.apollo.game.model.def.GamePacketDefinition;
+import org.apollo.net.metrics.BandwidthMeter;
+import org.apollo.net.metrics.NetworkMetrics;
 
 /**
  * A {@link ByteToMessageDecoder} which decodes game packets.
@@ -27,6 +29,16 @@ public final class GamePacketDecoder extends ByteToMessageDecoder {
 	 */
 	private final IsaacAlgorithm random;
 
+	/**
+	 * The network metrics.
+	 */
+	private final NetworkMetrics metrics;
+
+	/**
+	 * The bandwidth meter of the session.
+	 */
+	private final BandwidthMeter bandwidth;
+
 	/**
 	 * The current opcode.
 	 */
@@ -56,9 +68,13 @@ public final class GamePacketDecoder extends ByteToMessageDecoder {
 	 * Creates the {@link GamePacketDecoder}.
 	 *
 	 * @param random The random number generator.
+	 * @param metrics The network metrics.
+	 * @param bandwidth The bandwidth meter of the session.
 	 */
-	public GamePacketDecoder(IsaacAlgorithm random) {
+	public GamePacketDecoder(IsaacAlgorithm random, NetworkMetrics metrics, BandwidthMeter bandwidth) {
 		this.random = random;
+		this.metrics = metrics;
+		this.bandwidth = bandwidth;
 	}
 
 	@Override
@@ -100,9 +116,17 @@ public final class GamePacketDecoder extends ByteToMessageDecoder {
 					return;
 				}
 
-				ByteBuf packetBuf = buffer.readBytes(actualLength);
+				/*
+				 * slice rather than copy the payload, the slice is retained
+				 * until the game message decoder has decoded it
+				 */
+				ByteBuf packetBuf = buffer.readSlice(actualLength).retain();
+
+				GamePacket packet = new GamePacket(opcode, type, packetBuf);
+				metrics.recordInbound(opcode, packet.getSize());
+				bandwidth.recordInbound(packet.getSize());
 
-				out.add(new GamePacket(opcode, type, packetBuf));
+				out.add(packet);
 
 				state = GAME_OPCODE;
 			}
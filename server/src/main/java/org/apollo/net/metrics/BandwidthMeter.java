@@ -0,0 +1,140 @@
+package org.apollo.net.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Measures the bandwidth of a single session over a rolling window of
+ * seconds.
+ *
+ * <p>
+ * Each direction is recorded by the event loop of the session's channel, so
+ * every counter has a single writer and recording never contends. The rates
+ * may be read from any thread.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class BandwidthMeter {
+
+	/**
+	 * The amount of seconds within the rolling window, including the current
+	 * incomplete second.
+	 */
+	private static final int WINDOW_SECONDS = 11;
+
+	/**
+	 * A counter of the bytes transferred within each second of the window.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	private static final class RollingCounter {
+
+		/**
+		 * The amount of bytes transferred within each second, indexed by the
+		 * second modulo the window.
+		 */
+		private final AtomicLongArray bytes = new AtomicLongArray(WINDOW_SECONDS);
+
+		/**
+		 * The second each index of {@link #bytes} belongs to.
+		 */
+		private final AtomicLongArray seconds = new AtomicLongArray(WINDOW_SECONDS);
+
+		/**
+		 * Records the transfer of the specified amount of bytes. This method
+		 * must only be called by a single thread.
+		 *
+		 * @param amount The amount of bytes.
+		 */
+		private void add(int amount) {
+			long second = currentSecond();
+			int index = (int) Math.floorMod(second, WINDOW_SECONDS);
+
+			if (seconds.get(index) != second) {
+				bytes.lazySet(index, amount);
+				seconds.lazySet(index, second);
+			} else {
+				bytes.lazySet(index, bytes.get(index) + amount);
+			}
+		}
+
+		/**
+		 * Returns the average amount of bytes transferred per second over the
+		 * complete seconds within the window.
+		 */
+		private long rate() {
+			long now = currentSecond();
+			long sum = 0;
+
+			for (int index = 0; index < WINDOW_SECONDS; index++) {
+				long age = now - seconds.get(index);
+				if (age > 0 && age < WINDOW_SECONDS) {
+					sum += bytes.get(index);
+				}
+			}
+
+			return sum / (WINDOW_SECONDS - 1);
+		}
+
+	}
+
+	/**
+	 * The bytes received from the session.
+	 */
+	private final RollingCounter inbound = new RollingCounter();
+
+	/**
+	 * The bytes sent to the session.
+	 */
+	private final RollingCounter outbound = new RollingCounter();
+
+	/**
+	 * Constructs a new {@link BandwidthMeter}.
+	 */
+	BandwidthMeter() {
+
+	}
+
+	/**
+	 * Records bytes received from the session.
+	 *
+	 * @param amount The amount of bytes.
+	 */
+	public void recordInbound(int amount) {
+		inbound.add(amount);
+	}
+
+	/**
+	 * Records bytes sent to the session.
+	 *
+	 * @param amount The amount of bytes.
+	 */
+	public void recordOutbound(int amount) {
+		outbound.add(amount);
+	}
+
+	/**
+	 * Returns the average amount of bytes received per second over the rolling
+	 * window.
+	 */
+	public long getInboundRate() {
+		return inbound.rate();
+	}
+
+	/**
+	 * Returns the average amount of bytes sent per second over the rolling
+	 * window.
+	 */
+	public long getOutboundRate() {
+		return outbound.rate();
+	}
+
+	/**
+	 * Returns the current second, as measured by the monotonic clock.
+	 */
+	private static long currentSecond() {
+		return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+	}
+
+}
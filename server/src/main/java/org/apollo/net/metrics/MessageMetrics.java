@@ -0,0 +1,105 @@
+package org.apollo.net.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single type of message.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class MessageMetrics {
+
+	/**
+	 * The type of message.
+	 */
+	private final Class<?> type;
+
+	/**
+	 * The amount of messages encoded.
+	 */
+	private final LongAdder encoded = new LongAdder();
+
+	/**
+	 * The amount of bytes the encoded messages occupied on the wire.
+	 */
+	private final LongAdder encodedBytes = new LongAdder();
+
+	/**
+	 * The amount of messages handled.
+	 */
+	private final LongAdder handled = new LongAdder();
+
+	/**
+	 * The total time spent handling messages, in nanoseconds.
+	 */
+	private final LongAdder handlerNanos = new LongAdder();
+
+	/**
+	 * Constructs a new {@link MessageMetrics}.
+	 *
+	 * @param type The type of message.
+	 */
+	MessageMetrics(Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Records the encoding of a message.
+	 *
+	 * @param size The amount of bytes the message occupied on the wire.
+	 */
+	void recordEncoded(int size) {
+		encoded.increment();
+		encodedBytes.add(size);
+	}
+
+	/**
+	 * Records the handling of a message.
+	 *
+	 * @param nanos The time spent handling the message, in nanoseconds.
+	 */
+	void recordHandled(long nanos) {
+		handled.increment();
+		handlerNanos.add(nanos);
+	}
+
+	/**
+	 * Returns the type of message.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the amount of messages encoded.
+	 */
+	public long getEncoded() {
+		return encoded.sum();
+	}
+
+	/**
+	 * Returns the amount of bytes the encoded messages occupied on the wire.
+	 */
+	public long getEncodedBytes() {
+		return encodedBytes.sum();
+	}
+
+	/**
+	 * Returns the amount of messages handled.
+	 */
+	public long getHandled() {
+		return handled.sum();
+	}
+
+	/**
+	 * Returns the total time spent handling messages.
+	 *
+	 * @param unit The unit of time to return the total in.
+	 * @return The total handler time.
+	 */
+	public long getHandlerTime(TimeUnit unit) {
+		return unit.convert(handlerNanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+}
@@ -0,0 +1,196 @@
+package org.apollo.net.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the packets and messages passing through the game protocol.
+ *
+ * <p>
+ * Packets and their bytes are counted per opcode in each direction, messages
+ * are counted per type along with the bytes they were encoded into and the
+ * time spent handling them, and the bandwidth of each game session is
+ * measured over a rolling window. Every counter is a {@link LongAdder} so
+ * recording never locks, the metrics of each message type are cached on the
+ * type itself.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class NetworkMetrics {
+
+	/**
+	 * The amount of possible opcodes.
+	 */
+	public static final int OPCODES = 256;
+
+	/**
+	 * The amount of packets received, indexed by opcode.
+	 */
+	private final LongAdder[] inboundPackets = createAdders();
+
+	/**
+	 * The amount of bytes received, indexed by opcode.
+	 */
+	private final LongAdder[] inboundBytes = createAdders();
+
+	/**
+	 * The amount of packets sent, indexed by opcode.
+	 */
+	private final LongAdder[] outboundPackets = createAdders();
+
+	/**
+	 * The amount of bytes sent, indexed by opcode.
+	 */
+	private final LongAdder[] outboundBytes = createAdders();
+
+	/**
+	 * The metrics of each type of message which has been recorded.
+	 */
+	private final ConcurrentMap<Class<?>, MessageMetrics> messages = new ConcurrentHashMap<>();
+
+	/**
+	 * The metrics of each type of message, cached on the type itself so
+	 * recording does not hash the type.
+	 */
+	private final ClassValue<MessageMetrics> messageCache = new ClassValue<MessageMetrics>() {
+		@Override
+		protected MessageMetrics computeValue(Class<?> type) {
+			return messages.computeIfAbsent(type, MessageMetrics::new);
+		}
+	};
+
+	/**
+	 * The bandwidth meters of every open session.
+	 */
+	private final Set<BandwidthMeter> meters = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+	/**
+	 * Records a packet which has been received.
+	 *
+	 * @param opcode The opcode of the packet.
+	 * @param size The amount of bytes the packet occupied on the wire.
+	 */
+	public void recordInbound(int opcode, int size) {
+		inboundPackets[opcode].increment();
+		inboundBytes[opcode].add(size);
+	}
+
+	/**
+	 * Records a message which has been encoded into a packet.
+	 *
+	 * @param type The type of message.
+	 * @param opcode The opcode of the packet.
+	 * @param size The amount of bytes the packet occupies on the wire.
+	 */
+	public void recordOutbound(Class<?> type, int opcode, int size) {
+		outboundPackets[opcode].increment();
+		outboundBytes[opcode].add(size);
+		messageCache.get(type).recordEncoded(size);
+	}
+
+	/**
+	 * Records a message which has been handled.
+	 *
+	 * @param type The type of message.
+	 * @param nanos The time spent handling the message, in nanoseconds.
+	 */
+	public void recordHandled(Class<?> type, long nanos) {
+		messageCache.get(type).recordHandled(nanos);
+	}
+
+	/**
+	 * Registers a bandwidth meter for a newly opened session. Meters are
+	 * anonymous, so the metrics never identify the player of a session.
+	 *
+	 * @return The bandwidth meter.
+	 */
+	public BandwidthMeter register() {
+		BandwidthMeter meter = new BandwidthMeter();
+		meters.add(meter);
+		return meter;
+	}
+
+	/**
+	 * Unregisters the bandwidth meter of a closed session.
+	 *
+	 * @param meter The bandwidth meter.
+	 */
+	public void unregister(BandwidthMeter meter) {
+		meters.remove(meter);
+	}
+
+	/**
+	 * Returns the amount of packets received with the specified opcode.
+	 *
+	 * @param opcode The opcode.
+	 * @return The amount of packets.
+	 */
+	public long getInboundPackets(int opcode) {
+		return inboundPackets[opcode].sum();
+	}
+
+	/**
+	 * Returns the amount of bytes received within packets with the specified
+	 * opcode.
+	 *
+	 * @param opcode The opcode.
+	 * @return The amount of bytes.
+	 */
+	public long getInboundBytes(int opcode) {
+		return inboundBytes[opcode].sum();
+	}
+
+	/**
+	 * Returns the amount of packets sent with the specified opcode.
+	 *
+	 * @param opcode The opcode.
+	 * @return The amount of packets.
+	 */
+	public long getOutboundPackets(int opcode) {
+		return outboundPackets[opcode].sum();
+	}
+
+	/**
+	 * Returns the amount of bytes sent within packets with the specified
+	 * opcode.
+	 *
+	 * @param opcode The opcode.
+	 * @return The amount of bytes.
+	 */
+	public long getOutboundBytes(int opcode) {
+		return outboundBytes[opcode].sum();
+	}
+
+	/**
+	 * Returns the metrics of every type of message which has been recorded.
+	 */
+	public Collection<MessageMetrics> getMessageMetrics() {
+		return Collections.unmodifiableCollection(messages.values());
+	}
+
+	/**
+	 * Returns the bandwidth meters of every open session.
+	 */
+	public Set<BandwidthMeter> getBandwidthMeters() {
+		return Collections.unmodifiableSet(meters);
+	}
+
+	/**
+	 * Creates an array of adders, one per opcode.
+	 *
+	 * @return The array of adders.
+	 */
+	private static LongAdder[] createAdders() {
+		LongAdder[] adders = new LongAdder[OPCODES];
+		for (int opcode = 0; opcode < OPCODES; opcode++) {
+			adders[opcode] = new LongAdder();
+		}
+		return adders;
+	}
+
+}
@@ -23,6 +23,8 @@ import org.apollo.net.codec.game.GamePacketEncoder;
 import org.apollo.net.codec.login.LoginConstants;
 import org.apollo.net.codec.login.LoginRequest;
 import org.apollo.net.codec.login.LoginResponse;
+import org.apollo.net.metrics.BandwidthMeter;
+import org.apollo.net.metrics.NetworkMetrics;
 import org.apollo.security.IsaacRandomPair;
 
 /**
@@ -172,10 +174,14 @@ public final class LoginSession extends Session {
 		if (player != null) {
 			IsaacRandomPair randomPair = request.getRandomPair();
 
-			channel.pipeline().addFirst("messageEncoder", new GameMessageEncoder(gameService.getMessageTranslator()));
+			NetworkMetrics metrics = gameService.getMessageTranslator().getMetrics();
+			BandwidthMeter bandwidth = metrics.register();
+			channel.closeFuture().addListener(closed -> metrics.unregister(bandwidth));
+
+			channel.pipeline().addFirst("messageEncoder", new GameMessageEncoder(gameService.getMessageTranslator(), bandwidth));
 			channel.pipeline().addBefore("messageEncoder", "gameEncoder", new GamePacketEncoder(randomPair.getEncodingRandom()));
 
-			channel.pipeline().addBefore("handler", "gameDecoder", new GamePacketDecoder(randomPair.getDecodingRandom()));
+			channel.pipeline().addBefore("handler", "gameDecoder", new GamePacketDecoder(randomPair.getDecodingRandom(), metrics, bandwidth));
 			channel.pipeline().addAfter("gameDecoder", "messageDecoder", new GameMessageDecoder(gameService.getMessageTranslator()));
 
 			channel.pipeline().remove("loginDecoder");
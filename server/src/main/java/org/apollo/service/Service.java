@@ -74,4 +74,8 @@ public abstract class Service {
 		executeListeners(State.START);
 	}
 
+	public void stop() {
+
+	}
+
 }
\ No newline at end of file
@@ -4,7 +4,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
-import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -50,9 +50,10 @@ public final class HttpRequestWorker extends RequestWorker<HttpRequest, Resource
 	 *
 	 * @param dispatcher The dispatcher.
 	 * @param fs The file system.
+	 * @param metrics The provider of the metrics report.
 	 */
-	public HttpRequestWorker(UpdateDispatcher dispatcher, FileSystem fs) {
-		super(dispatcher, new CombinedResourceProvider(new VirtualResourceProvider(fs), new HypertextResourceProvider(WWW_DIRECTORY)));
+	public HttpRequestWorker(UpdateDispatcher dispatcher, FileSystem fs, ResourceProvider metrics) {
+		super(dispatcher, new CombinedResourceProvider(metrics, new VirtualResourceProvider(fs), new HypertextResourceProvider(WWW_DIRECTORY)));
 	}
 
 	@Override
@@ -60,6 +61,11 @@ public final class HttpRequestWorker extends RequestWorker<HttpRequest, Resource
 		return dispatcher.nextHttpRequest();
 	}
 
+	@Override
+	protected ChannelRequest<HttpRequest> pollRequest(UpdateDispatcher dispatcher) {
+		return dispatcher.pollHttpRequest();
+	}
+
 	@Override
 	protected void service(ResourceProvider provider, Channel channel, HttpRequest request) throws IOException {
 		String path = request.getUri();
@@ -78,7 +84,7 @@ public final class HttpRequestWorker extends RequestWorker<HttpRequest, Resource
 			wrappedBuf = Unpooled.wrappedBuffer(buf);
 		}
 
-		HttpResponse resp = new DefaultHttpResponse(request.getProtocolVersion(), status);
+		HttpResponse resp = new DefaultFullHttpResponse(request.getProtocolVersion(), status, wrappedBuf);
 
 		resp.headers().set("Date", new Date());
 		resp.headers().set("Server", SERVER_IDENTIFIER);
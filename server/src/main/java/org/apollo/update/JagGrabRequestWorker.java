@@ -36,6 +36,11 @@ public final class JagGrabRequestWorker extends RequestWorker<JagGrabRequest, Re
 		return dispatcher.nextJagGrabRequest();
 	}
 
+	@Override
+	protected ChannelRequest<JagGrabRequest> pollRequest(UpdateDispatcher dispatcher) {
+		return dispatcher.pollJagGrabRequest();
+	}
+
 	@Override
 	protected void service(ResourceProvider provider, Channel channel, JagGrabRequest request) throws IOException {
 		ByteBuffer buf = provider.get(request.getFilePath());
@@ -37,6 +37,11 @@ public final class OnDemandRequestWorker extends RequestWorker<OnDemandRequest,
 		return dispatcher.nextOnDemandRequest();
 	}
 
+	@Override
+	protected ChannelRequest<OnDemandRequest> pollRequest(UpdateDispatcher dispatcher) {
+		return dispatcher.pollOnDemandRequest();
+	}
+
 	@Override
 	protected void service(FileSystem fs, Channel channel, OnDemandRequest request) throws IOException {
 		ByteBuf buf = Unpooled.wrappedBuffer(fs.getFile(request.getIndex(), request.getId()));
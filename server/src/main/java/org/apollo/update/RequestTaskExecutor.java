@@ -0,0 +1,125 @@
+package org.apollo.update;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.apollo.util.ThreadUtil;
+
+/**
+ * Services every dispatched {@link ChannelRequest} as its own short-lived task
+ * instead of binding a blocking thread to each {@link RequestWorker}.
+ *
+ * <p>
+ * Pending requests remain in the {@link UpdateDispatcher}'s queues; only a
+ * ticket naming the worker which should service the request is queued here. A
+ * {@link Semaphore} bounds how many requests may read from disk at once, and
+ * the backing pool never holds more threads than there are permits, so a
+ * burst of queued requests costs memory for the requests alone.
+ * </p>
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class RequestTaskExecutor {
+
+	/**
+	 * A {@link Map} of request types to the workers which service them.
+	 */
+	private final Map<Class<?>, RequestWorker<?, ?>> workers = new HashMap<>();
+
+	/**
+	 * A queue of tickets, one per dispatched request, naming the worker which
+	 * should service the next request of its type.
+	 */
+	private final Queue<RequestWorker<?, ?>> tickets = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The semaphore which limits the amount of requests serviced concurrently.
+	 */
+	private final Semaphore permits;
+
+	/**
+	 * The executor service which runs each request.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Constructs a new {@link RequestTaskExecutor}.
+	 *
+	 * @param concurrentReads The maximum amount of requests which may be
+	 *            serviced concurrently.
+	 */
+	public RequestTaskExecutor(int concurrentReads) {
+		permits = new Semaphore(concurrentReads);
+		executor = Executors.newFixedThreadPool(concurrentReads, ThreadUtil.build("UpdateRequest-%d"));
+	}
+
+	/**
+	 * Registers the worker which services requests of the specified type.
+	 *
+	 * @param type The type of request.
+	 * @param worker The worker which services the request.
+	 */
+	public <T> void register(Class<T> type, RequestWorker<? extends T, ?> worker) {
+		workers.put(type, worker);
+	}
+
+	/**
+	 * Called by the {@link UpdateDispatcher} when a request of the specified
+	 * type has been queued.
+	 *
+	 * @param type The type of request.
+	 */
+	void requestQueued(Class<?> type) {
+		RequestWorker<?, ?> worker = workers.get(type);
+		if (worker == null) {
+			throw new IllegalStateException("No worker registered for request type: " + type);
+		}
+
+		tickets.add(worker);
+		schedule();
+	}
+
+	/**
+	 * Shuts this executor down. Requests which are being serviced are allowed
+	 * to complete, pending tickets are discarded.
+	 */
+	public void shutdown() {
+		executor.shutdown();
+		tickets.clear();
+	}
+
+	/**
+	 * Submits pending tickets to the executor for as long as there are free
+	 * permits.
+	 */
+	private void schedule() {
+		while (!executor.isShutdown() && !tickets.isEmpty() && permits.tryAcquire()) {
+			RequestWorker<?, ?> worker = tickets.poll();
+			if (worker == null) {
+				permits.release();
+				continue;
+			}
+
+			try {
+				executor.execute(() -> {
+					try {
+						worker.servicePending();
+					} finally {
+						permits.release();
+						schedule();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				permits.release();
+				return;
+			}
+		}
+	}
+
+}
@@ -72,14 +72,41 @@ public abstract class RequestWorker<T, P> implements Runnable {
 				continue;
 			}
 
-			Channel channel = request.getChannel();
+			service(request);
+		}
+	}
 
-			try {
-				service(provider, channel, request.getRequest());
-			} catch (IOException reason) {
-				channel.close();
-				logger.error("Error whilst servicing provider", reason);
-			}
+	/**
+	 * Services the next pending request, if one is available, on the calling
+	 * thread without blocking.
+	 *
+	 * @return {@code true} if a request was serviced, {@code false} if no
+	 *         request was pending.
+	 */
+	final boolean servicePending() {
+		ChannelRequest<T> request = pollRequest(dispatcher);
+		if (request == null) {
+			return false;
+		}
+
+		service(request);
+		return true;
+	}
+
+	/**
+	 * Services the specified request, closing its channel if an I/O error
+	 * occurs.
+	 *
+	 * @param request The request to service.
+	 */
+	private void service(ChannelRequest<T> request) {
+		Channel channel = request.getChannel();
+
+		try {
+			service(provider, channel, request.getRequest());
+		} catch (IOException reason) {
+			channel.close();
+			logger.error("Error whilst servicing provider", reason);
 		}
 	}
 
@@ -92,6 +119,14 @@ public abstract class RequestWorker<T, P> implements Runnable {
 	 */
 	protected abstract ChannelRequest<T> nextRequest(UpdateDispatcher dispatcher) throws InterruptedException;
 
+	/**
+	 * Gets the next request without blocking.
+	 *
+	 * @param dispatcher The dispatcher.
+	 * @return The next request, or {@code null} if none are available.
+	 */
+	protected abstract ChannelRequest<T> pollRequest(UpdateDispatcher dispatcher);
+
 	/**
 	 * Services a request.
 	 *
@@ -18,7 +18,7 @@ import org.apollo.net.codec.update.OnDemandRequest;
 public final class UpdateDispatcher {
 
 	/**
-	 * The maximum size of a queue before requests are rejected.
+	 * The default maximum size of a queue before requests are rejected.
 	 */
 	private static final int MAXIMUM_QUEUE_SIZE = 1024;
 
@@ -37,6 +37,57 @@ public final class UpdateDispatcher {
 	 */
 	private final BlockingQueue<ChannelRequest<HttpRequest>> httpQueue = new LinkedBlockingQueue<>();
 
+	/**
+	 * The maximum size of the 'on-demand' queue before requests are rejected.
+	 */
+	private final int onDemandCapacity;
+
+	/**
+	 * The maximum size of the JAGGRAB queue before requests are rejected.
+	 */
+	private final int jagGrabCapacity;
+
+	/**
+	 * The maximum size of the HTTP queue before requests are rejected.
+	 */
+	private final int httpCapacity;
+
+	/**
+	 * The executor notified of each dispatched request, or {@code null} if
+	 * requests are taken by dedicated worker threads.
+	 */
+	private RequestTaskExecutor executor;
+
+	/**
+	 * Creates the update dispatcher with the default queue capacities.
+	 */
+	public UpdateDispatcher() {
+		this(MAXIMUM_QUEUE_SIZE, MAXIMUM_QUEUE_SIZE, MAXIMUM_QUEUE_SIZE);
+	}
+
+	/**
+	 * Creates the update dispatcher with the specified queue capacities.
+	 *
+	 * @param onDemandCapacity The maximum amount of pending 'on-demand'
+	 *            requests.
+	 * @param jagGrabCapacity The maximum amount of pending JAGGRAB requests.
+	 * @param httpCapacity The maximum amount of pending HTTP requests.
+	 */
+	public UpdateDispatcher(int onDemandCapacity, int jagGrabCapacity, int httpCapacity) {
+		this.onDemandCapacity = onDemandCapacity;
+		this.jagGrabCapacity = jagGrabCapacity;
+		this.httpCapacity = httpCapacity;
+	}
+
+	/**
+	 * Sets the executor which is notified of each dispatched request.
+	 *
+	 * @param executor The request task executor.
+	 */
+	void setExecutor(RequestTaskExecutor executor) {
+		this.executor = executor;
+	}
+
 	/**
 	 * Gets the next 'on-demand' request from the queue, blocking if none are
 	 * available.
@@ -70,6 +121,33 @@ public final class UpdateDispatcher {
 		return httpQueue.take();
 	}
 
+	/**
+	 * Gets the next 'on-demand' request from the queue.
+	 *
+	 * @return The 'on-demand' request, or {@code null} if none are available.
+	 */
+	protected ChannelRequest<OnDemandRequest> pollOnDemandRequest() {
+		return onDemandQueue.poll();
+	}
+
+	/**
+	 * Gets the next JAGGRAB request from the queue.
+	 *
+	 * @return The JAGGRAB request, or {@code null} if none are available.
+	 */
+	protected ChannelRequest<JagGrabRequest> pollJagGrabRequest() {
+		return jagGrabQueue.poll();
+	}
+
+	/**
+	 * Gets the next HTTP request from the queue.
+	 *
+	 * @return The HTTP request, or {@code null} if none are available.
+	 */
+	protected ChannelRequest<HttpRequest> pollHttpRequest() {
+		return httpQueue.poll();
+	}
+
 	/**
 	 * Dispatches an 'on-demand' request.
 	 *
@@ -77,11 +155,12 @@ public final class UpdateDispatcher {
 	 * @param request The request.
 	 */
 	public void dispatch(Channel channel, OnDemandRequest request) {
-		if (onDemandQueue.size() >= MAXIMUM_QUEUE_SIZE) {
+		if (onDemandQueue.size() >= onDemandCapacity) {
 			channel.close();
 			return;
 		}
 		onDemandQueue.add(new ChannelRequest<>(channel, request));
+		notifyExecutor(OnDemandRequest.class);
 	}
 
 	/**
@@ -91,11 +170,12 @@ public final class UpdateDispatcher {
 	 * @param request The request.
 	 */
 	public void dispatch(Channel channel, JagGrabRequest request) {
-		if (jagGrabQueue.size() >= MAXIMUM_QUEUE_SIZE) {
+		if (jagGrabQueue.size() >= jagGrabCapacity) {
 			channel.close();
 			return;
 		}
 		jagGrabQueue.add(new ChannelRequest<>(channel, request));
+		notifyExecutor(JagGrabRequest.class);
 	}
 
 	/**
@@ -105,11 +185,24 @@ public final class UpdateDispatcher {
 	 * @param request The request.
 	 */
 	public void dispatch(Channel channel, HttpRequest request) {
-		if (httpQueue.size() >= MAXIMUM_QUEUE_SIZE) {
+		if (httpQueue.size() >= httpCapacity) {
 			channel.close();
 			return;
 		}
 		httpQueue.add(new ChannelRequest<>(channel, request));
+		notifyExecutor(HttpRequest.class);
+	}
+
+	/**
+	 * Notifies the {@link RequestTaskExecutor}, if one is set, that a request
+	 * of the specified type has been queued.
+	 *
+	 * @param type The type of request that was queued.
+	 */
+	private void notifyExecutor(Class<?> type) {
+		if (executor != null) {
+			executor.requestQueued(type);
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -1,11 +1,18 @@
 package org.apollo.update;
 
+import io.netty.handler.codec.http.HttpRequest;
+
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.apollo.net.NetworkConstants;
+import org.apollo.net.codec.jaggrab.JagGrabRequest;
+import org.apollo.net.codec.update.OnDemandRequest;
 import org.apollo.service.Service;
+import org.apollo.update.resource.MetricsResourceProvider;
+import org.apollo.update.resource.ResourceProvider;
 import org.apollo.util.ThreadUtil;
 
 /**
@@ -15,6 +22,27 @@ import org.apollo.util.ThreadUtil;
  */
 public final class UpdateService extends Service {
 
+	/**
+	 * An enumeration of the ways in which queued requests are executed.
+	 *
+	 * @author Ryley Kimmel <ryley.kimmel@live.com>
+	 */
+	public enum ExecutionMode {
+
+		/**
+		 * Each request type is serviced by dedicated worker threads which block
+		 * on their queue.
+		 */
+		WORKER_THREADS,
+
+		/**
+		 * Each request is serviced as its own task by a
+		 * {@link RequestTaskExecutor}, bounded by the amount of concurrent disk
+		 * reads.
+		 */
+		TASK_PER_REQUEST
+	}
+
 	/**
 	 * The number of request types.
 	 */
@@ -26,9 +54,27 @@ public final class UpdateService extends Service {
 	private static final int TOTAL_THREADS = REQUEST_TYPES * ThreadUtil.AVAILABLE_PROCESSORS;
 
 	/**
-	 * The executor service.
+	 * The maximum amount of pending 'on-demand' requests when executing in
+	 * {@link ExecutionMode#TASK_PER_REQUEST} mode.
+	 */
+	private static final int TASK_ON_DEMAND_CAPACITY = 65_536;
+
+	/**
+	 * The maximum amount of pending JAGGRAB and HTTP requests when executing in
+	 * {@link ExecutionMode#TASK_PER_REQUEST} mode.
 	 */
-	private final ExecutorService service;
+	private static final int TASK_RESOURCE_CAPACITY = 4_096;
+
+	/**
+	 * The maximum amount of requests serviced concurrently when executing in
+	 * {@link ExecutionMode#TASK_PER_REQUEST} mode.
+	 */
+	private static final int CONCURRENT_READS = ThreadUtil.AVAILABLE_PROCESSORS;
+
+	/**
+	 * The execution mode of this update service.
+	 */
+	private final ExecutionMode mode;
 
 	/**
 	 * A {@link Set} of request workers.
@@ -38,13 +84,46 @@ public final class UpdateService extends Service {
 	/**
 	 * The update dispatcher.
 	 */
-	private final UpdateDispatcher dispatcher = new UpdateDispatcher();
+	private final UpdateDispatcher dispatcher;
+
+	/**
+	 * The executor service, used in {@link ExecutionMode#WORKER_THREADS} mode.
+	 */
+	private ExecutorService service;
+
+	/**
+	 * The request task executor, used in
+	 * {@link ExecutionMode#TASK_PER_REQUEST} mode.
+	 */
+	private RequestTaskExecutor taskExecutor;
 
 	/**
-	 * Creates the update service.
+	 * Creates the update service, using the
+	 * {@link NetworkConstants#UPDATE_EXECUTION_MODE configured} execution
+	 * mode.
 	 */
 	public UpdateService() {
-		service = Executors.newFixedThreadPool(TOTAL_THREADS);
+		this(NetworkConstants.UPDATE_EXECUTION_MODE);
+	}
+
+	/**
+	 * Creates the update service with the specified {@link ExecutionMode}.
+	 *
+	 * @param mode The execution mode.
+	 */
+	public UpdateService(ExecutionMode mode) {
+		this.mode = mode;
+
+		switch (mode) {
+		case WORKER_THREADS:
+			dispatcher = new UpdateDispatcher();
+			break;
+		case TASK_PER_REQUEST:
+			dispatcher = new UpdateDispatcher(TASK_ON_DEMAND_CAPACITY, TASK_RESOURCE_CAPACITY, TASK_RESOURCE_CAPACITY);
+			break;
+		default:
+			throw new IllegalArgumentException("unrecognized execution mode: " + mode);
+		}
 	}
 
 	/**
@@ -56,15 +135,44 @@ public final class UpdateService extends Service {
 		return dispatcher;
 	}
 
+	/**
+	 * Returns the execution mode of this update service.
+	 */
+	public ExecutionMode getMode() {
+		return mode;
+	}
+
 	@Override
 	public void init() {
+		ResourceProvider metrics = new MetricsResourceProvider(getMessageTranslator().getMetrics(), getSerializerWorker());
+
+		if (mode == ExecutionMode.TASK_PER_REQUEST) {
+			taskExecutor = new RequestTaskExecutor(CONCURRENT_READS);
+			taskExecutor.register(OnDemandRequest.class, new OnDemandRequestWorker(dispatcher, getFileSystem()));
+			taskExecutor.register(JagGrabRequest.class, new JagGrabRequestWorker(dispatcher, getFileSystem()));
+			taskExecutor.register(HttpRequest.class, new HttpRequestWorker(dispatcher, getFileSystem(), metrics));
+			dispatcher.setExecutor(taskExecutor);
+			return;
+		}
+
+		service = Executors.newFixedThreadPool(TOTAL_THREADS);
 		for (int i = 0; i < ThreadUtil.AVAILABLE_PROCESSORS; i++) {
 			workers.add(new JagGrabRequestWorker(dispatcher, getFileSystem()));
 			workers.add(new OnDemandRequestWorker(dispatcher, getFileSystem()));
-			workers.add(new HttpRequestWorker(dispatcher, getFileSystem()));
+			workers.add(new HttpRequestWorker(dispatcher, getFileSystem(), metrics));
 		}
 
 		workers.forEach(service::submit);
 	}
 
-}
\ No newline at end of file
+	@Override
+	public void stop() {
+		if (taskExecutor != null) {
+			taskExecutor.shutdown();
+		}
+		if (service != null) {
+			service.shutdownNow();
+		}
+	}
+
+}
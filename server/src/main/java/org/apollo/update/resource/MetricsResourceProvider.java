@@ -0,0 +1,146 @@
+package org.apollo.update.resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.io.player.PlayerSerializerWorker;
+import org.apollo.net.metrics.BandwidthMeter;
+import org.apollo.net.metrics.NetworkMetrics;
+
+/**
+ * A {@link ResourceProvider} which provides a plain text report of the
+ * {@link NetworkMetrics} and the state of the {@link PlayerSerializerWorker},
+ * in the Prometheus text exposition format.
+ *
+ * @author Ryley Kimmel <ryley.kimmel@live.com>
+ */
+public final class MetricsResourceProvider implements ResourceProvider {
+
+	/**
+	 * The path of the metrics report.
+	 */
+	public static final String PATH = "/metrics.txt";
+
+	/**
+	 * The network metrics.
+	 */
+	private final NetworkMetrics metrics;
+
+	/**
+	 * The player serializer worker.
+	 */
+	private final PlayerSerializerWorker serializerWorker;
+
+	/**
+	 * Creates a new metrics resource provider.
+	 *
+	 * @param metrics The network metrics.
+	 * @param serializerWorker The player serializer worker.
+	 */
+	public MetricsResourceProvider(NetworkMetrics metrics, PlayerSerializerWorker serializerWorker) {
+		this.metrics = metrics;
+		this.serializerWorker = serializerWorker;
+	}
+
+	@Override
+	public boolean accept(String path) throws IOException {
+		return path.equals(PATH);
+	}
+
+	@Override
+	public ByteBuffer get(String path) throws IOException {
+		StringBuilder builder = new StringBuilder();
+
+		for (int opcode = 0; opcode < NetworkMetrics.OPCODES; opcode++) {
+			long packets = metrics.getInboundPackets(opcode);
+			if (packets != 0) {
+				append(builder, "apollo_inbound_packets_total", "opcode", opcode, packets);
+				append(builder, "apollo_inbound_bytes_total", "opcode", opcode, metrics.getInboundBytes(opcode));
+			}
+		}
+
+		for (int opcode = 0; opcode < NetworkMetrics.OPCODES; opcode++) {
+			long packets = metrics.getOutboundPackets(opcode);
+			if (packets != 0) {
+				append(builder, "apollo_outbound_packets_total", "opcode", opcode, packets);
+				append(builder, "apollo_outbound_bytes_total", "opcode", opcode, metrics.getOutboundBytes(opcode));
+			}
+		}
+
+		metrics.getMessageMetrics().stream().sorted(Comparator.comparing(message -> message.getType().getSimpleName())).forEach(message -> {
+			String type = message.getType().getSimpleName();
+			if (message.getEncoded() != 0) {
+				append(builder, "apollo_message_encoded_total", "type", type, message.getEncoded());
+				append(builder, "apollo_message_encoded_bytes_total", "type", type, message.getEncodedBytes());
+			}
+			if (message.getHandled() != 0) {
+				append(builder, "apollo_message_handled_total", "type", type, message.getHandled());
+				append(builder, "apollo_message_handler_nanoseconds_total", "type", type, message.getHandlerTime(TimeUnit.NANOSECONDS));
+			}
+		});
+
+		/*
+		 * This report is served to anyone who can reach the HTTP listener, so
+		 * sessions are only reported in aggregate.
+		 */
+		int sessions = 0;
+		long inboundRate = 0, outboundRate = 0, maximumInboundRate = 0, maximumOutboundRate = 0;
+		for (BandwidthMeter meter : metrics.getBandwidthMeters()) {
+			long inbound = meter.getInboundRate();
+			long outbound = meter.getOutboundRate();
+
+			sessions++;
+			inboundRate += inbound;
+			outboundRate += outbound;
+			maximumInboundRate = Math.max(maximumInboundRate, inbound);
+			maximumOutboundRate = Math.max(maximumOutboundRate, outbound);
+		}
+
+		append(builder, "apollo_sessions", sessions);
+		append(builder, "apollo_sessions_inbound_bytes_per_second", inboundRate);
+		append(builder, "apollo_sessions_outbound_bytes_per_second", outboundRate);
+		append(builder, "apollo_session_inbound_bytes_per_second_max", maximumInboundRate);
+		append(builder, "apollo_session_outbound_bytes_per_second_max", maximumOutboundRate);
+
+		append(builder, "apollo_serializer_pending_loads", serializerWorker.getPendingLoads());
+		append(builder, "apollo_serializer_pending_hashes", serializerWorker.getPendingHashes());
+		append(builder, "apollo_serializer_loads_total", serializerWorker.getCompletedLoads());
+		append(builder, "apollo_serializer_load_latency_average_milliseconds", serializerWorker.getAverageLoadLatency(TimeUnit.MILLISECONDS));
+		append(builder, "apollo_serializer_pending_saves", serializerWorker.getPendingSaves());
+		append(builder, "apollo_serializer_save_lag_milliseconds", serializerWorker.getSaveLag(TimeUnit.MILLISECONDS));
+		append(builder, "apollo_serializer_coalesced_saves_total", serializerWorker.getCoalescedSaves());
+		append(builder, "apollo_serializer_saves_total", serializerWorker.getCompletedSaves());
+		append(builder, "apollo_serializer_last_save_latency_milliseconds", serializerWorker.getLastSaveLatency(TimeUnit.MILLISECONDS));
+		append(builder, "apollo_serializer_save_latency_average_milliseconds", serializerWorker.getAverageSaveLatency(TimeUnit.MILLISECONDS));
+
+		return ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	/**
+	 * Appends a single unlabelled sample to the specified report.
+	 *
+	 * @param builder The report.
+	 * @param name The name of the metric.
+	 * @param value The value of the sample.
+	 */
+	private static void append(StringBuilder builder, String name, long value) {
+		builder.append(name).append(' ').append(value).append('\n');
+	}
+
+	/**
+	 * Appends a single labelled sample to the specified report.
+	 *
+	 * @param builder The report.
+	 * @param name The name of the metric.
+	 * @param label The name of the label.
+	 * @param labelValue The value of the label.
+	 * @param value The value of the sample.
+	 */
+	private static void append(StringBuilder builder, String name, String label, Object labelValue, long value) {
+		builder.append(name).append('{').append(label).append("=\"").append(labelValue).append("\"} ").append(value).append('\n');
+	}
+
+}
@@ -0,0 +1,73 @@
+package net.burtleburtle.bob.rand;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+public final class IsaacAlgorithmTest {
+
+	/**
+	 * The seed every test uses.
+	 */
+	private static final int[] SEED = { 0x1234, 0x5678, 0x9ABC, 0xDEF0 };
+
+	/**
+	 * Reads the specified amount of values with {@link IsaacAlgorithm#nextInt()}.
+	 */
+	private static int[] nextInts(IsaacAlgorithm isaac, int length) {
+		int[] values = new int[length];
+		for (int index = 0; index < length; index++) {
+			values[index] = isaac.nextInt();
+		}
+		return values;
+	}
+
+	@Test
+	public void testAcrossBlockBoundary() {
+		IsaacAlgorithm expected = new IsaacAlgorithm(SEED);
+		IsaacAlgorithm actual = new IsaacAlgorithm(SEED);
+
+		int[] values = new int[600];
+		actual.nextInts(values, 0, values.length);
+		assertArrayEquals(nextInts(expected, values.length), values);
+	}
+
+	@Test
+	public void testChunks() {
+		IsaacAlgorithm expected = new IsaacAlgorithm(SEED);
+		IsaacAlgorithm actual = new IsaacAlgorithm(SEED);
+
+		for (int length : new int[] { 1, 100, 155, 256, 7, 300 }) {
+			int[] values = new int[length + 2];
+			actual.nextInts(values, 1, length);
+
+			int[] expectedValues = new int[length + 2];
+			System.arraycopy(nextInts(expected, length), 0, expectedValues, 1, length);
+			assertArrayEquals(expectedValues, values);
+		}
+	}
+
+	@Test
+	public void testInterleaved() {
+		IsaacAlgorithm expected = new IsaacAlgorithm(SEED);
+		IsaacAlgorithm actual = new IsaacAlgorithm(SEED);
+
+		for (int round = 0; round < 6; round++) {
+			assertArrayEquals(nextInts(expected, 100), nextInts(actual, 100));
+
+			int[] values = new int[60];
+			actual.nextInts(values, 0, values.length);
+			assertArrayEquals(nextInts(expected, values.length), values);
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		IsaacAlgorithm expected = new IsaacAlgorithm(SEED);
+		IsaacAlgorithm actual = new IsaacAlgorithm(SEED);
+
+		actual.nextInts(new int[0], 0, 0);
+		assertArrayEquals(nextInts(expected, 300), nextInts(actual, 300));
+	}
+
+}
@@ -0,0 +1,138 @@
+package org.apollo.game.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.apollo.game.model.def.MobDefinition;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class WalkingQueueTest {
+
+	/**
+	 * The position every test starts from.
+	 */
+	private static final Position START = new Position(3200, 3200);
+
+	private World world;
+
+	private Mob mob;
+
+	private WalkingQueue queue;
+
+	@Before
+	public void setUp() {
+		world = new World();
+		for (int x = START.getX(); x < 3456; x += 64) {
+			for (int y = START.getY(); y < 3392; y += 64) {
+				world.getRegionRepository().getRegion(x, y);
+			}
+		}
+
+		mob = new Mob(new MobDefinition(0), START, world);
+		queue = mob.getWalkingQueue();
+	}
+
+	/**
+	 * Pulses the queue until it is empty.
+	 */
+	private void walk() {
+		while (queue.size() > 0) {
+			queue.pulse();
+		}
+	}
+
+	@Test
+	public void testWalk() {
+		assertTrue(queue.addFirstStep(new Position(3203, 3200)));
+		assertEquals(3, queue.size());
+
+		queue.pulse();
+		assertEquals(new Position(3201, 3200), mob.getPosition());
+		assertEquals(Direction.EAST, mob.getFirstDirection());
+		assertEquals(Direction.NONE, mob.getSecondDirection());
+		assertEquals(2, queue.size());
+	}
+
+	@Test
+	public void testRun() {
+		queue.setRunningQueue(true);
+		assertTrue(queue.addFirstStep(new Position(3200, 3203)));
+
+		queue.pulse();
+		assertEquals(new Position(3200, 3202), mob.getPosition());
+		assertEquals(Direction.NORTH, mob.getFirstDirection());
+		assertEquals(Direction.NORTH, mob.getSecondDirection());
+		assertEquals(1, queue.size());
+	}
+
+	@Test
+	public void testDiagonalThenStraight() {
+		assertTrue(queue.addFirstStep(new Position(3202, 3202)));
+		queue.addStep(new Position(3202, 3205));
+		assertEquals(5, queue.size());
+
+		queue.pulse();
+		assertEquals(Direction.NORTH_EAST, mob.getFirstDirection());
+
+		walk();
+		assertEquals(new Position(3202, 3205), mob.getPosition());
+	}
+
+	@Test
+	public void testMaximumSize() {
+		queue.addStep(new Position(3400, 3200));
+		assertEquals(128, queue.size());
+
+		walk();
+		assertEquals(new Position(3328, 3200), mob.getPosition());
+	}
+
+	@Test
+	public void testWrapAround() {
+		queue.addStep(new Position(3300, 3200));
+		for (int i = 0; i < 90; i++) {
+			queue.pulse();
+		}
+		assertEquals(10, queue.size());
+
+		queue.addStep(new Position(3300, 3300));
+		assertEquals(110, queue.size());
+
+		walk();
+		assertEquals(new Position(3300, 3300), mob.getPosition());
+	}
+
+	@Test
+	public void testConnectThroughOldSteps() {
+		assertTrue(queue.addFirstStep(new Position(3201, 3200)));
+		queue.addStep(new Position(3205, 3200));
+		queue.pulse();
+		queue.pulse();
+		assertEquals(new Position(3202, 3200), mob.getPosition());
+
+		assertTrue(queue.addFirstStep(new Position(3206, 3201)));
+
+		walk();
+		assertEquals(new Position(3206, 3201), mob.getPosition());
+	}
+
+	@Test
+	public void testUnconnectable() {
+		assertFalse(queue.addFirstStep(new Position(3203, 3201)));
+		assertEquals(0, queue.size());
+	}
+
+	@Test
+	public void testClear() {
+		queue.addStep(new Position(3210, 3200));
+		queue.clear();
+		assertEquals(0, queue.size());
+
+		queue.pulse();
+		assertEquals(START, mob.getPosition());
+		assertEquals(Direction.NONE, mob.getFirstDirection());
+	}
+
+}
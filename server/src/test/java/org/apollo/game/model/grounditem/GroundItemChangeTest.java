@@ -0,0 +1,100 @@
+package org.apollo.game.model.grounditem;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Player;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.grounditem.GroundItemChange.Type;
+import org.apollo.security.PlayerCredentials;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class GroundItemChangeTest {
+
+	/**
+	 * The position of every ground item.
+	 */
+	private static final Position POSITION = new Position(3222, 3222);
+
+	private World world;
+
+	private Player owner;
+
+	private Player other;
+
+	@Before
+	public void setUp() {
+		world = new World();
+		owner = createPlayer("owner");
+		other = createPlayer("other");
+	}
+
+	/**
+	 * Creates a player with the specified name.
+	 */
+	private Player createPlayer(String name) {
+		return new Player(new PlayerCredentials(name, "password", 0, 0, "127.0.0.1"), POSITION, world);
+	}
+
+	/**
+	 * Creates a ground item owned by {@link #owner}.
+	 */
+	private GroundItem ownedItem() {
+		return new GroundItem(POSITION, world, new Item(995, 10), owner.getEncodedName());
+	}
+
+	@Test
+	public void testAddedOwned() {
+		GroundItemChange change = new GroundItemChange(ownedItem(), Type.ADDED);
+		assertTrue(change.isVisibleTo(owner));
+		assertFalse(change.isVisibleTo(other));
+	}
+
+	@Test
+	public void testAddedGlobal() {
+		GroundItemChange change = new GroundItemChange(new GroundItem(POSITION, world, new Item(995, 10)), Type.ADDED);
+		assertTrue(change.isVisibleTo(owner));
+		assertTrue(change.isVisibleTo(other));
+	}
+
+	@Test
+	public void testGlobalized() {
+		GroundItem item = ownedItem();
+		item.setGlobal();
+
+		GroundItemChange change = new GroundItemChange(item, Type.GLOBALIZED);
+		assertFalse(change.isVisibleTo(owner));
+		assertTrue(change.isVisibleTo(other));
+	}
+
+	@Test
+	public void testRemovedOwned() {
+		GroundItemChange change = new GroundItemChange(ownedItem(), Type.REMOVED);
+		assertTrue(change.isVisibleTo(owner));
+		assertFalse(change.isVisibleTo(other));
+	}
+
+	@Test
+	public void testRemovedGlobalized() {
+		GroundItem item = ownedItem();
+		item.setGlobal();
+
+		GroundItemChange change = new GroundItemChange(item, Type.REMOVED);
+		assertTrue(change.isVisibleTo(owner));
+		assertTrue(change.isVisibleTo(other));
+	}
+
+	@Test
+	public void testVisibilityAtTimeOfChange() {
+		GroundItem item = ownedItem();
+		GroundItemChange change = new GroundItemChange(item, Type.REMOVED);
+		item.setGlobal();
+
+		assertTrue(change.isVisibleTo(owner));
+		assertFalse(change.isVisibleTo(other));
+	}
+
+}
@@ -0,0 +1,122 @@
+package org.apollo.game.model.grounditem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.grounditem.GroundItemChange.Type;
+import org.apollo.game.model.region.Region;
+import org.apollo.game.model.region.RegionRepository;
+import org.apollo.util.NameUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class GroundItemManagerTest {
+
+	/**
+	 * The position every ground item is dropped on.
+	 */
+	private static final Position POSITION = new Position(3222, 3222);
+
+	private World world;
+
+	private GroundItemManager manager;
+
+	@Before
+	public void setUp() {
+		world = new World();
+		manager = world.getGroundItemManager();
+	}
+
+	/**
+	 * Pulses the world the specified amount of times. Expiry tasks are
+	 * scheduled upon the first pulse after a ground item is added, so each
+	 * stage ends one pulse after its delay.
+	 */
+	private void pulse(int pulses) {
+		for (int pulse = 0; pulse < pulses; pulse++) {
+			world.pulse();
+		}
+	}
+
+	/**
+	 * Drains the changes of the manager, asserting they are a single change of
+	 * the specified type to the specified ground item.
+	 */
+	private void assertDrained(Type type, GroundItem item) {
+		Map<Integer, List<GroundItemChange>> changes = manager.drainChanges();
+		assertEquals(1, changes.size());
+
+		List<GroundItemChange> regionChanges = changes.get(RegionRepository.getRegionId(POSITION));
+		assertEquals(1, regionChanges.size());
+		assertEquals(type, regionChanges.get(0).getType());
+		assertSame(item, regionChanges.get(0).getItem());
+	}
+
+	@Test
+	public void testOwnedExpiry() {
+		GroundItem item = new GroundItem(POSITION, world, new Item(995, 10), NameUtil.encodeBase37("owner"));
+		Region region = world.getRegionRepository().getRegion(POSITION);
+
+		assertTrue(manager.add(item));
+		assertTrue(region.contains(item));
+		assertDrained(Type.ADDED, item);
+
+		pulse(GroundItem.PULSES_UNTIL_GLOBAL);
+		assertFalse(item.isGlobal());
+		assertTrue(manager.drainChanges().isEmpty());
+
+		pulse(1);
+		assertTrue(item.isGlobal());
+		assertDrained(Type.GLOBALIZED, item);
+
+		pulse(GroundItem.PULSES_UNTIL_INVALID - GroundItem.PULSES_UNTIL_GLOBAL);
+		assertTrue(region.contains(item));
+		assertTrue(manager.drainChanges().isEmpty());
+
+		pulse(1);
+		assertFalse(region.contains(item));
+		assertEquals(0, manager.size());
+		assertDrained(Type.REMOVED, item);
+	}
+
+	@Test
+	public void testGlobalExpiry() {
+		GroundItem item = new GroundItem(POSITION, world, new Item(995, 10));
+		assertTrue(manager.add(item));
+		assertDrained(Type.ADDED, item);
+
+		pulse(GroundItem.PULSES_UNTIL_INVALID);
+		assertEquals(1, manager.size());
+		assertTrue(manager.drainChanges().isEmpty());
+
+		pulse(1);
+		assertEquals(0, manager.size());
+		assertDrained(Type.REMOVED, item);
+	}
+
+	@Test
+	public void testRemove() {
+		GroundItem item = new GroundItem(POSITION, world, new Item(995, 10), NameUtil.encodeBase37("owner"));
+		assertTrue(manager.add(item));
+		assertFalse(manager.add(item));
+		manager.drainChanges();
+
+		assertTrue(manager.remove(item));
+		assertFalse(manager.remove(item));
+		assertFalse(world.getRegionRepository().getRegion(POSITION).contains(item));
+		assertDrained(Type.REMOVED, item);
+
+		pulse(GroundItem.PULSES_UNTIL_INVALID + 2);
+		assertFalse(item.isGlobal());
+		assertTrue(manager.drainChanges().isEmpty());
+	}
+
+}
@@ -0,0 +1,208 @@
+package org.apollo.game.model.inv;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Player;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.SlottedItem;
+import org.apollo.game.model.World;
+import org.apollo.game.model.inv.Inventory.StackMode;
+import org.apollo.game.msg.impl.UpdateItemsMessage;
+import org.apollo.game.msg.impl.UpdateSlottedItemsMessage;
+import org.apollo.net.session.GameSession;
+import org.apollo.security.PlayerCredentials;
+import org.junit.Test;
+
+public final class InventoryTest {
+
+	/**
+	 * The interface id used by the synchronization tests.
+	 */
+	private static final int INTERFACE_ID = 3214;
+
+	/**
+	 * An inventory listener which counts the times the capacity was exceeded.
+	 */
+	private static final class CapacityListener extends InventoryAdapter {
+
+		int exceeded;
+
+		@Override
+		public void capacityExceeded(Inventory inventory) {
+			exceeded++;
+		}
+
+	}
+
+	@Test
+	public void testAddStackable() {
+		Inventory inventory = new Inventory(4, StackMode.STACK_ALWAYS);
+		assertEquals(0, inventory.add(995, 100));
+		assertEquals(0, inventory.add(995, 50));
+
+		assertEquals(1, inventory.size());
+		assertEquals(995, inventory.getId(0));
+		assertEquals(150, inventory.getAmount(0));
+		assertEquals(new Item(995, 150), inventory.get(0));
+	}
+
+	@Test
+	public void testAddUnstackable() {
+		CapacityListener listener = new CapacityListener();
+		Inventory inventory = new Inventory(3, StackMode.STACK_NEVER);
+		inventory.addListener(listener);
+
+		assertEquals(2, inventory.add(1351, 5));
+		assertEquals(3, inventory.size());
+		assertEquals(0, inventory.freeSlots());
+		assertEquals(1, inventory.getAmount(2));
+		assertEquals(1, listener.exceeded);
+
+		assertFalse(inventory.add(1351));
+		assertEquals(2, listener.exceeded);
+	}
+
+	@Test
+	public void testRemove() {
+		Inventory inventory = new Inventory(4, StackMode.STACK_ALWAYS);
+		inventory.add(995, 100);
+
+		assertEquals(40, inventory.remove(995, 40));
+		assertEquals(60, inventory.getAmount(0));
+		assertEquals(60, inventory.remove(995, 100));
+		assertTrue(inventory.available(0));
+		assertEquals(-1, inventory.getId(0));
+		assertEquals(0, inventory.getAmount(0));
+		assertNull(inventory.get(0));
+		assertEquals(0, inventory.size());
+		assertEquals(0, inventory.remove(995, 1));
+	}
+
+	@Test
+	public void testRemoveUnstackable() {
+		Inventory inventory = new Inventory(4, StackMode.STACK_NEVER);
+		inventory.add(1351, 3);
+
+		assertEquals(2, inventory.remove(1351, 2));
+		assertEquals(1, inventory.size());
+		assertTrue(inventory.available(0));
+		assertEquals(1351, inventory.getId(2));
+		assertTrue(inventory.remove(1351));
+		assertFalse(inventory.remove(1351));
+	}
+
+	@Test
+	public void testOverflowClamp() {
+		CapacityListener listener = new CapacityListener();
+		Inventory inventory = new Inventory(4, StackMode.STACK_ALWAYS);
+		inventory.addListener(listener);
+
+		assertEquals(0, inventory.add(995, Integer.MAX_VALUE - 10));
+		assertEquals(15, inventory.add(995, 25));
+
+		assertEquals(Integer.MAX_VALUE, inventory.getAmount(0));
+		assertEquals(1, inventory.size());
+		assertEquals(1, listener.exceeded);
+
+		Item remaining = inventory.add(new Item(995, 5));
+		assertEquals(new Item(995, 5), remaining);
+		assertEquals(Integer.MAX_VALUE, inventory.getAmount(0));
+	}
+
+	@Test
+	public void testAddAll() {
+		Inventory inventory = new Inventory(2, StackMode.STACK_NEVER);
+		int[] remaining = inventory.addAll(new int[] { 1351, 1265, 590 }, new int[] { 1, 1, 2 });
+
+		assertArrayEquals(new int[] { 0, 0, 2 }, remaining);
+		assertEquals(1351, inventory.getId(0));
+		assertEquals(1265, inventory.getId(1));
+	}
+
+	@Test
+	public void testRemoveAll() {
+		Inventory inventory = new Inventory(4, StackMode.STACK_ALWAYS);
+		inventory.addAll(new int[] { 995, 314 }, new int[] { 100, 20 });
+
+		int[] removed = inventory.removeAll(new int[] { 995, 314, 1351 }, new int[] { 30, 50, 1 });
+		assertArrayEquals(new int[] { 30, 20, 0 }, removed);
+		assertEquals(70, inventory.getAmount(0));
+		assertTrue(inventory.available(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddAllMismatchedLengths() {
+		new Inventory(4).addAll(new int[] { 995 }, new int[0]);
+	}
+
+	@Test
+	public void testSynchronizationBatching() {
+		EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter());
+		Player player = createPlayer(channel);
+
+		Inventory inventory = new Inventory(28, StackMode.STACK_ALWAYS);
+		inventory.addListener(new SynchronizationInventoryListener(player, INTERFACE_ID));
+
+		inventory.add(995, 10);
+		inventory.add(995, 10);
+		inventory.add(314, 5);
+		inventory.set(5, 1351, 1);
+		assertNull(channel.readOutbound());
+
+		player.flushInventories();
+		UpdateSlottedItemsMessage message = (UpdateSlottedItemsMessage) channel.readOutbound();
+		assertNull(channel.readOutbound());
+		assertEquals(INTERFACE_ID, message.getInterfaceId());
+
+		SlottedItem[] items = message.getSlottedItems();
+		assertEquals(3, items.length);
+		assertEquals(0, items[0].getSlot());
+		assertEquals(new Item(995, 20), items[0].getItem());
+		assertEquals(1, items[1].getSlot());
+		assertEquals(new Item(314, 5), items[1].getItem());
+		assertEquals(5, items[2].getSlot());
+
+		player.flushInventories();
+		assertNull(channel.readOutbound());
+	}
+
+	@Test
+	public void testSynchronizationRefresh() {
+		EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter());
+		Player player = createPlayer(channel);
+
+		Inventory inventory = new Inventory(28, StackMode.STACK_ALWAYS);
+		inventory.addListener(new SynchronizationInventoryListener(player, INTERFACE_ID));
+
+		inventory.add(995, 10);
+		inventory.clear();
+		inventory.add(314, 5);
+
+		player.flushInventories();
+		UpdateItemsMessage message = (UpdateItemsMessage) channel.readOutbound();
+		assertNull(channel.readOutbound());
+		assertEquals(INTERFACE_ID, message.getInterfaceId());
+		assertEquals(new Item(314, 5), message.getItems()[0]);
+	}
+
+	/**
+	 * Creates an active player whose messages are written to the specified
+	 * channel.
+	 */
+	private static Player createPlayer(EmbeddedChannel channel) {
+		PlayerCredentials credentials = new PlayerCredentials("test", "test", 0, 0, "127.0.0.1");
+		Player player = new Player(credentials, new Position(3222, 3222), new World());
+		player.setIndex(1);
+		player.setSession(new GameSession(channel.pipeline().firstContext(), player, null), true);
+		return player;
+	}
+
+}
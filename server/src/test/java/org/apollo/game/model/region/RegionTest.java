@@ -0,0 +1,183 @@
+package org.apollo.game.model.region;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apollo.game.model.Entity.EntityCategory;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.obj.GameObject;
+import org.apollo.game.model.obj.GameObjectChange;
+import org.apollo.game.model.obj.GameObjectOrientation;
+import org.apollo.game.model.obj.GameObjectType;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class RegionTest {
+
+	/**
+	 * The position of the game objects every test changes.
+	 */
+	private static final Position POSITION = new Position(3205, 3210);
+
+	/**
+	 * The id of the closed door loaded from the map.
+	 */
+	private static final int CLOSED_DOOR = 1530;
+
+	/**
+	 * The id of the open door which replaces it.
+	 */
+	private static final int OPEN_DOOR = 1531;
+
+	private World world;
+
+	private Region region;
+
+	private GameObject baseline;
+
+	@Before
+	public void setUp() {
+		world = new World();
+		region = new Region();
+		baseline = door(CLOSED_DOOR);
+		region.addEntity(baseline);
+	}
+
+	/**
+	 * Creates a door at {@link #POSITION} with the specified id.
+	 */
+	private GameObject door(int id) {
+		return new GameObject(id, POSITION, world, GameObjectType.STRAIGHT_WALL, GameObjectOrientation.NORTH);
+	}
+
+	/**
+	 * Asserts that the specified change is of the specified type, game object
+	 * and version.
+	 */
+	private static void assertChange(GameObjectChange change, GameObjectChange.Type type, GameObject object, int version) {
+		assertEquals(type, change.getType());
+		assertSame(object, change.getObject());
+		assertEquals(version, change.getVersion());
+	}
+
+	@Test
+	public void testAddOverBaseline() {
+		GameObject open = door(OPEN_DOOR);
+		region.addObject(open);
+
+		Set<GameObject> objects = region.getEntities(POSITION, EntityCategory.GAME_OBJECT);
+		assertEquals(1, objects.size());
+		assertTrue(objects.contains(open));
+		assertFalse(region.contains(baseline));
+
+		List<GameObjectChange> changes = region.getObjectChanges();
+		assertEquals(1, changes.size());
+		assertChange(changes.get(0), GameObjectChange.Type.ADDED, open, 1);
+
+		List<GameObjectChange> differences = region.getObjectDifferences();
+		assertEquals(1, differences.size());
+		assertChange(differences.get(0), GameObjectChange.Type.ADDED, open, 1);
+		assertFalse(region.isStatic());
+	}
+
+	@Test
+	public void testRemoveBaseline() {
+		assertTrue(region.removeObject(door(CLOSED_DOOR)));
+		assertFalse(region.contains(baseline));
+
+		List<GameObjectChange> changes = region.getObjectChanges();
+		assertEquals(1, changes.size());
+		assertChange(changes.get(0), GameObjectChange.Type.REMOVED, baseline, 1);
+
+		List<GameObjectChange> differences = region.getObjectDifferences();
+		assertEquals(1, differences.size());
+		assertChange(differences.get(0), GameObjectChange.Type.REMOVED, baseline, 1);
+	}
+
+	@Test
+	public void testRemoveMismatchedId() {
+		assertFalse(region.removeObject(door(OPEN_DOOR)));
+		assertTrue(region.contains(baseline));
+		assertTrue(region.getObjectChanges().isEmpty());
+		assertTrue(region.getObjectDifferences().isEmpty());
+		assertTrue(region.isStatic());
+	}
+
+	@Test
+	public void testRestoreBaseline() {
+		GameObject open = door(OPEN_DOOR);
+		region.addObject(open);
+		assertTrue(region.removeObject(door(OPEN_DOOR)));
+
+		GameObject closed = door(CLOSED_DOOR);
+		region.addObject(closed);
+		assertTrue(region.getObjectDifferences().isEmpty());
+
+		List<GameObjectChange> changes = region.getObjectChanges();
+		assertEquals(3, changes.size());
+		assertChange(changes.get(0), GameObjectChange.Type.ADDED, open, 1);
+		assertChange(changes.get(1), GameObjectChange.Type.REMOVED, open, 2);
+		assertChange(changes.get(2), GameObjectChange.Type.ADDED, closed, 3);
+
+		region.commitObjectChanges();
+		assertTrue(region.isStatic());
+		assertEquals(3, region.getObjectVersion());
+	}
+
+	@Test
+	public void testAddAndRemoveOnEmptyTile() {
+		Position empty = new Position(3206, 3210);
+		GameObject object = new GameObject(OPEN_DOOR, empty, world, GameObjectType.STRAIGHT_WALL, GameObjectOrientation.NORTH);
+
+		region.addObject(object);
+		assertEquals(1, region.getObjectDifferences().size());
+
+		assertTrue(region.removeObject(object));
+		assertTrue(region.getObjectDifferences().isEmpty());
+		assertTrue(region.getEntities(empty).isEmpty());
+	}
+
+	@Test
+	public void testGroupsAreIndependent() {
+		GameObject prop = new GameObject(OPEN_DOOR, POSITION, world);
+		region.addObject(prop);
+
+		assertTrue(region.contains(baseline));
+		assertTrue(region.contains(prop));
+		assertEquals(2, region.getEntities(POSITION, EntityCategory.GAME_OBJECT).size());
+	}
+
+	@Test
+	public void testCommit() {
+		GameObject open = door(OPEN_DOOR);
+		region.addObject(open);
+		region.commitObjectChanges();
+
+		assertTrue(region.getObjectChanges().isEmpty());
+		List<GameObjectChange> differences = region.getObjectDifferences();
+		assertEquals(1, differences.size());
+		assertChange(differences.get(0), GameObjectChange.Type.ADDED, open, 1);
+		assertFalse(region.isStatic());
+	}
+
+	@Test
+	public void testRepositoryTracksChangedRegions() {
+		RegionRepository repository = world.getRegionRepository();
+		assertFalse(repository.hasObjectChanges());
+
+		repository.addObject(door(OPEN_DOOR));
+		assertTrue(repository.hasObjectChanges());
+
+		repository.commitObjectChanges();
+		assertFalse(repository.hasObjectChanges());
+		assertFalse(repository.removeObject(door(CLOSED_DOOR)));
+		assertFalse(repository.hasObjectChanges());
+	}
+
+}
@@ -0,0 +1,169 @@
+package org.apollo.game.sync.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Player;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.grounditem.GroundItem;
+import org.apollo.game.model.grounditem.GroundItemManager;
+import org.apollo.game.msg.Message;
+import org.apollo.game.msg.impl.AddGroundItemMessage;
+import org.apollo.game.msg.impl.PositionMessage;
+import org.apollo.game.msg.impl.RemoveGroundItemMessage;
+import org.apollo.net.session.GameSession;
+import org.apollo.security.PlayerCredentials;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class GroundItemSynchronizationTaskTest {
+
+	/**
+	 * The position of the player.
+	 */
+	private static final Position POSITION = new Position(3222, 3222);
+
+	private World world;
+
+	private GroundItemManager manager;
+
+	private EmbeddedChannel channel;
+
+	private Player player;
+
+	@Before
+	public void setUp() {
+		world = new World();
+		manager = world.getGroundItemManager();
+		channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter());
+
+		player = new Player(new PlayerCredentials("player", "password", 0, 0, "127.0.0.1"), POSITION, world);
+		player.setIndex(1);
+		player.setSession(new GameSession(channel.pipeline().firstContext(), player, null), true);
+		player.setLastKnownRegion(POSITION);
+	}
+
+	/**
+	 * Adds a ground item to the world.
+	 */
+	private GroundItem add(Position position, long owner) {
+		GroundItem item = new GroundItem(position, world, new Item(995, 10), owner);
+		manager.add(item);
+		return item;
+	}
+
+	/**
+	 * Synchronizes the ground items of the player with the changes drained
+	 * from the manager, returning the messages sent.
+	 */
+	private List<Message> synchronize() {
+		new GroundItemSynchronizationTask(player, world, manager.drainChanges()).run();
+
+		List<Message> messages = new ArrayList<>();
+		for (Object message = channel.readOutbound(); message != null; message = channel.readOutbound()) {
+			messages.add((Message) message);
+		}
+		return messages;
+	}
+
+	/**
+	 * Returns the ground items of the {@link AddGroundItemMessage}s.
+	 */
+	private static Set<GroundItem> added(List<Message> messages) {
+		Set<GroundItem> items = new HashSet<>();
+		for (Message message : messages) {
+			if (message instanceof AddGroundItemMessage) {
+				items.add(((AddGroundItemMessage) message).getGroundItem());
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Returns the ground items of the {@link RemoveGroundItemMessage}s.
+	 */
+	private static Set<GroundItem> removed(List<Message> messages) {
+		Set<GroundItem> items = new HashSet<>();
+		for (Message message : messages) {
+			if (message instanceof RemoveGroundItemMessage) {
+				items.add(((RemoveGroundItemMessage) message).getGroundItem());
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Counts the messages which are not {@link PositionMessage}s.
+	 */
+	private static int countItemMessages(List<Message> messages) {
+		int count = 0;
+		for (Message message : messages) {
+			if (!(message instanceof PositionMessage)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void testDelta() {
+		GroundItem global = add(POSITION, GroundItem.NO_OWNER);
+		GroundItem owned = add(new Position(3223, 3222), player.getEncodedName());
+		add(new Position(3224, 3222), 1L);
+		add(new Position(3400, 3400), GroundItem.NO_OWNER);
+		add(new Position(3222, 3222, 1), GroundItem.NO_OWNER);
+
+		List<Message> messages = synchronize();
+		assertEquals(new HashSet<>(Arrays.asList(global, owned)), added(messages));
+		assertSame(PositionMessage.class, messages.get(0).getClass());
+		assertEquals(2, countItemMessages(messages));
+
+		manager.remove(global);
+		messages = synchronize();
+		assertEquals(Collections.singleton(global), removed(messages));
+		assertEquals(1, countItemMessages(messages));
+
+		assertTrue(synchronize().isEmpty());
+	}
+
+	@Test
+	public void testFullResend() {
+		GroundItem global = add(POSITION, GroundItem.NO_OWNER);
+		GroundItem owned = add(new Position(3223, 3222), player.getEncodedName());
+		add(new Position(3224, 3222), 1L);
+		manager.drainChanges();
+
+		GroundItem added = add(new Position(3225, 3222), GroundItem.NO_OWNER);
+		player.setRegionChanged(true);
+
+		List<Message> messages = synchronize();
+		Set<GroundItem> items = added(messages);
+		assertEquals(new HashSet<>(Arrays.asList(global, owned, added)), items);
+		assertSame(PositionMessage.class, messages.get(0).getClass());
+		assertEquals(3, countItemMessages(messages));
+	}
+
+	@Test
+	public void testFullResendWithoutChanges() {
+		GroundItem global = add(POSITION, GroundItem.NO_OWNER);
+		manager.drainChanges();
+		assertTrue(synchronize().isEmpty());
+
+		player.setRegionChanged(true);
+		assertEquals(Collections.singleton(global), added(synchronize()));
+	}
+
+}
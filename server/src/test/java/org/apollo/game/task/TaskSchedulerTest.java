@@ -0,0 +1,149 @@
+package org.apollo.game.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public final class TaskSchedulerTest {
+
+	/**
+	 * A task which records the pulses it was executed on.
+	 */
+	private static class RecordingTask extends Task {
+
+		final List<Integer> executions = new ArrayList<>();
+
+		int pulse;
+
+		private RecordingTask(int delay, boolean immediate) {
+			super(delay, immediate);
+		}
+
+		@Override
+		public void execute() {
+			executions.add(pulse);
+		}
+
+	}
+
+	/**
+	 * Pulses the scheduler the specified amount of times, telling each task
+	 * which pulse is being executed.
+	 */
+	private static void pulse(TaskScheduler scheduler, int pulses, RecordingTask... tasks) {
+		for (int pulse = 0; pulse < pulses; pulse++) {
+			for (RecordingTask task : tasks) {
+				task.pulse = pulse;
+			}
+			scheduler.pulse();
+		}
+	}
+
+	@Test
+	public void testImmediate() {
+		TaskScheduler scheduler = new TaskScheduler();
+		RecordingTask task = new RecordingTask(2, true);
+		scheduler.schedule(task);
+
+		pulse(scheduler, 7, task);
+		assertEquals(Arrays.asList(0, 3, 6), task.executions);
+	}
+
+	@Test
+	public void testDelay() {
+		TaskScheduler scheduler = new TaskScheduler();
+		RecordingTask task = new RecordingTask(2, false);
+		scheduler.schedule(task);
+
+		pulse(scheduler, 7, task);
+		assertEquals(Arrays.asList(2, 5), task.executions);
+	}
+
+	@Test
+	public void testDelayBeyondWheel() {
+		TaskScheduler scheduler = new TaskScheduler();
+		RecordingTask task = new RecordingTask(600, false);
+		scheduler.schedule(task);
+
+		pulse(scheduler, 1202, task);
+		assertEquals(Arrays.asList(600, 1201), task.executions);
+	}
+
+	@Test
+	public void testSetDelay() {
+		TaskScheduler scheduler = new TaskScheduler();
+		RecordingTask task = new RecordingTask(0, true) {
+			@Override
+			public void execute() {
+				super.execute();
+				setDelay(3);
+			}
+		};
+		scheduler.schedule(task);
+
+		pulse(scheduler, 9, task);
+		assertEquals(Arrays.asList(0, 4, 8), task.executions);
+	}
+
+	@Test
+	public void testStop() {
+		TaskScheduler scheduler = new TaskScheduler();
+		RecordingTask task = new RecordingTask(0, true) {
+			@Override
+			public void execute() {
+				super.execute();
+				if (executions.size() == 2) {
+					stop();
+				}
+			}
+		};
+		scheduler.schedule(task);
+
+		pulse(scheduler, 5, task);
+		assertEquals(Arrays.asList(0, 1), task.executions);
+		assertEquals(0, scheduler.size());
+	}
+
+	@Test
+	public void testStopWithinPulse() {
+		TaskScheduler scheduler = new TaskScheduler();
+		RecordingTask victim = new RecordingTask(1, false);
+		RecordingTask stopper = new RecordingTask(1, false) {
+			@Override
+			public void execute() {
+				super.execute();
+				victim.stop();
+			}
+		};
+		scheduler.schedule(stopper);
+		scheduler.schedule(victim);
+
+		pulse(scheduler, 4, stopper, victim);
+		assertEquals(Arrays.asList(1, 3), stopper.executions);
+		assertEquals(Collections.emptyList(), victim.executions);
+		assertEquals(1, scheduler.size());
+	}
+
+	@Test
+	public void testFailedTaskDiscarded() {
+		TaskScheduler scheduler = new TaskScheduler();
+		RecordingTask task = new RecordingTask(0, true) {
+			@Override
+			public void execute() {
+				super.execute();
+				throw new IllegalStateException();
+			}
+		};
+		scheduler.schedule(task);
+
+		pulse(scheduler, 3, task);
+		assertEquals(Arrays.asList(0), task.executions);
+		assertEquals(0, scheduler.size());
+	}
+
+}
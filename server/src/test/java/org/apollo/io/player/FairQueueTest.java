@@ -0,0 +1,67 @@
+package org.apollo.io.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public final class FairQueueTest {
+
+	@Test
+	public void testEmpty() {
+		FairQueue<String, Integer> queue = new FairQueue<>();
+		assertTrue(queue.isEmpty());
+		assertEquals(0, queue.size());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void testFirstInFirstOutPerKey() {
+		FairQueue<String, Integer> queue = new FairQueue<>();
+		queue.add("a", 1);
+		queue.add("a", 2);
+		queue.add("a", 3);
+
+		assertEquals(Integer.valueOf(1), queue.poll());
+		assertEquals(Integer.valueOf(2), queue.poll());
+		assertEquals(Integer.valueOf(3), queue.poll());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void testKeysTakeTurns() {
+		FairQueue<String, Integer> queue = new FairQueue<>();
+		for (int i = 0; i < 4; i++) {
+			queue.add("flood", i);
+		}
+		queue.add("b", 10);
+		queue.add("c", 20);
+		assertEquals(6, queue.size());
+
+		assertEquals(Integer.valueOf(0), queue.poll());
+		assertEquals(Integer.valueOf(10), queue.poll());
+		assertEquals(Integer.valueOf(20), queue.poll());
+		assertEquals(Integer.valueOf(1), queue.poll());
+		assertEquals(Integer.valueOf(2), queue.poll());
+		assertEquals(Integer.valueOf(3), queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	public void testKeyRejoinsAtBack() {
+		FairQueue<String, Integer> queue = new FairQueue<>();
+		queue.add("a", 1);
+		queue.add("b", 2);
+
+		assertEquals(Integer.valueOf(1), queue.poll());
+		queue.add("a", 3);
+		queue.add("b", 4);
+
+		assertEquals(Integer.valueOf(2), queue.poll());
+		assertEquals(Integer.valueOf(3), queue.poll());
+		assertEquals(Integer.valueOf(4), queue.poll());
+		assertEquals(0, queue.size());
+	}
+
+}
@@ -0,0 +1,63 @@
+package org.apollo.io.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.game.crypto.BCrypt;
+import org.junit.Test;
+
+public final class PasswordHasherTest {
+
+	/**
+	 * A result which is never returned by the hasher, marking a failure.
+	 */
+	private static final String FAILED = "failed";
+
+	private final PasswordHasher hasher = new PasswordHasher();
+
+	/**
+	 * Submits the specified request and waits for its result.
+	 */
+	private String submit(String password, String hash) throws Exception {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		hasher.submit("127.0.0.1", password, hash, result::complete, () -> result.complete(FAILED));
+		return result.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testVerify() throws Exception {
+		String hash = BCrypt.hashpw("secret", BCrypt.gensalt(4));
+
+		assertEquals(hash, submit("secret", hash));
+		assertNull(submit("wrong", hash));
+	}
+
+	@Test
+	public void testMalformedHashFails() throws Exception {
+		assertEquals(FAILED, submit("secret", ""));
+		assertEquals(FAILED, submit("secret", "plaintext"));
+	}
+
+	@Test
+	public void testFailureKeepsThreads() throws Exception {
+		for (int i = 0; i < Runtime.getRuntime().availableProcessors() * 2; i++) {
+			assertEquals(FAILED, submit("secret", ""));
+		}
+
+		String hash = BCrypt.hashpw("secret", BCrypt.gensalt(4));
+		assertEquals(hash, submit("secret", hash));
+		assertFalse(hasher.getPendingRequests() > 0);
+	}
+
+	@Test
+	public void testGenerate() throws Exception {
+		String hash = submit("secret", null);
+		assertTrue(BCrypt.checkpw("secret", hash));
+	}
+
+}